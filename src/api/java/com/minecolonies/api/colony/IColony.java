@@ -48,6 +48,16 @@ public interface IColony
 
     void onWorldTick(@NotNull TickEvent.LevelTickEvent event);
 
+    /**
+     * Compute phase of the world tick, runs before {@link #onWorldTick(TickEvent.LevelTickEvent)} and in parallel with the compute phase of the other colonies.
+     * Must only read the world and the colony, the results are applied by the following serial tick.
+     *
+     * @param event the world tick event.
+     */
+    default void onWorldTickCompute(@NotNull final TickEvent.LevelTickEvent event)
+    {
+    }
+
     /**
      * Returns the position of the colony.
      *
@@ -480,6 +490,22 @@ public interface IColony
      */
     IStatisticsManager getStatisticsManager();
 
+    /**
+     * Get the entity index of the colony.
+     *
+     * @return the entity index, null on the client side.
+     */
+    @Nullable
+    IColonyEntityIndex getEntityIndex();
+
+    /**
+     * Get the crafting graph of the colony.
+     *
+     * @return the crafting graph, null on the client side.
+     */
+    @Nullable
+    IColonyCraftingGraph getCraftingGraph();
+
     /**
      * Get the current day of the colony.
      * @return the current day progress of the colony.
@@ -269,6 +269,20 @@ public interface IColonyView extends IColony
     @Nullable
     IMessage handleColonyBuildingViewMessage(BlockPos buildingId, @NotNull FriendlyByteBuf buf);
 
+    /**
+     * Add a listener for citizen and building changes, held weakly.
+     *
+     * @param listener the listener.
+     */
+    void addChangeListener(@NotNull IColonyViewChangeListener listener);
+
+    /**
+     * Remove a change listener.
+     *
+     * @param listener the listener.
+     */
+    void removeChangeListener(@NotNull IColonyViewChangeListener listener);
+
     /**
      * Handle the colony view research manager updating.
      * @param compoundTag the tag to update the research manager with.
@@ -0,0 +1,46 @@
+package com.minecolonies.api.colony;
+
+import net.minecraft.core.BlockPos;
+
+/**
+ * Listener for changes of the citizens and buildings of a colony view, lets open windows refresh only the affected entries.
+ * Listeners are held weakly by the colony view, a listener has to be referenced by its owner (e.g. implemented by the window itself).
+ */
+public interface IColonyViewChangeListener
+{
+    /**
+     * Called after a citizen view was added or its data changed.
+     *
+     * @param citizenId the citizen id.
+     */
+    default void onCitizenChanged(final int citizenId)
+    {
+    }
+
+    /**
+     * Called after a citizen view was removed.
+     *
+     * @param citizenId the citizen id.
+     */
+    default void onCitizenRemoved(final int citizenId)
+    {
+    }
+
+    /**
+     * Called after a building view was added or its data changed.
+     *
+     * @param buildingId the building id.
+     */
+    default void onBuildingChanged(final BlockPos buildingId)
+    {
+    }
+
+    /**
+     * Called after a building view was removed.
+     *
+     * @param buildingId the building id.
+     */
+    default void onBuildingRemoved(final BlockPos buildingId)
+    {
+    }
+}
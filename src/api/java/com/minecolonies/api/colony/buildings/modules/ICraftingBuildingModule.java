@@ -135,6 +135,15 @@ public interface ICraftingBuildingModule extends IBuildingModule
      */
     boolean isVisible();
 
+    /**
+     * Check if the module can produce recipes on demand which aren't part of its recipe list (and therefore not part of the colony crafting graph).
+     * @return true if so.
+     */
+    default boolean hasDynamicRecipes()
+    {
+        return false;
+    }
+
     /**
      * Get a list of all recipes of this module.
      * @return the list of recipes.
@@ -83,6 +83,17 @@ public interface IInteractionResponseHandler extends INBTSerializable<CompoundTa
      */
     boolean isValid(final ICitizenData colony);
 
+    /**
+     * Get the delay in ticks until the validity of this handler has to be checked again after it was found valid.
+     * Handlers are also checked again right after a player responded to them.
+     *
+     * @return the delay, 0 to check on every citizen update.
+     */
+    default int getValidationInterval()
+    {
+        return 0;
+    }
+
     /**
      * Server side action triggered on a possible response.
      *
@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.managers.interfaces;
 
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.interactionhandling.IInteractionResponseHandler;
 import com.minecolonies.api.entity.citizen.happiness.IHappinessModifier;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.BlockPos;
@@ -168,6 +169,15 @@ public interface ICitizenManager extends IEntityManager
     @Override
     ICitizenData getCivilian(final int citizenId);
 
+    /**
+     * Schedule the next validity check of an interaction of a citizen.
+     *
+     * @param citizen the citizen owning the interaction.
+     * @param handler the interaction.
+     * @param delay   the delay in ticks.
+     */
+    void scheduleInteractionValidation(final ICitizenData citizen, final IInteractionResponseHandler handler, final int delay);
+
     /**
      * Called in the morning.
      */
@@ -0,0 +1,78 @@
+package com.minecolonies.api.colony.managers.interfaces;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.modules.ICraftingBuildingModule;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Colony wide crafting graph, connects items to the crafting modules which have an enabled recipe producing them, and those recipes to their input items.
+ * Modules report changes of their recipe lists, the graph re-indexes only the changed modules the next time it is queried.
+ */
+public interface IColonyCraftingGraph
+{
+    /**
+     * Called when the recipes of a crafting module were taught, removed, replaced or toggled.
+     *
+     * @param module the changed module.
+     */
+    void onRecipesChanged(@NotNull final ICraftingBuildingModule module);
+
+    /**
+     * Called when a building was removed from the colony, drops all its modules from the graph.
+     *
+     * @param building the removed building.
+     */
+    void onBuildingRemoved(@NotNull final IBuilding building);
+
+    /**
+     * Check if a crafting module has an enabled recipe with an output matching a predicate.
+     *
+     * @param module         the module to check.
+     * @param stackPredicate the output predicate.
+     * @return true if so.
+     */
+    boolean canProduce(@NotNull final ICraftingBuildingModule module, @NotNull final Predicate<ItemStack> stackPredicate);
+
+    /**
+     * Get all crafting modules which have an enabled recipe producing an item.
+     *
+     * @param item the item.
+     * @return the modules, empty if the item can't be crafted in the colony.
+     */
+    Set<ICraftingBuildingModule> getProducers(@NotNull final Item item);
+
+    /**
+     * Find the shortest crafting chain through which an ingredient is required to craft an output.
+     *
+     * @param output     the item to craft.
+     * @param ingredient the ingredient to look for.
+     * @return the items of the chain, starting at the output and ending at the ingredient, empty if the ingredient isn't part of the chain.
+     */
+    List<Item> getShortestChain(@NotNull final Item output, @NotNull final Item ingredient);
+
+    /**
+     * Check if an item is required, directly or through other recipes, to craft itself.
+     *
+     * @param item the item.
+     * @return true if the item is part of a crafting cycle.
+     */
+    boolean isCyclic(@NotNull final Item item);
+
+    /**
+     * Check if the colony has crafting modules which produce recipes on demand, those recipes aren't part of the graph.
+     *
+     * @return true if so, chain and cycle queries may then miss edges.
+     */
+    boolean hasDynamicProducers();
+
+    /**
+     * Clear the graph.
+     */
+    void clear();
+}
@@ -0,0 +1,69 @@
+package com.minecolonies.api.colony.managers.interfaces;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Colony wide index of entities, bucketed by building and entity type.
+ * Buckets are kept up to date from entity join, leave and section change events, so repeated lookups don't have to iterate the entity sections of the world.
+ */
+public interface IColonyEntityIndex
+{
+    /**
+     * Get all entities of a type within a building.
+     *
+     * @param world     the world the building is in.
+     * @param building  the building to check the range for.
+     * @param clazz     the entity class.
+     * @param predicate the predicate to check, or null.
+     * @param <T>       the type of the entity.
+     * @return a list of all entities within the building borders.
+     */
+    <T extends Entity> List<? extends T> getEntitiesWithinBuilding(
+      @NotNull final Level world,
+      @NotNull final IBuilding building,
+      @NotNull final Class<? extends T> clazz,
+      @Nullable final Predicate<? super T> predicate);
+
+    /**
+     * Called when an entity joined the world within the colony.
+     *
+     * @param entity the entity.
+     */
+    void onEntityAdded(@NotNull final Entity entity);
+
+    /**
+     * Called when an entity left the world within the colony.
+     *
+     * @param entity the entity.
+     */
+    void onEntityRemoved(@NotNull final Entity entity);
+
+    /**
+     * Called when an entity moved into another chunk section in or out of the colony.
+     *
+     * @param entity  the entity.
+     * @param section the section the entity is in now.
+     */
+    void onEntitySectionChange(@NotNull final Entity entity, @NotNull final SectionPos section);
+
+    /**
+     * Clean up unused buckets on colony tick.
+     *
+     * @param colony the colony ticking.
+     */
+    void onColonyTick(@NotNull final IColony colony);
+
+    /**
+     * Drop all buckets, they are rebuilt on the next lookup.
+     */
+    void clear();
+}
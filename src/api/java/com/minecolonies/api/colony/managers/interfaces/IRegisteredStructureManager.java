@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.managers.interfaces;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IMysticalSite;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
 import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
@@ -17,6 +18,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -97,6 +99,31 @@ public interface IRegisteredStructureManager
     @Nullable
     BlockPos getFirstBuildingMatching(final Predicate<IBuilding> predicate);
 
+    /**
+     * Get all buildings of a class or implementing an interface, served from an index.
+     *
+     * @param clazz the building class or interface.
+     * @param <T>   the building type.
+     * @return the unmodifiable list of buildings.
+     */
+    <T extends IBuilding> List<T> getBuildingsOfType(@NotNull final Class<T> clazz);
+
+    /**
+     * Get all buildings with a module of a class or implementing an interface, served from an index.
+     *
+     * @param clazz the module class or interface.
+     * @return the unmodifiable list of buildings.
+     */
+    List<IBuilding> getBuildingsWithModule(@NotNull final Class<? extends IBuildingModule> clazz);
+
+    /**
+     * Get all buildings whose position is inside a box, served from a spatial index.
+     *
+     * @param box the box.
+     * @return the buildings.
+     */
+    List<IBuilding> getBuildingsWithin(@NotNull final BoundingBox box);
+
     /**
      * Register a new leisure site.
      *
@@ -83,6 +83,27 @@ public interface IPermissions
      */
     boolean hasPermission(Player player, Action action);
 
+    /**
+     * Returns whether the player with the given UUID has the permission for an action.
+     *
+     * @param id     the UUID of the player.
+     * @param action {@link Action} action.
+     * @return true if has permission, otherwise false.
+     */
+    default boolean hasPermission(@NotNull final UUID id, @NotNull final Action action)
+    {
+        return (getPermissionFlags(id) & action.getFlag()) != 0;
+    }
+
+    /**
+     * Get the permission bitset of a player, all {@link Action} flags the player currently has.
+     * Read from the bitset of the player's rank, so rank, permission and player changes apply right away.
+     *
+     * @param id the UUID of the player.
+     * @return the bitset.
+     */
+    long getPermissionFlags(@NotNull UUID id);
+
     boolean addPlayer(@NotNull String player, Rank rank, Level world);
 
     boolean addPlayer(@NotNull UUID id, String name, Rank rank);
@@ -233,6 +233,7 @@ public class CompatibilityManager implements ICompatibilityManager
     /**
      * Transfer server-discovered item lists to client, to avoid double-handling (and
      * potentially getting different answers).
+     * All lists are written in registry name order, so the same data always encodes to the same bytes and content hash.
      *
      * @param buf serialization buffer
      */
@@ -265,7 +266,40 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         clear();
         discoverAllItems();
+        readDiscoveredLists(buf);
+    }
+
+    @Override
+    public void serializeDiscovery(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeCollection(allItems, (b, stack) -> b.writeNbt(stack.save(new CompoundTag())));
+        serialize(buf);
+    }
+
+    @Override
+    public void deserializeDiscovery(@NotNull final FriendlyByteBuf buf)
+    {
+        clear();
+
+        final List<ItemStack> items = buf.readList(b -> ItemStack.of(b.readNbt()));
+        final ImmutableSet.Builder<ItemStorage> setBuilder = new ImmutableSet.Builder<>();
+        for (final ItemStack stack : items)
+        {
+            setBuilder.add(new ItemStorage(stack, true));
+        }
+        allItems = ImmutableList.copyOf(items);
+        allItemsSet = setBuilder.build();
 
+        readDiscoveredLists(buf);
+    }
+
+    /**
+     * Read the tag and recipe based lists written by {@link #serialize(FriendlyByteBuf)} and recalculate the config based ones.
+     *
+     * @param buf deserialization buffer
+     */
+    private void readDiscoveredLists(@NotNull final FriendlyByteBuf buf)
+    {
         saplings.addAll(deserializeItemStorageList(buf));
         oreBlocks.addAll(deserializeBlockList(buf));
         smeltableOres.addAll(deserializeItemStorageList(buf));
@@ -299,7 +333,23 @@ public class CompatibilityManager implements ICompatibilityManager
     private static void serializeItemStorageList(@NotNull final FriendlyByteBuf buf,
                                                  @NotNull final Collection<ItemStorage> list)
     {
-        buf.writeCollection(list, StandardFactoryController.getInstance()::serialize);
+        buf.writeCollection(sortByRegistryName(list), StandardFactoryController.getInstance()::serialize);
+    }
+
+    /**
+     * Sort item storages by registry name, tag and damage, for a stable encoding of unordered sets.
+     *
+     * @param storages the storages.
+     * @return the sorted list.
+     */
+    @NotNull
+    private static List<ItemStorage> sortByRegistryName(@NotNull final Collection<ItemStorage> storages)
+    {
+        return storages.stream()
+                 .sorted(Comparator.comparing((ItemStorage storage) -> String.valueOf(ForgeRegistries.ITEMS.getKey(storage.getItem())))
+                           .thenComparing(storage -> String.valueOf(storage.getItemStack().getTag()))
+                           .thenComparingInt(ItemStorage::getDamageValue))
+                 .toList();
     }
 
     @NotNull
@@ -311,7 +361,10 @@ public class CompatibilityManager implements ICompatibilityManager
     private static void serializeBlockList(@NotNull final FriendlyByteBuf buf,
                                            @NotNull final Collection<Block> list)
     {
-        buf.writeCollection(list.stream().map(ItemStack::new).toList(), FriendlyByteBuf::writeItem);
+        buf.writeCollection(list.stream()
+                              .sorted(Comparator.comparing(block -> String.valueOf(ForgeRegistries.BLOCKS.getKey(block))))
+                              .map(ItemStack::new)
+                              .toList(), FriendlyByteBuf::writeItem);
     }
 
     @NotNull
@@ -328,7 +381,7 @@ public class CompatibilityManager implements ICompatibilityManager
                                              @NotNull final IForgeRegistry<?> registry,
                                              @NotNull final Collection<ResourceLocation> ids)
     {
-        buf.writeCollection(ids, (b, id) -> b.writeRegistryIdUnsafe(registry, id));
+        buf.writeCollection(ids.stream().sorted().toList(), (b, id) -> b.writeRegistryIdUnsafe(registry, id));
     }
 
     @NotNull
@@ -344,7 +397,11 @@ public class CompatibilityManager implements ICompatibilityManager
     private static void serializeCompostRecipes(@NotNull final FriendlyByteBuf buf,
                                                 @NotNull final Map<Item, CompostRecipe> compostRecipes)
     {
-        final List<CompostRecipe> recipes = compostRecipes.values().stream().distinct().toList();
+        final List<CompostRecipe> recipes = compostRecipes.entrySet().stream()
+                                              .sorted(Comparator.comparing(entry -> String.valueOf(ForgeRegistries.ITEMS.getKey(entry.getKey()))))
+                                              .map(Map.Entry::getValue)
+                                              .distinct()
+                                              .toList();
         buf.writeCollection(recipes, ModRecipeSerializer.CompostRecipeSerializer.get()::toNetwork);
     }
 
@@ -51,6 +51,20 @@ public interface ICompatibilityManager
      */
     void deserialize(@NotNull final FriendlyByteBuf buf);
 
+    /**
+     * Write the complete result of the last {@link #discover(RecipeManager)}, including the list of all items, for the discovery cache.
+     *
+     * @param buf serialization buffer
+     */
+    void serializeDiscovery(@NotNull final FriendlyByteBuf buf);
+
+    /**
+     * Restore the result of an earlier {@link #discover(RecipeManager)} with identical registries, tags and recipes from the discovery cache.
+     *
+     * @param buf deserialization buffer
+     */
+    void deserializeDiscovery(@NotNull final FriendlyByteBuf buf);
+
     /**
      * Gets the sapling matching a leave.
      *
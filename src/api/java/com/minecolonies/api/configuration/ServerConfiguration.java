@@ -144,6 +144,14 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.BooleanValue creativeResolve;
     public final ForgeConfigSpec.BooleanValue canPlayerUseResetCommand;
 
+    /*  ------------------------------------------------------------------------------ *
+     *  ------------------- ######## Performance Settings ######## ------------------- *
+     *  ------------------------------------------------------------------------------ */
+
+    public final ForgeConfigSpec.BooleanValue parallelColonyTicks;
+    public final ForgeConfigSpec.IntValue     citizenDetailRange;
+    public final ForgeConfigSpec.IntValue     builderPlacementsPerStep;
+
     /**
      * Builds server configuration.
      *
@@ -308,6 +316,12 @@ public class ServerConfiguration extends AbstractConfiguration
         creativeResolve = defineBoolean(builder, "creativeresolve", false);
         canPlayerUseResetCommand = defineBoolean(builder, "canplayeruseresetcommand", false);
 
+        swapToCategory(builder, "performance");
+
+        parallelColonyTicks = defineBoolean(builder, "parallelcolonyticks", false);
+        citizenDetailRange = defineInteger(builder, "citizendetailrange", 0, 0, 512);
+        builderPlacementsPerStep = defineInteger(builder, "builderplacementsperstep", 4, 1, 64);
+
         finishCategory(builder);
     }
 }
@@ -0,0 +1,293 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.items.CheckedNbtKey;
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Interned, immutable key of an item variant for hash maps.
+ * Unlike {@link ItemStorage}, whose hash only covers the item because storages with different comparison modes may equal each other, a key has one fixed mode
+ * and its hash covers everything the mode compares: the item, the damage if matched and the nbt if matched (only the checked keys for items with registered nbt keys).
+ * Keys are interned, so equal keys are the same instance and map lookups of different nbt variants of the same item don't end up comparing the nbt of each variant.
+ */
+public final class ItemKey
+{
+    /**
+     * The interned keys, weak so variants which are not referenced anymore are dropped.
+     */
+    private static final Map<ItemKey, WeakReference<ItemKey>> interned = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The key of all empty stacks.
+     */
+    public static final ItemKey EMPTY = new ItemKey(ItemStack.EMPTY, false, false, 0);
+
+    /**
+     * The representative stack of the key, never modified.
+     */
+    private final ItemStack stack;
+
+    /**
+     * If the damage is part of the key.
+     */
+    private final boolean matchDamage;
+
+    /**
+     * If the nbt is part of the key.
+     */
+    private final boolean matchNBT;
+
+    /**
+     * The precomputed hash.
+     */
+    private final int hash;
+
+    /**
+     * Create a new key.
+     *
+     * @param stack       the representative stack.
+     * @param matchDamage if the damage is part of the key.
+     * @param matchNBT    if the nbt is part of the key.
+     * @param hash        the hash of the key.
+     */
+    private ItemKey(final ItemStack stack, final boolean matchDamage, final boolean matchNBT, final int hash)
+    {
+        this.stack = stack;
+        this.matchDamage = matchDamage;
+        this.matchNBT = matchNBT;
+        this.hash = hash;
+    }
+
+    /**
+     * Get the exact key of a stack, matching damage and nbt.
+     *
+     * @param stack the stack.
+     * @return the interned key.
+     */
+    public static ItemKey of(@NotNull final ItemStack stack)
+    {
+        return of(stack, true, true);
+    }
+
+    /**
+     * Get the key of a storage, using the comparison mode of the storage.
+     *
+     * @param storage the storage.
+     * @return the interned key.
+     */
+    public static ItemKey of(@NotNull final ItemStorage storage)
+    {
+        return of(storage.getItemStack(), !storage.ignoreDamageValue(), !storage.ignoreNBT());
+    }
+
+    /**
+     * Get the key of a stack.
+     *
+     * @param stack       the stack.
+     * @param matchDamage if the damage is part of the key.
+     * @param matchNBT    if the nbt is part of the key.
+     * @return the interned key.
+     */
+    public static ItemKey of(@NotNull final ItemStack stack, final boolean matchDamage, final boolean matchNBT)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return EMPTY;
+        }
+
+        final int hash = hash(stack, matchDamage, matchNBT);
+        final ItemKey probe = new ItemKey(stack, matchDamage, matchNBT, hash);
+        synchronized (interned)
+        {
+            final WeakReference<ItemKey> reference = interned.get(probe);
+            final ItemKey existing = reference == null ? null : reference.get();
+            if (existing != null)
+            {
+                return existing;
+            }
+
+            final ItemStack copy = stack.copy();
+            copy.setCount(1);
+            final ItemKey key = new ItemKey(copy, matchDamage, matchNBT, hash);
+            interned.put(key, new WeakReference<>(key));
+            return key;
+        }
+    }
+
+    /**
+     * Drop all interned keys, has to be called whenever the checked nbt keys are reloaded.
+     * Keys created before keep working for comparisons, but maps holding them should be rebuilt.
+     */
+    public static void clearCache()
+    {
+        interned.clear();
+    }
+
+    /**
+     * Get the item of the key.
+     *
+     * @return the item.
+     */
+    public Item getItem()
+    {
+        return stack.getItem();
+    }
+
+    /**
+     * Get the representative stack of the key, with a count of one. Must not be modified.
+     *
+     * @return the stack.
+     */
+    public ItemStack getItemStack()
+    {
+        return stack;
+    }
+
+    /**
+     * Check if the damage is part of the key.
+     *
+     * @return true if so.
+     */
+    public boolean matchesDamage()
+    {
+        return matchDamage;
+    }
+
+    /**
+     * Check if the nbt is part of the key.
+     *
+     * @return true if so.
+     */
+    public boolean matchesNBT()
+    {
+        return matchNBT;
+    }
+
+    /**
+     * Check if a stack matches this key, ignoring its size.
+     *
+     * @param other the stack.
+     * @return true if it matches.
+     */
+    public boolean matches(@NotNull final ItemStack other)
+    {
+        return ItemStackUtils.compareItemStacksIgnoreStackSize(stack, other, matchDamage, matchNBT);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ItemKey))
+        {
+            return false;
+        }
+
+        final ItemKey that = (ItemKey) o;
+        return hash == that.hash
+                 && matchDamage == that.matchDamage
+                 && matchNBT == that.matchNBT
+                 && ItemStackUtils.compareItemStacksIgnoreStackSize(stack, that.stack, matchDamage, matchNBT);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ItemKey{" + stack + (matchDamage ? "" : ", any damage") + (matchNBT ? "" : ", any nbt") + "}";
+    }
+
+    /**
+     * Calculate the hash of a stack, consistent with {@link ItemStackUtils#compareItemStacksIgnoreStackSize(ItemStack, ItemStack, boolean, boolean)}.
+     *
+     * @param stack       the stack.
+     * @param matchDamage if the damage is compared.
+     * @param matchNBT    if the nbt is compared.
+     * @return the hash.
+     */
+    private static int hash(final ItemStack stack, final boolean matchDamage, final boolean matchNBT)
+    {
+        int hash = stack.getItem().hashCode();
+        hash = 31 * hash + (matchDamage ? stack.getDamageValue() : -1);
+        hash = 31 * hash + (matchNBT ? hashTag(stack.getItem(), stack.getTag()) : -1);
+        return 31 * hash + (matchDamage ? 2 : 0) + (matchNBT ? 1 : 0);
+    }
+
+    /**
+     * Calculate the hash of the compared part of the nbt of a stack.
+     *
+     * @param item the item.
+     * @param tag  the nbt.
+     * @return the hash.
+     */
+    private static int hashTag(final Item item, @Nullable final CompoundTag tag)
+    {
+        // the comparison treats an empty tag like no tag (ItemStack#hasTag), so both have to hash alike.
+        if (tag == null || tag.isEmpty())
+        {
+            return 0;
+        }
+
+        final Set<CheckedNbtKey> checkedKeys = ItemStackUtils.CHECKED_NBT_KEYS.get(item);
+        if (checkedKeys == null)
+        {
+            return tag.hashCode();
+        }
+
+        if (checkedKeys.isEmpty())
+        {
+            return 0;
+        }
+
+        return 1 + hashCheckedKeys(checkedKeys, tag);
+    }
+
+    /**
+     * Calculate the order independent hash of the checked keys of a compound.
+     *
+     * @param checkedKeys the checked keys.
+     * @param compound    the compound.
+     * @return the hash.
+     */
+    private static int hashCheckedKeys(final Set<CheckedNbtKey> checkedKeys, final CompoundTag compound)
+    {
+        int hash = 0;
+        for (final CheckedNbtKey checkedKey : checkedKeys)
+        {
+            final Tag tag = compound.get(checkedKey.key);
+            if (tag == null)
+            {
+                continue;
+            }
+
+            if (checkedKey.children.isEmpty() || !(tag instanceof CompoundTag))
+            {
+                hash += checkedKey.key.hashCode() ^ tag.hashCode();
+            }
+            else
+            {
+                hash += checkedKey.key.hashCode() ^ hashCheckedKeys(checkedKey.children, (CompoundTag) tag);
+            }
+        }
+        return hash;
+    }
+}
@@ -12,6 +12,16 @@ public interface ITickingStateAI
      */
     public void tick();
 
+    /**
+     * Ticks the ai once for multiple ticks which passed, used when the ai is updated at a reduced rate.
+     *
+     * @param elapsedTicks the ticks which passed since the last tick.
+     */
+    default void tick(final int elapsedTicks)
+    {
+        tick();
+    }
+
     /**
      * Called when the AI get removed
      */
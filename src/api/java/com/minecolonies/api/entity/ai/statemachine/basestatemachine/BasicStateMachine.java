@@ -1,17 +1,17 @@
 package com.minecolonies.api.entity.ai.statemachine.basestatemachine;
 
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.ai.statemachine.states.IStateEventType;
 import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineEvent;
 import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineOneTimeEvent;
 import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineTransition;
 import com.minecolonies.api.util.Log;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Consumer;
 
 /**
@@ -51,6 +51,23 @@ public class BasicStateMachine<T extends IStateMachineTransition<S>, S extends I
     @NotNull
     private final Consumer<RuntimeException> exceptionHandler;
 
+    /**
+     * The colony and owner transitions are profiled under, null if this statemachine is never profiled.
+     */
+    private IColony profilingColony = null;
+    private String  profilingOwner  = null;
+
+    /**
+     * Profiler generation the cached profiling state belongs to.
+     */
+    private int profilingGeneration = -1;
+
+    /**
+     * Whether the colony is profiled right now, and the stats of the transitions seen so far.
+     */
+    private       boolean                                    profilingActive     = false;
+    private final Map<T, StateMachineProfiler.TransitionStats> profiledTransitions = new IdentityHashMap<>();
+
     /**
      * Construct a new StateMachine
      *
@@ -132,6 +149,27 @@ public class BasicStateMachine<T extends IStateMachineTransition<S>, S extends I
      * @return true if this target worked and we should stop executing this tick
      */
     public boolean checkTransition(@NotNull final T transition)
+    {
+        final StateMachineProfiler.TransitionStats stats = getProfilingStats(transition);
+        if (stats == null)
+        {
+            return checkAndTransition(transition);
+        }
+
+        final S previousState = state;
+        final long start = System.nanoTime();
+        final boolean result = checkAndTransition(transition);
+        stats.record(System.nanoTime() - start, state != previousState);
+        return result;
+    }
+
+    /**
+     * Check the condition of a transition and apply it.
+     *
+     * @param transition the target to check
+     * @return true if this target worked and we should stop executing this tick
+     */
+    private boolean checkAndTransition(@NotNull final T transition)
     {
         try
         {
@@ -195,6 +233,70 @@ public class BasicStateMachine<T extends IStateMachineTransition<S>, S extends I
         return false;
     }
 
+    @Override
+    public void setProfilingOwner(@NotNull final IColony colony, @NotNull final String owner)
+    {
+        this.profilingColony = colony;
+        this.profilingOwner = owner;
+        this.profilingGeneration = -1;
+    }
+
+    /**
+     * Get the profiling stats of a transition.
+     *
+     * @param transition the transition.
+     * @return the stats or null if not profiled right now.
+     */
+    private StateMachineProfiler.TransitionStats getProfilingStats(@NotNull final T transition)
+    {
+        if (profilingOwner == null)
+        {
+            return null;
+        }
+
+        final int generation = StateMachineProfiler.getGeneration();
+        if (profilingGeneration != generation)
+        {
+            profilingGeneration = generation;
+            final ResourceKey<Level> dimension = profilingColony.getDimension();
+            profilingActive = dimension != null && StateMachineProfiler.isProfiling(dimension, profilingColony.getID());
+            profiledTransitions.clear();
+        }
+
+        if (!profilingActive)
+        {
+            return null;
+        }
+
+        StateMachineProfiler.TransitionStats stats = profiledTransitions.get(transition);
+        if (stats == null)
+        {
+            stats = StateMachineProfiler.getStats(profilingColony.getDimension(), profilingColony.getID(), profilingOwner, getTransitionLabel(transition));
+            if (stats == null)
+            {
+                return null;
+            }
+            profiledTransitions.put(transition, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Get the profiling label of a transition, its state or event type and its registration index.
+     *
+     * @param transition the transition.
+     * @return the label.
+     */
+    private String getTransitionLabel(@NotNull final T transition)
+    {
+        if (transition instanceof IStateMachineEvent)
+        {
+            final IStateEventType type = ((IStateMachineEvent<?>) transition).getEventType();
+            return type + "#" + eventTransitionMap.getOrDefault(type, Collections.emptyList()).indexOf(transition);
+        }
+        return transition.getState() + "#" + transitionMap.getOrDefault(transition.getState(), Collections.emptyList()).indexOf(transition);
+    }
+
     /**
      * Handle an exception higher up.
      *
@@ -1,5 +1,6 @@
 package com.minecolonies.api.entity.ai.statemachine.basestatemachine;
 
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineTransition;
 import org.jetbrains.annotations.NotNull;
@@ -58,4 +59,12 @@ public interface IStateMachine<T extends IStateMachineTransition<S>, S extends I
      * Reset the statemachine to the start
      */
     void reset();
+
+    /**
+     * Set the owner the transitions of this statemachine are recorded under when its colony is profiled.
+     *
+     * @param colony the colony, its dimension and id are resolved when profiling starts.
+     * @param owner  the owner, e.g. the job type.
+     */
+    void setProfilingOwner(@NotNull final IColony colony, @NotNull final String owner);
 }
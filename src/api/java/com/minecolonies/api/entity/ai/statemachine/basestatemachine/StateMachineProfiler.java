@@ -0,0 +1,288 @@
+package com.minecolonies.api.entity.ai.statemachine.basestatemachine;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in profiler for statemachine transitions.
+ * Records per colony, identified by its dimension and id, per owner (e.g. the job type) and transition how often the transition was evaluated, how long it took and how often it changed the state.
+ */
+public final class StateMachineProfiler
+{
+    /**
+     * The profiles by dimension and colony id, colony ids are only unique per dimension.
+     */
+    private static final Map<ResourceKey<Level>, Map<Integer, Profile>> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Increased whenever profiling is started or stopped, statemachines refresh their cached profiling state on change.
+     */
+    private static volatile int generation = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private StateMachineProfiler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start a new profile for a colony, drops the previous profile of the colony.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     */
+    public static void start(@NotNull final ResourceKey<Level> dimension, final int colonyId)
+    {
+        profiles.computeIfAbsent(dimension, key -> new ConcurrentHashMap<>()).put(colonyId, new Profile());
+        generation++;
+    }
+
+    /**
+     * Stop profiling a colony, the recorded profile is kept until the next start.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     */
+    public static void stop(@NotNull final ResourceKey<Level> dimension, final int colonyId)
+    {
+        final Profile profile = getProfile(dimension, colonyId);
+        if (profile != null)
+        {
+            profile.stop();
+        }
+        generation++;
+    }
+
+    /**
+     * Drop the profile of a colony, e.g. when the colony is deleted.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     */
+    public static void remove(@NotNull final ResourceKey<Level> dimension, final int colonyId)
+    {
+        final Map<Integer, Profile> dimensionProfiles = profiles.get(dimension);
+        if (dimensionProfiles != null && dimensionProfiles.remove(colonyId) != null)
+        {
+            generation++;
+        }
+    }
+
+    /**
+     * Drop all profiles, called when the server stops.
+     */
+    public static void clear()
+    {
+        profiles.clear();
+        generation++;
+    }
+
+    /**
+     * Check if a colony is being profiled.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     * @return true if so.
+     */
+    public static boolean isProfiling(@NotNull final ResourceKey<Level> dimension, final int colonyId)
+    {
+        final Profile profile = getProfile(dimension, colonyId);
+        return profile != null && profile.isRunning();
+    }
+
+    /**
+     * Get the profile of a colony.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     * @return the profile or null if the colony was never profiled.
+     */
+    @Nullable
+    public static Profile getProfile(@NotNull final ResourceKey<Level> dimension, final int colonyId)
+    {
+        final Map<Integer, Profile> dimensionProfiles = profiles.get(dimension);
+        return dimensionProfiles == null ? null : dimensionProfiles.get(colonyId);
+    }
+
+    /**
+     * Get the current profiling generation.
+     *
+     * @return the generation.
+     */
+    static int getGeneration()
+    {
+        return generation;
+    }
+
+    /**
+     * Get the stats entry for a transition of a running profile.
+     *
+     * @param dimension  the dimension of the colony.
+     * @param colonyId   the colony id.
+     * @param owner      the owner of the statemachine.
+     * @param transition the transition label.
+     * @return the stats or null if the colony isn't profiled.
+     */
+    @Nullable
+    static TransitionStats getStats(@NotNull final ResourceKey<Level> dimension, final int colonyId, @NotNull final String owner, @NotNull final String transition)
+    {
+        final Profile profile = getProfile(dimension, colonyId);
+        if (profile == null || !profile.isRunning())
+        {
+            return null;
+        }
+        return profile.stats.computeIfAbsent(owner + "|" + transition, key -> new TransitionStats(owner, transition));
+    }
+
+    /**
+     * The profile of a colony.
+     */
+    public static class Profile
+    {
+        /**
+         * The stats by owner and transition.
+         */
+        private final Map<String, TransitionStats> stats = new ConcurrentHashMap<>();
+
+        /**
+         * Start and end time of the profile in nanoseconds, end is 0 while running.
+         */
+        private final long startNanos = System.nanoTime();
+        private long endNanos = 0;
+
+        /**
+         * Stop the profile.
+         */
+        private void stop()
+        {
+            if (endNanos == 0)
+            {
+                endNanos = System.nanoTime();
+            }
+        }
+
+        /**
+         * Check if the profile is still recording.
+         *
+         * @return true if so.
+         */
+        public boolean isRunning()
+        {
+            return endNanos == 0;
+        }
+
+        /**
+         * Get the duration of the profile.
+         *
+         * @return the duration in nanoseconds.
+         */
+        public long getDurationNanos()
+        {
+            return (endNanos == 0 ? System.nanoTime() : endNanos) - startNanos;
+        }
+
+        /**
+         * Get a copy of all recorded stats.
+         *
+         * @return the stats.
+         */
+        public List<TransitionStats> getStats()
+        {
+            return new ArrayList<>(stats.values());
+        }
+    }
+
+    /**
+     * Stats of one transition, shared by all statemachines of the same owner in a colony.
+     */
+    public static class TransitionStats
+    {
+        /**
+         * The owner of the statemachine, e.g. the job type.
+         */
+        private final String owner;
+
+        /**
+         * The transition label, the state or event type and the registration index of the transition.
+         */
+        private final String transition;
+
+        /**
+         * The recorded values.
+         */
+        private long invocations  = 0;
+        private long totalNanos   = 0;
+        private long maxNanos     = 0;
+        private long stateChanges = 0;
+
+        /**
+         * Create a new stats entry.
+         *
+         * @param owner      the owner.
+         * @param transition the transition label.
+         */
+        private TransitionStats(final String owner, final String transition)
+        {
+            this.owner = owner;
+            this.transition = transition;
+        }
+
+        /**
+         * Record one evaluation of the transition.
+         *
+         * @param nanos        the time it took.
+         * @param stateChanged whether it changed the state.
+         */
+        void record(final long nanos, final boolean stateChanged)
+        {
+            invocations++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (stateChanged)
+            {
+                stateChanges++;
+            }
+        }
+
+        public String getOwner()
+        {
+            return owner;
+        }
+
+        public String getTransition()
+        {
+            return transition;
+        }
+
+        public long getInvocations()
+        {
+            return invocations;
+        }
+
+        public long getTotalNanos()
+        {
+            return totalNanos;
+        }
+
+        public long getMaxNanos()
+        {
+            return maxNanos;
+        }
+
+        public long getStateChanges()
+        {
+            return stateChanges;
+        }
+    }
+}
@@ -12,6 +12,20 @@ public interface ITickRateStateMachine<S extends IState> extends IStateMachine<I
     @Override
     void tick();
 
+    /**
+     * Tick the statemachine once for multiple ticks which passed, transitions count down all of them.
+     *
+     * @param elapsedTicks the ticks which passed since the last tick.
+     */
+    void tick(int elapsedTicks);
+
+    /**
+     * Get the ticks which passed for the current tick.
+     *
+     * @return the elapsed ticks, 1 unless ticked at a reduced rate.
+     */
+    int getElapsedTicks();
+
     /**
      * Check the condition for a transition
      *
@@ -27,6 +27,22 @@ public interface ITickingTransition<S extends IState> extends IStateMachineTrans
      */
     int countdownTicksToUpdate();
 
+    /**
+     * Count down the ticks until the next update by multiple ticks at once.
+     *
+     * @param ticks the ticks which passed.
+     * @return the remaining ticks.
+     */
+    default int countdownTicksToUpdate(final int ticks)
+    {
+        int remaining = countdownTicksToUpdate();
+        for (int i = 1; i < ticks; i++)
+        {
+            remaining = countdownTicksToUpdate();
+        }
+        return remaining;
+    }
+
     /**
      * Sets the ticks until next update
      *
@@ -0,0 +1,62 @@
+package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
+
+import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Ticking transition which aligns its updates to a phase assigned by the {@link TickPhaseScheduler}.
+ * Each delay set after an update is extended to the next tick of the assigned phase, so after a re-balance the transition moves to its new phase on its next update.
+ */
+public class PhasedTickingTransition<S extends IState> extends TickingTransition<S>
+{
+    /**
+     * The phase slot of this transition.
+     */
+    private final TickPhaseScheduler.Slot slot;
+
+    /**
+     * Supplier of the current game time.
+     */
+    private final LongSupplier gameTime;
+
+    /**
+     * Create a new phased transition with tickrate, the slot still has to be registered at the scheduler.
+     *
+     * @param state     State to apply the transition in
+     * @param condition Condition checked before going to the next state
+     * @param nextState The next state this transition leads into
+     * @param tickRate  The expected tickrate at which this transition should be checked.
+     * @param gameTime  Supplier of the current game time.
+     */
+    public PhasedTickingTransition(
+      @NotNull final S state,
+      @NotNull final BooleanSupplier condition,
+      @NotNull final Supplier<S> nextState,
+      final int tickRate,
+      @NotNull final LongSupplier gameTime)
+    {
+        super(state, condition, nextState, tickRate);
+        this.slot = new TickPhaseScheduler.Slot(getTickRate());
+        this.gameTime = gameTime;
+    }
+
+    /**
+     * Get the phase slot of this transition.
+     *
+     * @return the slot.
+     */
+    public TickPhaseScheduler.Slot getSlot()
+    {
+        return slot;
+    }
+
+    @Override
+    public void setTicksToUpdate(final int ticksToUpdate)
+    {
+        super.setTicksToUpdate(ticksToUpdate + slot.ticksUntilPhase(gameTime.getAsLong() + ticksToUpdate));
+    }
+}
@@ -0,0 +1,153 @@
+package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Global assignment of tick phases for periodic work.
+ * All registered slots with the same interval are spread evenly over the ticks of that interval, slots are re-balanced whenever one is registered or released.
+ * Groups of different intervals are additionally offset against each other, so e.g. a 20 and a 100 tick group don't share their first tick.
+ */
+public final class TickPhaseScheduler
+{
+    /**
+     * The registered slots by interval.
+     */
+    private static final Map<Integer, List<Slot>> groups = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private TickPhaseScheduler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Register a slot, re-balances all slots of its interval.
+     *
+     * @param slot the slot.
+     */
+    public static synchronized void register(@NotNull final Slot slot)
+    {
+        final List<Slot> group = groups.computeIfAbsent(slot.interval, interval -> new ArrayList<>());
+        if (!group.contains(slot))
+        {
+            group.add(slot);
+            rebalance(slot.interval, group);
+        }
+    }
+
+    /**
+     * Release a slot, re-balances the remaining slots of its interval.
+     *
+     * @param slot the slot.
+     */
+    public static synchronized void release(@NotNull final Slot slot)
+    {
+        final List<Slot> group = groups.get(slot.interval);
+        if (group != null && group.remove(slot))
+        {
+            if (group.isEmpty())
+            {
+                groups.remove(slot.interval);
+            }
+            else
+            {
+                rebalance(slot.interval, group);
+            }
+        }
+    }
+
+    /**
+     * Get the amount of registered slots of an interval.
+     *
+     * @param interval the interval.
+     * @return the amount of slots.
+     */
+    public static synchronized int getSlotCount(final int interval)
+    {
+        final List<Slot> group = groups.get(interval);
+        return group == null ? 0 : group.size();
+    }
+
+    /**
+     * Spread the slots of a group evenly over the interval.
+     *
+     * @param interval the interval.
+     * @param group    the slots.
+     */
+    private static void rebalance(final int interval, final List<Slot> group)
+    {
+        int hash = interval * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        final int groupOffset = Math.floorMod(hash, interval);
+        for (int i = 0; i < group.size(); i++)
+        {
+            group.get(i).phase = (int) ((groupOffset + (long) i * interval / group.size()) % interval);
+        }
+    }
+
+    /**
+     * A slot of periodic work, e.g. one periodic transition of a colony.
+     */
+    public static class Slot
+    {
+        /**
+         * The interval in ticks.
+         */
+        private final int interval;
+
+        /**
+         * The assigned phase, the work should run on ticks where gameTime % interval == phase.
+         */
+        private volatile int phase = 0;
+
+        /**
+         * Create a new unregistered slot.
+         *
+         * @param interval the interval in ticks.
+         */
+        public Slot(final int interval)
+        {
+            this.interval = Math.max(1, interval);
+        }
+
+        /**
+         * Get the interval of the slot.
+         *
+         * @return the interval in ticks.
+         */
+        public int getInterval()
+        {
+            return interval;
+        }
+
+        /**
+         * Get the assigned phase of the slot.
+         *
+         * @return the phase within the interval.
+         */
+        public int getPhase()
+        {
+            return phase;
+        }
+
+        /**
+         * Calculate the ticks from a game time until the next tick of this slot's phase.
+         *
+         * @param gameTime the game time.
+         * @return the ticks until the phase, 0 if the game time is on the phase.
+         */
+        public int ticksUntilPhase(final long gameTime)
+        {
+            return (int) Math.floorMod(phase - gameTime, (long) interval);
+        }
+    }
+}
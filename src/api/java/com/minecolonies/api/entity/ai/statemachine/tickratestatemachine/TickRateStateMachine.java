@@ -36,6 +36,11 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
      */
     private int tickRateCounter = 0;
 
+    /**
+     * Ticks which passed for the current tick.
+     */
+    private int elapsedTicks = 1;
+
     /**
      * Currently used transition
      */
@@ -73,9 +78,16 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     @Override
     public void tick()
     {
-        if (tickRateCounter > 1)
+        tick(1);
+    }
+
+    @Override
+    public void tick(final int elapsedTicks)
+    {
+        this.elapsedTicks = elapsedTicks;
+        if (tickRateCounter > elapsedTicks)
         {
-            tickRateCounter--;
+            tickRateCounter -= elapsedTicks;
             return;
         }
         tickRateCounter = tickRate;
@@ -123,7 +135,7 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     public boolean checkTransition(@NotNull final ITickingTransition<S> transition)
     {
         // Check if the target should be run this Tick
-        if (transition.countdownTicksToUpdate() > 0)
+        if (transition.countdownTicksToUpdate(elapsedTicks) > 0)
         {
             return false;
         }
@@ -133,6 +145,12 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         return super.checkTransition(transition);
     }
 
+    @Override
+    public int getElapsedTicks()
+    {
+        return elapsedTicks;
+    }
+
     @Override
     public int getTickRate()
     {
@@ -123,6 +123,13 @@ public class TickingTransition<S extends IState> extends BasicTransition<S> impl
         return --ticksToUpdate;
     }
 
+    @Override
+    public int countdownTicksToUpdate(final int ticks)
+    {
+        ticksToUpdate -= ticks;
+        return ticksToUpdate;
+    }
+
     @Override
     public void setTicksToUpdate(final int ticksToUpdate)
     {
@@ -159,7 +159,7 @@ public class ContainerRack extends AbstractContainerMenu
 
         if (!ItemStack.matches(currentStack, afterStack))
         {
-            this.updateRacks(afterStack);
+            this.updateRacks();
         }
     }
 
@@ -202,7 +202,7 @@ public class ContainerRack extends AbstractContainerMenu
 
         if (playerIn instanceof ServerPlayer)
         {
-            this.updateRacks(stackCopy);
+            this.updateRacks();
         }
 
         return stackCopy;
@@ -211,27 +211,23 @@ public class ContainerRack extends AbstractContainerMenu
     @Override
     protected boolean moveItemStackTo(final ItemStack stack, final int startIndex, final int endIndex, final boolean reverseDirection)
     {
-        final ItemStack before = stack.copy();
         final boolean merge =  super.moveItemStackTo(stack, startIndex, endIndex, reverseDirection);
         if (merge)
         {
-            this.updateRacks(before);
+            this.updateRacks();
         }
         return merge;
     }
 
     /**
-     * Update the racks (combined inv and warehouse).
-     * @param stack the stack to set.
+     * Update the racks (combined inv and warehouse), the racks notify the warehouse of the added items themselves.
      */
-    private void updateRacks(final ItemStack stack)
+    private void updateRacks()
     {
         rack.updateItemStorage();
-        rack.updateWarehouseIfAvailable(stack);
         if (neighborRack != null)
         {
             neighborRack.updateItemStorage();
-            neighborRack.updateWarehouseIfAvailable(stack);
         }
     }
 
@@ -39,6 +39,12 @@ public interface IQuestManager extends INBTSerializable<CompoundTag>
      */
     void onColonyTick();
 
+    /**
+     * Called when colony state quest triggers might depend on changed, like a citizen being added or a building being upgraded.
+     * Quest triggers are only evaluated again after such a change.
+     */
+    void onTriggerInputChanged();
+
     /**
      * Deactivate a given quest.
      * @param questID the id of the quest.
@@ -65,4 +65,10 @@ public interface IQuestTemplate
      * @return the list of parent quests.
      */
     List<ResourceLocation> getParents();
+
+    /**
+     * Check if any trigger of the quest is chance based, such quests are evaluated on every colony tick.
+     * @return true if so.
+     */
+    boolean isChanceBased();
 }
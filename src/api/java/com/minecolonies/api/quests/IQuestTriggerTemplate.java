@@ -31,6 +31,15 @@ public interface IQuestTriggerTemplate
         return canTriggerQuest(colony);
     }
 
+    /**
+     * Check if the trigger is chance based and might fire on any evaluation, even if nothing in the colony changed.
+     * @return true if so.
+     */
+    default boolean isChanceBased()
+    {
+        return false;
+    }
+
     /**
      * Match a nbt tag and a json element tag.
      * @param nbtTag the nbt tag to check.
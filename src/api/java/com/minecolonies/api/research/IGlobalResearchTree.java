@@ -167,4 +167,10 @@ public interface IGlobalResearchTree
      *                      all players should be updated on a data pack reload.
      */
     void sendGlobalResearchTreePackets(final ServerPlayer player);
+
+    /**
+     * Serialize the Global Research Tree into a buffer, in the format read by {@link #handleGlobalResearchTreeMessage(FriendlyByteBuf)}.
+     * @param buf the buffer to write to.
+     */
+    void serializeNetworkData(final FriendlyByteBuf buf);
 }
@@ -76,7 +76,7 @@ public abstract class AbstractTileEntityRack extends BlockEntity implements Menu
         @Override
         protected void onContentsChanged(final int slot)
         {
-            updateItemStorage();
+            onSlotChanged(slot);
             super.onContentsChanged(slot);
         }
 
@@ -90,19 +90,6 @@ public abstract class AbstractTileEntityRack extends BlockEntity implements Menu
             {
                 onContentsChanged(slot);
             }
-            updateWarehouseIfAvailable(stack);
-        }
-
-        @Nonnull
-        @Override
-        public ItemStack insertItem(final int slot, @Nonnull final ItemStack stack, final boolean simulate)
-        {
-            final ItemStack result = super.insertItem(slot, stack, simulate);
-            if ((result.isEmpty() || result.getCount() < stack.getCount()) && !simulate)
-            {
-                updateWarehouseIfAvailable(stack);
-            }
-            return result;
         }
     }
 
@@ -247,6 +234,16 @@ public abstract class AbstractTileEntityRack extends BlockEntity implements Menu
      */
     public abstract void updateItemStorage();
 
+    /**
+     * Called by the inventory whenever the stack in a slot changed. Rescans the whole storage by default.
+     *
+     * @param slot the changed slot.
+     */
+    protected void onSlotChanged(final int slot)
+    {
+        updateItemStorage();
+    }
+
     /**
      * Update the blockState of the rack. Switch between connected, single, full and empty texture.
      */
@@ -3,6 +3,7 @@ package com.minecolonies.api.tileentities;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesGrave;
 import com.minecolonies.api.blocks.types.GraveType;
 import com.minecolonies.api.colony.GraveData;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.container.ContainerGrave;
 import com.minecolonies.api.util.InventoryUtils;
@@ -41,7 +42,7 @@ public class TileEntityGrave extends AbstractTileEntityGrave
     /**
      * The content of the chest.
      */
-    private final Map<ItemStorage, Integer> content = new HashMap<>();
+    private final Map<ItemKey, ItemStorage> content = new HashMap<>();
 
     /**
      * NBTTag to store grave data.
@@ -63,7 +64,8 @@ public class TileEntityGrave extends AbstractTileEntityGrave
      *
      * @return the map of content.
      */
-    public Map<ItemStorage, Integer> getAllContent()
+    @Override
+    public Map<ItemKey, ItemStorage> getAllContent()
     {
         return content;
     }
@@ -84,6 +86,12 @@ public class TileEntityGrave extends AbstractTileEntityGrave
         }
     }
 
+    @Override
+    protected void onSlotChanged(final int slot)
+    {
+        updateItemStorage();
+    }
+
     /**
      * Just do the content update.
      */
@@ -99,13 +107,16 @@ public class TileEntityGrave extends AbstractTileEntityGrave
                 continue;
             }
 
-            final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
+            final ItemKey key = ItemKey.of(stack);
+            final ItemStorage storage = content.get(key);
+            if (storage == null)
+            {
+                content.put(key, new ItemStorage(stack.copy()));
+            }
+            else
             {
-                amount += content.remove(storage);
+                storage.setAmount(storage.getAmount() + ItemStackUtils.getSize(stack));
             }
-            content.put(storage, amount);
         }
     }
 
@@ -7,6 +7,7 @@ import com.ldtteam.domumornamentum.entity.block.IMateriallyTexturedBlockEntity;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
@@ -25,6 +26,7 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.block.Block;
@@ -65,9 +67,20 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     private byte version = 0;
 
     /**
-     * The content of the chest.
+     * The content of the chest by exact item key, the storages hold the total amount.
      */
-    private final Map<ItemStorage, Integer> content = new HashMap<>();
+    private final Map<ItemKey, ItemStorage> content = new HashMap<>();
+
+    /**
+     * The content storages by item, for the comparisons ignoring damage or nbt.
+     */
+    private final Map<Item, List<ItemStorage>> contentByItem = new HashMap<>();
+
+    /**
+     * The key and count each slot was last indexed with, so a changed slot only moves its difference in the content.
+     */
+    private ItemKey[] slotKeys   = new ItemKey[0];
+    private int[]     slotCounts = new int[0];
 
     /**
      * Size multiplier of the inventory. 0 = default value. 1 = 1*9 additional slots, and so on.
@@ -167,9 +180,7 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     @Override
     public boolean hasItemStack(final ItemStack stack, final int count, final boolean ignoreDamageValue)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue);
-
-        return content.getOrDefault(checkItem, 0) >= count;
+        return getCount(new ItemStorage(stack, ignoreDamageValue)) >= count;
     }
 
     @Override
@@ -190,31 +201,27 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     {
         if (storage.ignoreDamageValue() || storage.ignoreNBT())
         {
-            if (!content.containsKey(storage))
-            {
-                return 0;
-            }
-
             int count = 0;
-            for (final Map.Entry<ItemStorage, Integer> contentStorage : content.entrySet())
+            for (final ItemStorage contentStorage : contentByItem.getOrDefault(storage.getItem(), Collections.emptyList()))
             {
-                if (contentStorage.getKey().equals(storage))
+                if (contentStorage.equals(storage))
                 {
-                    count += contentStorage.getValue();
+                    count += contentStorage.getAmount();
                 }
             }
             return count;
         }
 
-        return content.getOrDefault(storage, 0);
+        final ItemStorage contentStorage = content.get(ItemKey.of(storage));
+        return contentStorage == null ? 0 : contentStorage.getAmount();
     }
 
     @Override
     public boolean hasItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final ItemStorage storage : content.values())
         {
-            if (itemStackSelectionPredicate.test(entry.getKey().getItemStack()))
+            if (itemStackSelectionPredicate.test(storage.getItemStack()))
             {
                 return true;
             }
@@ -225,13 +232,13 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     @Override
     public boolean hasSimilarStack(@NotNull final ItemStack stack)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, true, true);
-        if (content.containsKey(checkItem))
+        if (contentByItem.containsKey(stack.getItem()))
         {
             return true;
         }
 
-        for (final ItemStorage storage : content.keySet())
+        final ItemStorage checkItem = new ItemStorage(stack, true, true);
+        for (final ItemStorage storage : content.values())
         {
             if (checkItem.getPrimaryCreativeTabIndex() == storage.getPrimaryCreativeTabIndex())
             {
@@ -243,11 +250,11 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     }
 
     /**
-     * Gets the content of the Rack
+     * Gets the content of the Rack by exact item key, the storages hold the total amount of each variant.
      *
      * @return the map of content.
      */
-    public Map<ItemStorage, Integer> getAllContent()
+    public Map<ItemKey, ItemStorage> getAllContent()
     {
         return content;
     }
@@ -263,6 +270,7 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         }
 
         inventory = tempInventory;
+        updateContent();
         final BlockState state = level.getBlockState(worldPosition);
         level.sendBlockUpdated(worldPosition, state, state, 0x03);
         invalidateCap();
@@ -272,11 +280,11 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     public int getItemCount(final Predicate<ItemStack> predicate)
     {
         int matched = 0;
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final ItemStorage storage : content.values())
         {
-            if (predicate.test(entry.getKey().getItemStack()))
+            if (predicate.test(storage.getItemStack()))
             {
-                matched += entry.getValue();
+                matched += storage.getAmount();
             }
         }
         return matched;
@@ -288,33 +296,125 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         if (level != null && !level.isClientSide)
         {
             final boolean beforeEmpty = content.isEmpty();
+            final Map<ItemKey, Integer> before = new HashMap<>();
+            for (final Map.Entry<ItemKey, ItemStorage> entry : content.entrySet())
+            {
+                before.put(entry.getKey(), entry.getValue().getAmount());
+            }
+
             updateContent();
-            if (getBlockState().getBlock() == ModBlocks.blockRack)
+
+            for (final Map.Entry<ItemKey, ItemStorage> entry : content.entrySet())
             {
-                boolean afterEmpty = content.isEmpty();
-                @Nullable final BlockEntity potentialNeighbor = getOtherChest();
-                if (potentialNeighbor instanceof TileEntityRack && !((TileEntityRack) potentialNeighbor).isEmpty())
+                final int added = entry.getValue().getAmount() - before.getOrDefault(entry.getKey(), 0);
+                if (added > 0)
                 {
-                    afterEmpty = false;
+                    notifyAdded(entry.getKey(), added);
                 }
+            }
 
-                if ((beforeEmpty && !afterEmpty) || (!beforeEmpty && afterEmpty))
-                {
-                    level.setBlockAndUpdate(getBlockPos(),
-                      getBlockState().setValue(AbstractBlockMinecoloniesRack.VARIANT,
-                        getBlockState().getValue(AbstractBlockMinecoloniesRack.VARIANT).getInvBasedVariant(afterEmpty)));
+            updateEmptyVariant(beforeEmpty);
+            setChanged();
+        }
+    }
+
+    @Override
+    protected void onSlotChanged(final int slot)
+    {
+        if (level == null || level.isClientSide)
+        {
+            return;
+        }
 
+        if (slotKeys.length != inventory.getSlots())
+        {
+            updateItemStorage();
+            return;
+        }
 
-                    if (potentialNeighbor != null)
-                    {
-                        level.setBlockAndUpdate(potentialNeighbor.getBlockPos(),
-                          potentialNeighbor.getBlockState()
-                            .setValue(AbstractBlockMinecoloniesRack.VARIANT,
-                              potentialNeighbor.getBlockState().getValue(AbstractBlockMinecoloniesRack.VARIANT).getInvBasedVariant(afterEmpty)));
-                    }
+        final ItemStack stack = inventory.getStackInSlot(slot);
+        final ItemKey key = ItemStackUtils.isEmpty(stack) ? null : ItemKey.of(stack);
+        final int count = key == null ? 0 : ItemStackUtils.getSize(stack);
+        final ItemKey previousKey = slotKeys[slot];
+        final int previousCount = slotCounts[slot];
+        if (key == previousKey && count == previousCount)
+        {
+            return;
+        }
+
+        final boolean beforeEmpty = content.isEmpty();
+        slotKeys[slot] = key;
+        slotCounts[slot] = count;
+
+        if (key == previousKey)
+        {
+            if (count > previousCount)
+            {
+                addContent(key, stack, count - previousCount);
+                notifyAdded(key, count - previousCount);
+            }
+            else
+            {
+                removeContent(key, previousCount - count);
+            }
+        }
+        else
+        {
+            if (previousKey == null)
+            {
+                freeSlots--;
+            }
+            else
+            {
+                removeContent(previousKey, previousCount);
+            }
+
+            if (key == null)
+            {
+                freeSlots++;
+            }
+            else
+            {
+                addContent(key, stack, count);
+                notifyAdded(key, count);
+            }
+        }
+
+        updateEmptyVariant(beforeEmpty);
+        setChanged();
+    }
+
+    /**
+     * Switch the rack and its neighbor between the empty and filled variant if the emptiness changed.
+     *
+     * @param beforeEmpty if the rack was empty before the change.
+     */
+    private void updateEmptyVariant(final boolean beforeEmpty)
+    {
+        if (getBlockState().getBlock() == ModBlocks.blockRack)
+        {
+            boolean afterEmpty = content.isEmpty();
+            @Nullable final BlockEntity potentialNeighbor = getOtherChest();
+            if (potentialNeighbor instanceof TileEntityRack && !((TileEntityRack) potentialNeighbor).isEmpty())
+            {
+                afterEmpty = false;
+            }
+
+            if ((beforeEmpty && !afterEmpty) || (!beforeEmpty && afterEmpty))
+            {
+                level.setBlockAndUpdate(getBlockPos(),
+                  getBlockState().setValue(AbstractBlockMinecoloniesRack.VARIANT,
+                    getBlockState().getValue(AbstractBlockMinecoloniesRack.VARIANT).getInvBasedVariant(afterEmpty)));
+
+
+                if (potentialNeighbor != null)
+                {
+                    level.setBlockAndUpdate(potentialNeighbor.getBlockPos(),
+                      potentialNeighbor.getBlockState()
+                        .setValue(AbstractBlockMinecoloniesRack.VARIANT,
+                          potentialNeighbor.getBlockState().getValue(AbstractBlockMinecoloniesRack.VARIANT).getInvBasedVariant(afterEmpty)));
                 }
             }
-            setChanged();
         }
     }
 
@@ -324,7 +424,10 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     private void updateContent()
     {
         content.clear();
+        contentByItem.clear();
         freeSlots = 0;
+        slotKeys = new ItemKey[inventory.getSlots()];
+        slotCounts = new int[inventory.getSlots()];
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
             final ItemStack stack = inventory.getStackInSlot(slot);
@@ -335,16 +438,81 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
                 continue;
             }
 
-            final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
+            final ItemKey key = ItemKey.of(stack);
+            slotKeys[slot] = key;
+            slotCounts[slot] = ItemStackUtils.getSize(stack);
+            addContent(key, stack, slotCounts[slot]);
+        }
+    }
+
+    /**
+     * Add an amount of a variant to the content.
+     *
+     * @param key    the key of the variant.
+     * @param stack  a stack of the variant.
+     * @param amount the amount to add.
+     */
+    private void addContent(final ItemKey key, final ItemStack stack, final int amount)
+    {
+        final ItemStorage storage = content.get(key);
+        if (storage == null)
+        {
+            final ItemStorage newStorage = new ItemStorage(stack.copy());
+            newStorage.setAmount(amount);
+            content.put(key, newStorage);
+            contentByItem.computeIfAbsent(key.getItem(), item -> new ArrayList<>()).add(newStorage);
+        }
+        else
+        {
+            storage.setAmount(storage.getAmount() + amount);
+        }
+    }
+
+    /**
+     * Remove an amount of a variant from the content.
+     *
+     * @param key    the key of the variant.
+     * @param amount the amount to remove.
+     */
+    private void removeContent(final ItemKey key, final int amount)
+    {
+        final ItemStorage storage = content.get(key);
+        if (storage == null)
+        {
+            return;
+        }
+
+        if (storage.getAmount() > amount)
+        {
+            storage.setAmount(storage.getAmount() - amount);
+            return;
+        }
+
+        content.remove(key);
+        final List<ItemStorage> variants = contentByItem.get(key.getItem());
+        if (variants != null)
+        {
+            variants.removeIf(variant -> variant == storage);
+            if (variants.isEmpty())
             {
-                amount += content.remove(storage);
+                contentByItem.remove(key.getItem());
             }
-            content.put(storage, amount);
         }
     }
 
+    /**
+     * Notify the warehouse or owning building of added items.
+     *
+     * @param key    the key of the variant.
+     * @param amount the added amount.
+     */
+    private void notifyAdded(final ItemKey key, final int amount)
+    {
+        final ItemStack added = key.getItemStack().copy();
+        added.setCount(amount);
+        updateWarehouseIfAvailable(added);
+    }
+
     @Override
     public AbstractTileEntityRack getOtherChest()
     {
@@ -613,20 +781,23 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         boolean update = false;
         boolean alreadyAddedItem = false;
 
-        final HashMap<ItemStorage, Integer> mapCopy = new HashMap<>(content);
+        final HashMap<ItemKey, Integer> mapCopy = new HashMap<>();
+        for (final Map.Entry<ItemKey, ItemStorage> entry : content.entrySet())
+        {
+            mapCopy.put(entry.getKey(), entry.getValue().getAmount());
+        }
         if (this.getOtherChest() instanceof TileEntityRack neighborRack)
         {
-            for (final Map.Entry<ItemStorage, Integer> entry : neighborRack.content.entrySet())
+            for (final Map.Entry<ItemKey, ItemStorage> entry : neighborRack.content.entrySet())
             {
-                int value = entry.getValue() + mapCopy.getOrDefault(entry.getKey(), 0);
-                mapCopy.put(entry.getKey(), value);
+                mapCopy.merge(entry.getKey(), entry.getValue().getAmount(), Integer::sum);
             }
         }
-        final List<Map.Entry<ItemStorage, Integer>> list = mapCopy.entrySet().stream().sorted((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue())).toList();
+        final List<Map.Entry<ItemKey, Integer>> list = mapCopy.entrySet().stream().sorted((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue())).toList();
 
         final Queue<Block> extraBlockQueue = new ArrayDeque<>();
         final Queue<Block> itemQueue = new ArrayDeque<>();
-        for (final Map.Entry<ItemStorage, Integer> entry : list)
+        for (final Map.Entry<ItemKey, Integer> entry : list)
         {
             // Need more solid checks!
             if (index < textureMapping.size())
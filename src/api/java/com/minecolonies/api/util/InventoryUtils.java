@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
@@ -911,7 +912,7 @@ public class InventoryUtils
     {
         final Level world = provider.getColony().getWorld();
 
-        final Map<ItemStorage, Integer> allMatching = new HashMap<>();
+        final Map<ItemKey, Integer> allMatching = new HashMap<>();
 
         for (final BlockPos pos : provider.getContainers())
         {
@@ -920,11 +921,11 @@ public class InventoryUtils
                 final BlockEntity entity = world.getBlockEntity(pos);
                 if (entity instanceof TileEntityRack)
                 {
-                    for (final Map.Entry<ItemStorage, Integer> entry : ((TileEntityRack) entity).getAllContent().entrySet())
+                    for (final Map.Entry<ItemKey, ItemStorage> entry : ((TileEntityRack) entity).getAllContent().entrySet())
                     {
-                        if (predicate.test(entry.getKey().getItemStack()))
+                        if (predicate.test(entry.getValue().getItemStack()))
                         {
-                            allMatching.put(entry.getKey(), allMatching.getOrDefault(entry.getKey(), 0) + entry.getValue());
+                            allMatching.merge(entry.getKey(), entry.getValue().getAmount(), Integer::sum);
                         }
                     }
                 }
@@ -932,7 +933,7 @@ public class InventoryUtils
         }
 
         int totalCount = 0;
-        for (final Map.Entry<ItemStorage, Integer> entry : allMatching.entrySet())
+        for (final Map.Entry<ItemKey, Integer> entry : allMatching.entrySet())
         {
             totalCount += Math.min(limit.apply(entry.getKey().getItemStack()), entry.getValue());
         }
@@ -3190,7 +3191,7 @@ public class InventoryUtils
                 final BlockEntity entity = world.getBlockEntity(pos);
                 if (entity instanceof TileEntityRack)
                 {
-                    for (final ItemStorage storage : ((TileEntityRack) entity).getAllContent().keySet())
+                    for (final ItemStorage storage : ((TileEntityRack) entity).getAllContent().values())
                     {
                         allInInv.add(storage.getItemStack());
                     }
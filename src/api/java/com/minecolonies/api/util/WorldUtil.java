@@ -310,6 +310,7 @@ public class WorldUtil
 
     /**
      * Get all entities within a building.
+     * On the server this is answered from the entity index of the colony.
      *
      * @param <T>       the type of the predicate.
      * @param world     the world to check this for.
@@ -324,6 +325,11 @@ public class WorldUtil
       final @NotNull IBuilding building,
       @Nullable final Predicate<? super T> predicate)
     {
+        if (!world.isClientSide && building.getColony() != null && building.getColony().getEntityIndex() != null)
+        {
+            return building.getColony().getEntityIndex().getEntitiesWithinBuilding(world, building, clazz, predicate);
+        }
+
         final Tuple<BlockPos, BlockPos> corners = building.getCorners();
 
         if (predicate == null)
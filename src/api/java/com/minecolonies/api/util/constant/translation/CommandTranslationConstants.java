@@ -102,6 +102,18 @@ public class CommandTranslationConstants
     @NonNls
     public static final String COMMAND_COLONY_EXPORT_SUCCESS                 = "com.minecolonies.command.export.success";
     @NonNls
+    public static final String COMMAND_COLONY_PROFILE_START                  = "com.minecolonies.command.profile.start";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_STOP                   = "com.minecolonies.command.profile.stop";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_EMPTY                  = "com.minecolonies.command.profile.empty";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_EXPORT_SUCCESS         = "com.minecolonies.command.profile.export.success";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_EXPORT_FAILED          = "com.minecolonies.command.profile.export.failed";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_USAGE                  = "com.minecolonies.command.profile.usage";
+    @NonNls
     public static final String COMMAND_COLONY_LOAD_BACKUP_SUCCESS            = "com.minecolonies.command.loadbackup.success";
     @NonNls
     public static final String COMMAND_RAID_NOW_SUCCESS                      = "com.minecolonies.command.raidnow.success";
@@ -114,6 +126,10 @@ public class CommandTranslationConstants
     @NonNls
     public static final String COMMAND_REQUEST_SYSTEM_RESET_ALL_SUCCESS      = "com.minecolonies.command.rsresetall.success";
     @NonNls
+    public static final String COMMAND_REQUEST_SYSTEM_LOAD_TEST_WARNING      = "com.minecolonies.command.rsloadtest.warning";
+    @NonNls
+    public static final String COMMAND_REQUEST_SYSTEM_LOAD_TEST_COURIERS     = "com.minecolonies.command.rsloadtest.couriers";
+    @NonNls
     public static final String COMMAND_BACKUP_SUCCESS                        = "com.minecolonies.command.backup.success";
     @NonNls
     public static final String COMMAND_BACKUP_FAILED                         = "com.minecolonies.command.backup.failed";
@@ -124,6 +140,24 @@ public class CommandTranslationConstants
     @NonNls
     public static final String COMMAND_PRUNE_WORLD_WARNING                   = "com.minecolonies.command.prune.next";
     @NonNls
+    public static final String COMMAND_PRUNE_WORLD_SCHEDULED                 = "com.minecolonies.command.prune.scheduled";
+    @NonNls
+    public static final String COMMAND_PRUNE_WORLD_RUNNING                   = "com.minecolonies.command.prune.running";
+    @NonNls
+    public static final String COMMAND_PRUNE_WORLD_DRY_RUN                   = "com.minecolonies.command.prune.dryrun";
+    @NonNls
+    public static final String COMMAND_PRUNE_WORLD_DRY_RUN_RESULT            = "com.minecolonies.command.prune.dryrun.result";
+    @NonNls
+    public static final String COMMAND_PATH_BENCHMARK_RECORD                 = "com.minecolonies.command.pathbenchmark.record";
+    @NonNls
+    public static final String COMMAND_PATH_BENCHMARK_STOP                   = "com.minecolonies.command.pathbenchmark.stop";
+    @NonNls
+    public static final String COMMAND_PATH_BENCHMARK_NOT_RECORDING          = "com.minecolonies.command.pathbenchmark.notrecording";
+    @NonNls
+    public static final String COMMAND_PATH_BENCHMARK_REPLAY                 = "com.minecolonies.command.pathbenchmark.replay";
+    @NonNls
+    public static final String COMMAND_PATH_BENCHMARK_BUSY                   = "com.minecolonies.command.pathbenchmark.busy";
+    @NonNls
     public static final String COMMAND_RAID_TONIGHT_WARNING                  = "com.minecolonies.command.raidtonight";
     @NonNls
     public static final String COMMAND_RESET_SUPPLY_SUCCESS                  = "com.minecolonies.command.raidtonight";
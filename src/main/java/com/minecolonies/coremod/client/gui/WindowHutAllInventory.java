@@ -4,7 +4,9 @@ import com.ldtteam.blockui.Pane;
 import com.ldtteam.blockui.controls.*;
 import com.ldtteam.blockui.views.BOWindow;
 import com.ldtteam.blockui.views.ScrollingList;
+import com.minecolonies.api.colony.IColonyViewChangeListener;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.MessageUtils;
@@ -37,7 +39,7 @@ import static com.minecolonies.api.util.constant.WindowConstants.*;
 /**
  * BOWindow for a hut name entry.
  */
-public class WindowHutAllInventory extends AbstractWindowSkeleton
+public class WindowHutAllInventory extends AbstractWindowSkeleton implements IColonyViewChangeListener
 {
 
     /**
@@ -91,6 +93,7 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
         updateResources();
         registerButton(LOCATE, this::locate);
         this.prev = prev;
+        building.getColony().addChangeListener(this);
 
         window.findPaneOfTypeByID("names", TextField.class).setHandler(input -> {
             final String newFilter = input.getText();
@@ -112,6 +115,32 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
         }
     }
 
+    @Override
+    public void onBuildingChanged(final BlockPos buildingId)
+    {
+        // The container list may have changed, refresh with the same delay as the filter.
+        if (building.getID().equals(buildingId))
+        {
+            this.tick = 10;
+        }
+    }
+
+    @Override
+    public void onBuildingRemoved(final BlockPos buildingId)
+    {
+        if (building.getID().equals(buildingId))
+        {
+            close();
+        }
+    }
+
+    @Override
+    public void onClosed()
+    {
+        super.onClosed();
+        building.getColony().removeChangeListener(this);
+    }
+
     private void locate(final Button button)
     {
         final int row = stackList.getListElementIndexByPane(button);
@@ -196,7 +225,7 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
     {
         final Set<BlockPos> containerList = new HashSet<>(building.getContainerList());
 
-        final Map<ItemStorage, Integer> storedItems = new HashMap<>();
+        final Map<ItemKey, ItemStorage> storedItems = new HashMap<>();
         final Level world = building.getColony().getWorld();
         containerList.add(building.getPosition());
 
@@ -205,27 +234,24 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
             final BlockEntity rack = world.getBlockEntity(blockPos);
             if (rack instanceof TileEntityRack)
             {
-                final Map<ItemStorage, Integer> rackStorage = ((TileEntityRack) rack).getAllContent();
+                final Map<ItemKey, ItemStorage> rackStorage = ((TileEntityRack) rack).getAllContent();
 
-                for (final Map.Entry<ItemStorage, Integer> entry : rackStorage.entrySet())
+                for (final Map.Entry<ItemKey, ItemStorage> entry : rackStorage.entrySet())
                 {
-                    if (storedItems.containsKey(entry.getKey()))
+                    final ItemStorage stored = storedItems.get(entry.getKey());
+                    if (stored == null)
                     {
-                        storedItems.put(entry.getKey(), storedItems.get(entry.getKey()) + entry.getValue());
+                        storedItems.put(entry.getKey(), entry.getValue().copy());
                     }
                     else
                     {
-                        storedItems.put(entry.getKey(), entry.getValue());
+                        stored.setAmount(stored.getAmount() + entry.getValue().getAmount());
                     }
                 }
             }
         }
 
-        final List<ItemStorage> filterItems = new ArrayList<>();
-        storedItems.forEach((storage, amount) -> {
-            storage.setAmount(amount);
-            filterItems.add(storage);
-        });
+        final List<ItemStorage> filterItems = new ArrayList<>(storedItems.values());
         final Predicate<ItemStorage> filterPredicate = stack -> filter.isEmpty()
                                                                   || stack.getItemStack().getDescriptionId().toLowerCase(Locale.US).contains(filter.toLowerCase(Locale.US))
                                                                   || getString(stack.getItemStack())
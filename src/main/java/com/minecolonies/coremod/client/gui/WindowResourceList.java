@@ -161,7 +161,9 @@ public class WindowResourceList extends AbstractWindowSkeleton
                     if (rack instanceof TileEntityRack)
                     {
                         ((TileEntityRack) rack).getAllContent()
-                          .forEach((item, amount) -> {
+                          .values()
+                          .forEach(item -> {
+                              final int amount = item.getAmount();
                               final int hashCode = item.getItemStack().hasTag() ? item.getItemStack().getTag().hashCode() : 0;
                               final String key = item.getItemStack().getDescriptionId() + "-" + hashCode;
                               if (!moduleView.getResources().containsKey(key))
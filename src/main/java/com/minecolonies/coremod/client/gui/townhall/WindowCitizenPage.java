@@ -7,6 +7,7 @@ import com.ldtteam.blockui.views.ScrollingList;
 import com.ldtteam.blockui.views.View;
 import com.minecolonies.api.colony.ICitizen;
 import com.minecolonies.api.colony.ICitizenDataView;
+import com.minecolonies.api.colony.IColonyViewChangeListener;
 import com.minecolonies.api.entity.citizen.Skill;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
@@ -31,7 +32,7 @@ import static com.minecolonies.coremod.client.gui.modules.WindowBuilderResModule
 /**
  * BOWindow for the town hall.
  */
-public class WindowCitizenPage extends AbstractWindowTownHall
+public class WindowCitizenPage extends AbstractWindowTownHall implements IColonyViewChangeListener
 {
     /**
      * Citizen name comparator.
@@ -59,6 +60,11 @@ public class WindowCitizenPage extends AbstractWindowTownHall
      */
     private String filter = "";
 
+    /**
+     * Whether the citizen list has to be rebuilt, set when citizens of the colony changed.
+     */
+    private boolean citizensDirty = false;
+
     /**
      * Constructor for the town hall window.
      *
@@ -68,6 +74,7 @@ public class WindowCitizenPage extends AbstractWindowTownHall
     {
         super(townHall, "layoutcitizens.xml");
 
+        townHall.getColony().addChangeListener(this);
         updateCitizens();
         fillCitizensList();
         if (!citizens.isEmpty())
@@ -95,6 +102,7 @@ public class WindowCitizenPage extends AbstractWindowTownHall
      */
     private void updateCitizens()
     {
+        citizensDirty = false;
         citizens.clear();
         if (filter.isEmpty())
         {
@@ -102,12 +110,37 @@ public class WindowCitizenPage extends AbstractWindowTownHall
         }
         else
         {
-            citizens.addAll(building.getColony().getCitizens().values().stream().filter(cit -> cit.getName().toLowerCase(Locale.US).contains(filter.toLowerCase(Locale.US))
-                                                                                                 || cit.getJobComponent().getString().toLowerCase(Locale.US).contains(filter.toLowerCase(Locale.US))).toList());
+            final String lowerCaseFilter = filter.toLowerCase(Locale.US);
+            citizens.addAll(building.getColony().getCitizens().values().stream().filter(cit -> cit.getName().toLowerCase(Locale.US).contains(lowerCaseFilter)
+                                                                                                 || cit.getJobComponent().getString().toLowerCase(Locale.US).contains(lowerCaseFilter)).toList());
         }
         citizens.sort(COMPARE_BY_NAME);
     }
 
+    @Override
+    public void onCitizenChanged(final int citizenId)
+    {
+        citizensDirty = true;
+        if (selectedCitizen != null && selectedCitizen.getId() == citizenId)
+        {
+            selectedCitizen = building.getColony().getCitizen(citizenId);
+            fillCitizenInfo();
+        }
+    }
+
+    @Override
+    public void onCitizenRemoved(final int citizenId)
+    {
+        citizensDirty = true;
+    }
+
+    @Override
+    public void onClosed()
+    {
+        super.onClosed();
+        building.getColony().removeChangeListener(this);
+    }
+
     /**
      * On clicking a citizen name in the list.
      * @param button the clicked button.
@@ -279,7 +312,10 @@ public class WindowCitizenPage extends AbstractWindowTownHall
     public void onUpdate()
     {
         super.onUpdate();
-        updateCitizens();
+        if (citizensDirty)
+        {
+            updateCitizens();
+        }
         final EntityIcon entityIcon = findPaneOfTypeByID(ENTITY_ICON, EntityIcon.class);
         if (selectedEntity != null && selectedEntity.getPose() == Pose.SLEEPING)
         {
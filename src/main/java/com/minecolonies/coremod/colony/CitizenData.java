@@ -323,7 +323,9 @@ public class CitizenData implements ICitizenData
     {
         if (citizenChatOptions.containsKey(key))
         {
-            citizenChatOptions.get(key).onServerResponseTriggered(responseId, player, this);
+            final IInteractionResponseHandler handler = citizenChatOptions.get(key);
+            handler.onServerResponseTriggered(responseId, player, this);
+            validateInteraction(handler);
             markDirty(0);
         }
     }
@@ -359,6 +361,12 @@ public class CitizenData implements ICitizenData
         {
             entity = new WeakReference<>((AbstractEntityCitizen) citizen);
             citizen.setCivilianData(this);
+
+            // Interactions are not checked while the entity is absent, resume them now.
+            for (final IInteractionResponseHandler handler : citizenChatOptions.values())
+            {
+                colony.getCitizenManager().scheduleInteractionValidation(this, handler, 0);
+            }
         }
     }
 
@@ -821,6 +829,7 @@ public class CitizenData implements ICitizenData
         }
 
         setBedPos(BlockPos.ZERO);
+        validateInteractions();
     }
 
     @Override
@@ -877,6 +886,7 @@ public class CitizenData implements ICitizenData
         getEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
         markDirty(0);
+        validateInteractions();
     }
 
     @Override
@@ -1324,6 +1334,7 @@ public class CitizenData implements ICitizenData
                         .getInteractionResponseHandlerDataManager()
                         .createFrom(this, handlerTagList.getCompound(i).getCompound(TAG_CHAT_OPTION));
                     citizenChatOptions.put(handler.getId(), handler);
+                    scheduleInteractionValidation(handler);
                 }
                 catch (final Exception ex)
                 {
@@ -1447,52 +1458,87 @@ public class CitizenData implements ICitizenData
             job.triggerActivityChangeAction(this.isWorking);
             inactivityTimer = DISABLED;
         }
+    }
 
-        final List<IInteractionResponseHandler> toRemove = new ArrayList<>();
-        for (final IInteractionResponseHandler handler : citizenChatOptions.values())
+    /**
+     * Check all interactions right away, called when the job or home changed as most validators depend on them.
+     */
+    private void validateInteractions()
+    {
+        for (final IInteractionResponseHandler handler : new ArrayList<>(citizenChatOptions.values()))
         {
-            try
-            {
-                if (!handler.isValid(this))
-                {
-                    toRemove.add(handler);
-                }
-            }
-            catch (final Exception e)
-            {
-                Log.getLogger().warn("Error during validation of handler: " + handler.getInquiry(), e);
-                // If anything goes wrong in checking validity, remove handler.
-                toRemove.add(handler);
-            }
+            validateInteraction(handler);
         }
+    }
 
-        if (!toRemove.isEmpty())
+    /**
+     * Check the validity of a scheduled interaction, removing it if it turned invalid or scheduling the next check otherwise.
+     *
+     * @param handler the interaction to check.
+     */
+    public void validateInteraction(@NotNull final IInteractionResponseHandler handler)
+    {
+        if (citizenChatOptions.get(handler.getId()) != handler)
         {
-            markDirty(20 * 10);
+            return;
         }
 
-        for (final IInteractionResponseHandler handler : toRemove)
+        if (!getEntity().isPresent() || !getEntity().get().isAlive())
         {
-            citizenChatOptions.remove(handler.getId());
-            for (final Component comp : handler.getPossibleResponses())
+            // Not rescheduled, setEntity resumes the checks once the citizen is back.
+            return;
+        }
+
+        boolean isValid;
+        try
+        {
+            isValid = handler.isValid(this);
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Error during validation of handler: " + handler.getInquiry(), e);
+            // If anything goes wrong in checking validity, remove handler.
+            isValid = false;
+        }
+
+        if (isValid)
+        {
+            scheduleInteractionValidation(handler);
+            return;
+        }
+
+        markDirty(20 * 10);
+        citizenChatOptions.remove(handler.getId());
+        for (final Component comp : handler.getPossibleResponses())
+        {
+            if (citizenChatOptions.containsKey(handler.getResponseResult(comp)))
             {
-                if (citizenChatOptions.containsKey(handler.getResponseResult(comp)))
-                {
-                    citizenChatOptions.get(handler.getResponseResult(comp)).removeParent(handler.getId());
-                }
+                citizenChatOptions.get(handler.getResponseResult(comp)).removeParent(handler.getId());
             }
         }
     }
 
+    /**
+     * Schedule the next validity check of an interaction.
+     *
+     * @param handler the interaction.
+     */
+    private void scheduleInteractionValidation(@NotNull final IInteractionResponseHandler handler)
+    {
+        colony.getCitizenManager().scheduleInteractionValidation(this, handler, handler.getValidationInterval());
+    }
+
     @Override
     public void triggerInteraction(@NotNull final IInteractionResponseHandler handler)
     {
         if (!this.citizenChatOptions.containsKey(handler.getId()))
         {
             this.citizenChatOptions.put(handler.getId(), handler);
+            scheduleInteractionValidation(handler);
             for (final IInteractionResponseHandler childHandler : handler.genChildInteractions())
             {
                 this.citizenChatOptions.put(childHandler.getId(), (ServerCitizenInteraction) childHandler);
+                scheduleInteractionValidation(childHandler);
             }
             markDirty(20 * 5);
         }
@@ -1787,14 +1833,17 @@ public class CitizenData implements ICitizenData
     public void openDialogue(final IQuestInstance quest, final int index)
     {
         final Component comp = Component.literal(quest.getId().toString());
+        final IInteractionResponseHandler handler;
         if (IQuestManager.GLOBAL_SERVER_QUESTS.get(quest.getId()).getObjective(index) instanceof IQuestDeliveryObjective)
         {
-            citizenChatOptions.put(comp, new QuestDeliveryInteraction(comp, ChatPriority.CHITCHAT, quest.getId(), index, this));
+            handler = new QuestDeliveryInteraction(comp, ChatPriority.CHITCHAT, quest.getId(), index, this);
         }
         else
         {
-            citizenChatOptions.put(comp, new QuestDialogueInteraction(comp, ChatPriority.CHITCHAT, quest.getId(), index, this));
+            handler = new QuestDialogueInteraction(comp, ChatPriority.CHITCHAT, quest.getId(), index, this);
         }
+        citizenChatOptions.put(comp, handler);
+        scheduleInteractionValidation(handler);
         this.markDirty(0);
     }
 
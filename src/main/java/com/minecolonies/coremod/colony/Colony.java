@@ -11,10 +11,12 @@ import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.workorders.IWorkManager;
+import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.api.compatibility.newstruct.BlueprintMapping;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickRateStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
-import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.PhasedTickingTransition;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickPhaseScheduler;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.quests.IQuestManager;
 import com.minecolonies.api.research.IResearchManager;
@@ -65,6 +67,8 @@ import org.jetbrains.annotations.Nullable;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import static com.minecolonies.api.colony.ColonyState.*;
 import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
@@ -188,6 +192,21 @@ public class Colony implements IColony
      */
     private final IStatisticsManager reputationManager = new StatisticsManager(this);
 
+    /**
+     * Entity index of the colony.
+     */
+    private final IColonyEntityIndex entityIndex = new ColonyEntityIndex();
+
+    /**
+     * Crafting graph of the colony.
+     */
+    private final IColonyCraftingGraph craftingGraph = new ColonyCraftingGraph();
+
+    /**
+     * The tick phase slots of the periodic colony transitions.
+     */
+    private final List<TickPhaseScheduler.Slot> tickSlots = new ArrayList<>();
+
     /**
      * Quest manager for this colony
      */
@@ -270,6 +289,22 @@ public class Colony implements IColony
      */
     private CompoundTag colonyTag;
 
+    /**
+     * The sectioned save compound and the colony compound it was packed from.
+     */
+    private CompoundTag packedTag;
+    private CompoundTag packedSource;
+
+    /**
+     * Sections of the save which are not loaded yet, by section name. They are loaded on first access and written back unchanged until then.
+     */
+    private final Map<String, CompoundTag> lazySections = new HashMap<>();
+
+    /**
+     * Lazy sections which failed to load, their original bytes are kept and written back instead of the empty managers.
+     */
+    private final Set<String> failedLazySections = new HashSet<>();
+
     /**
      * List of players visiting the colony.
      */
@@ -285,6 +320,18 @@ public class Colony implements IColony
      */
     private ITickRateStateMachine<ColonyState> colonyStateMachine = null;
 
+    /**
+     * The phase slot of the slow colony tick, its compute phase runs on the ticks the slot is due.
+     */
+    private TickPhaseScheduler.Slot slowTickSlot;
+
+    /**
+     * Results of the compute phase of the slow colony tick and the game time they were computed at, applied by {@link #worldTickSlow()} of the same tick.
+     */
+    private long             computedTickTime          = -1;
+    private double           computedOverallHappiness  = 0;
+    private List<IWorkOrder> computedInvalidWorkOrders = Collections.emptyList();
+
     /**
      * If the colony is dirty.
      */
@@ -389,17 +436,73 @@ public class Colony implements IColony
             colonyStateMachine.setCurrentDelay(20 * 60 * 5);
         });
 
-        colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, citizenManager::tickCitizenData, () -> ACTIVE, TICKS_SECOND * 3));
+        colonyStateMachine.setProfilingOwner(this, "colony");
+        addPhasedTransition(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL);
+        addPhasedTransition(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL);
+        addPhasedTransition(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL);
+        addPhasedTransition(ACTIVE, citizenManager::tickCitizenData, () -> ACTIVE, TICKS_SECOND * 3);
 
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
+        addPhasedTransition(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL);
+        addPhasedTransition(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL);
+        addPhasedTransition(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL);
+        addPhasedTransition(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY);
+        slowTickSlot = addPhasedTransition(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE);
+        addPhasedTransition(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE);
+
+        if (world != null)
+        {
+            registerTickPhases();
+        }
+    }
+
+    /**
+     * Add a periodic transition to the colony statemachine whose updates are spread against the other colonies by the {@link TickPhaseScheduler}.
+     *
+     * @param state     the state to apply the transition in.
+     * @param condition the condition checked before going to the next state.
+     * @param nextState the next state.
+     * @param tickRate  the tickrate of the transition.
+     * @return the phase slot of the transition.
+     */
+    private TickPhaseScheduler.Slot addPhasedTransition(final ColonyState state, final BooleanSupplier condition, final Supplier<ColonyState> nextState, final int tickRate)
+    {
+        final PhasedTickingTransition<ColonyState> transition = new PhasedTickingTransition<>(state, condition, nextState, tickRate, this::getGameTime);
+        tickSlots.add(transition.getSlot());
+        colonyStateMachine.addTransition(transition);
+        return transition.getSlot();
+    }
+
+    /**
+     * Get the game time of the colony world.
+     *
+     * @return the game time, 0 while the world isn't loaded.
+     */
+    private long getGameTime()
+    {
+        final Level currentWorld = world;
+        return currentWorld == null ? 0 : currentWorld.getGameTime();
+    }
+
+    /**
+     * Register the tick phases of the periodic colony transitions, re-balances the phases of all loaded colonies.
+     */
+    private void registerTickPhases()
+    {
+        for (final TickPhaseScheduler.Slot slot : tickSlots)
+        {
+            TickPhaseScheduler.register(slot);
+        }
+    }
+
+    /**
+     * Release the tick phases of the periodic colony transitions, called when the colony world unloads or the colony is deleted.
+     */
+    public void releaseTickPhases()
+    {
+        for (final TickPhaseScheduler.Slot slot : tickSlots)
+        {
+            TickPhaseScheduler.release(slot);
+        }
     }
 
     /**
@@ -469,8 +572,17 @@ public class Colony implements IColony
         eventManager.onColonyTick(this);
         buildingManager.onColonyTick(this);
         graveManager.onColonyTick(this);
-        workManager.onColonyTick(this);
+        if (computedTickTime == world.getGameTime())
+        {
+            workManager.applyColonyTick(computedInvalidWorkOrders);
+            computedInvalidWorkOrders = Collections.emptyList();
+        }
+        else
+        {
+            workManager.onColonyTick(this);
+        }
         reproductionManager.onColonyTick(this);
+        entityIndex.onColonyTick(this);
         questManager.onColonyTick();
 
         final long currTime = System.currentTimeMillis();
@@ -695,15 +807,16 @@ public class Colony implements IColony
     /**
      * Load a saved colony.
      *
-     * @param compound The NBT compound containing the colony's data.
-     * @param world    the world to load it for.
+     * @param tag   The NBT compound containing the colony's data, either sectioned or plain.
+     * @param world the world to load it for.
      * @return loaded colony.
      */
     @Nullable
-    public static Colony loadColony(@NotNull final CompoundTag compound, @Nullable final Level world)
+    public static Colony loadColony(@NotNull final CompoundTag tag, @Nullable final Level world)
     {
         try
         {
+            final CompoundTag compound = ColonySaveFormat.isSectioned(tag) ? ColonySaveFormat.unpack(tag) : tag;
             final int id = compound.getInt(TAG_ID);
             @NotNull final Colony c = new Colony(id, world);
             c.name = compound.getString(TAG_NAME);
@@ -764,6 +877,15 @@ public class Colony implements IColony
         statisticManager.readFromNBT(compound);
 
         questManager.deserializeNBT(compound.getCompound(TAG_QUEST_MANAGER));
+
+        lazySections.clear();
+        failedLazySections.clear();
+        final CompoundTag lazyCompound = compound.getCompound(ColonySaveFormat.TAG_LAZY_SECTIONS);
+        for (final String section : lazyCompound.getAllKeys())
+        {
+            lazySections.put(section, ColonySaveFormat.getLazySection(lazyCompound, section));
+        }
+
         eventDescManager.deserializeNBT(compound.getCompound(NbtTagConstants.TAG_EVENT_DESC_MANAGER));
 
         if (compound.contains(TAG_RESEARCH))
@@ -972,6 +1094,16 @@ public class Colony implements IColony
         compound.putString(TAG_COL_NAME_STYLE, nameStyle);
         compound.putInt(COLONY_DAY, day);
 
+        if (!lazySections.isEmpty())
+        {
+            final CompoundTag lazyCompound = new CompoundTag();
+            for (final Map.Entry<String, CompoundTag> section : lazySections.entrySet())
+            {
+                lazyCompound.put(section.getKey(), section.getValue());
+            }
+            compound.put(ColonySaveFormat.TAG_LAZY_SECTIONS, lazyCompound);
+        }
+
         this.colonyTag = compound;
 
         isDirty = false;
@@ -1019,6 +1151,7 @@ public class Colony implements IColony
                 MinecraftForge.EVENT_BUS.register(eventHandler);
             }
             setColonyColor(this.colonyTeamColor);
+            registerTickPhases();
         }
     }
 
@@ -1043,6 +1176,8 @@ public class Colony implements IColony
         {
             MinecraftForge.EVENT_BUS.unregister(eventHandler);
         }
+        entityIndex.clear();
+        releaseTickPhases();
         world = null;
     }
 
@@ -1170,6 +1305,20 @@ public class Colony implements IColony
         colonyStateMachine.tick();
     }
 
+    @Override
+    public void onWorldTickCompute(@NotNull final TickEvent.LevelTickEvent event)
+    {
+        if (event.level != getWorld() || getState() != ACTIVE || slowTickSlot.ticksUntilPhase(event.level.getGameTime()) != 0)
+        {
+            return;
+        }
+
+        // Only reads the colony, the slow tick of this game time applies the results. If it doesn't run (e.g. after a phase re-balance) they are dropped.
+        computedOverallHappiness = computeOverallHappiness();
+        computedInvalidWorkOrders = workManager.collectInvalidWorkOrders();
+        computedTickTime = event.level.getGameTime();
+    }
+
     /**
      * Calculate randomly if the colony should update the citizens. By mean they update it at CLEANUP_TICK_INCREMENT.
      *
@@ -1498,6 +1647,20 @@ public class Colony implements IColony
      */
     @Override
     public double getOverallHappiness()
+    {
+        if (world != null && computedTickTime == world.getGameTime())
+        {
+            return computedOverallHappiness;
+        }
+        return computeOverallHappiness();
+    }
+
+    /**
+     * Calculate the overall happiness from the happiness of all citizens.
+     *
+     * @return the overall happiness.
+     */
+    private double computeOverallHappiness()
     {
         if (citizenManager.getCitizens().size() <= 0)
         {
@@ -1624,6 +1787,18 @@ public class Colony implements IColony
         return statisticManager;
     }
 
+    @Override
+    public IColonyEntityIndex getEntityIndex()
+    {
+        return entityIndex;
+    }
+
+    @Override
+    public IColonyCraftingGraph getCraftingGraph()
+    {
+        return craftingGraph;
+    }
+
     @Override
     public IReproductionManager getReproductionManager()
     {
@@ -1719,6 +1894,76 @@ public class Colony implements IColony
         return this.colonyTag;
     }
 
+    /**
+     * Get the colony in the sectioned save format, only packed again if the colony tag changed since.
+     *
+     * @return the sectioned compound or null if the colony could not be written.
+     */
+    @Nullable
+    public CompoundTag getPackedColonyTag()
+    {
+        final CompoundTag tag = getColonyTag();
+        if (tag == null)
+        {
+            return null;
+        }
+
+        if (tag != packedSource)
+        {
+            try
+            {
+                packedTag = ColonySaveFormat.pack(tag);
+                packedSource = tag;
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Something went wrong packing colony: " + id + ", saving it unsectioned", e);
+                return tag;
+            }
+        }
+        return packedTag;
+    }
+
+    /**
+     * Check if a section of the save was not loaded yet.
+     *
+     * @param section the section name.
+     * @return true if so.
+     */
+    public boolean hasLazySection(final String section)
+    {
+        return lazySections.containsKey(section);
+    }
+
+    /**
+     * Load a section of the save which was not loaded yet, does nothing if it was loaded already.
+     * The saved section is only dropped once it loaded, a section which failed to load stays as it is and is written back unchanged.
+     *
+     * @param section the section name.
+     */
+    public void loadLazySection(final String section)
+    {
+        final CompoundTag compound = lazySections.get(section);
+        if (compound == null || failedLazySections.contains(section))
+        {
+            return;
+        }
+
+        try
+        {
+            if (ColonySaveFormat.SECTION_RAIDS.equals(section))
+            {
+                ((RaidManager) raidManager).readHistory(compound);
+            }
+            lazySections.remove(section);
+        }
+        catch (final Exception e)
+        {
+            failedLazySections.add(section);
+            Log.getLogger().warn("Something went wrong loading the " + section + " section of colony: " + id + ", keeping the saved data as it is", e);
+        }
+    }
+
     /**
      * Is player part of a wave trying to invade the colony?
      *
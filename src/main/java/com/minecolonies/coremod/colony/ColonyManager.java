@@ -11,6 +11,7 @@ import com.minecolonies.api.colony.permissions.ColonyPlayer;
 import com.minecolonies.api.compatibility.CompatibilityManager;
 import com.minecolonies.api.compatibility.ICompatibilityManager;
 import com.minecolonies.api.crafting.IRecipeManager;
+import com.minecolonies.api.entity.ai.statemachine.basestatemachine.StateMachineProfiler;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
@@ -36,6 +37,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.*;
@@ -51,6 +54,12 @@ import static com.minecolonies.coremod.MineColonies.getConfig;
 @SuppressWarnings("PMD.ExcessiveClassLength")
 public final class ColonyManager implements IColonyManager
 {
+    /**
+     * Pool running the compute phase of the colony ticks, created on first use.
+     */
+    @Nullable
+    private static ForkJoinPool colonyTickPool = null;
+
     /**
      * The list of colony views.
      */
@@ -182,6 +191,8 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
+            colony.releaseTickPhases();
+            StateMachineProfiler.remove(colony.getDimension(), id);
             try
             {
                 MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
@@ -660,8 +671,45 @@ public final class ColonyManager implements IColonyManager
     {
         if (event.phase == TickEvent.Phase.END)
         {
-            getColonies(event.level).forEach(c -> c.onWorldTick(event));
+            final List<IColony> colonies = getColonies(event.level);
+            if (colonies.size() > 1 && getConfig().getServer().parallelColonyTicks.get())
+            {
+                computeColonyTicks(colonies, event);
+            }
+            colonies.forEach(c -> c.onWorldTick(event));
+        }
+    }
+
+    /**
+     * Run the compute phase of all colonies of a world on the colony tick pool.
+     * Blocks until all colonies are done, so each colony is only touched by one thread at a time and the serial tick afterwards sees all results.
+     *
+     * @param colonies the colonies to compute.
+     * @param event    the world tick event.
+     */
+    private static void computeColonyTicks(final List<IColony> colonies, final TickEvent.LevelTickEvent event)
+    {
+        if (colonyTickPool == null)
+        {
+            colonyTickPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("MineColonies Colony Tick Worker #" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                thread.setContextClassLoader(ColonyManager.class.getClassLoader());
+                return thread;
+            }, null, false);
         }
+
+        colonyTickPool.submit(() -> colonies.parallelStream().forEach(colony -> {
+            try
+            {
+                colony.onWorldTickCompute(event);
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Exception in compute phase of colony: " + colony.getID(), e);
+            }
+        })).join();
     }
 
     @Override
@@ -0,0 +1,295 @@
+package com.minecolonies.coremod.colony;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.minecolonies.coremod.colony.managers.StatisticsManager;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+
+/**
+ * Sectioned save format of a colony.
+ * The colony compound is split by its top level keys into sections (buildings, citizens, request system, work orders, stats, quests, history, ...) which are stored
+ * as plain compounds together with a table of contents, a format version and a small header. Sections are not compressed on their own, the capability data they are
+ * saved in is compressed as a whole by the level storage already. The raid history, which grows with every raid and is only read by commands and new raids, is not
+ * deserialized into the raid manager on load but kept as its compound until first access and written back unchanged as long as it was not loaded.
+ * The event history is capped and sent with every town hall view, so it is loaded eagerly like the other sections.
+ * <p>
+ * Inside the colony compound, sections which are not loaded yet are carried under {@link #TAG_LAZY_SECTIONS}, so the compound stays a complete copy of the colony
+ * for backups and reads as well.
+ * <p>
+ * The format can't be downgraded. Versions without this class don't know the sections and would load the colony empty, and colonies saved with a newer format
+ * version than {@link #FORMAT_VERSION} are refused instead of being read partially and overwritten on the next save. Restore a backup to go back to an older version.
+ * Version 1 stored the sections gzip compressed, it is still read.
+ */
+public final class ColonySaveFormat
+{
+    /**
+     * The names of the sections.
+     */
+    public static final String SECTION_CORE           = "core";
+    public static final String SECTION_BUILDINGS      = "buildings";
+    public static final String SECTION_CITIZENS       = "citizens";
+    public static final String SECTION_REQUEST_SYSTEM = "requestsystem";
+    public static final String SECTION_WORK_ORDERS    = "workorders";
+    public static final String SECTION_STATS          = "stats";
+    public static final String SECTION_QUESTS         = "quests";
+    public static final String SECTION_RESEARCH       = "research";
+    public static final String SECTION_HISTORY        = "history";
+    public static final String SECTION_RAIDS          = "raids";
+
+    /**
+     * Key of the not yet loaded sections inside a colony compound.
+     */
+    public static final String TAG_LAZY_SECTIONS = "lazySections";
+
+    /**
+     * Nbt tags of the sectioned format.
+     */
+    private static final String TAG_FORMAT   = "sectionFormat";
+    private static final String TAG_TOC      = "toc";
+    private static final String TAG_SECTIONS = "sections";
+    private static final String TAG_LAZY     = "lazy";
+
+    /**
+     * Version of the sectioned format, increased whenever it changes in a way older versions can't read.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    /**
+     * The first version which stores the sections uncompressed.
+     */
+    private static final int FIRST_PLAIN_VERSION = 2;
+
+    /**
+     * The section of each top level colony key, all other keys go to the core section.
+     */
+    private static final Map<String, String> SECTION_BY_KEY = ImmutableMap.<String, String>builder()
+                                                                .put(TAG_BUILDING_MANAGER, SECTION_BUILDINGS)
+                                                                .put(TAG_CITIZEN_MANAGER, SECTION_CITIZENS)
+                                                                .put(TAG_REQUESTMANAGER, SECTION_REQUEST_SYSTEM)
+                                                                .put(TAG_WORK, SECTION_WORK_ORDERS)
+                                                                .put(StatisticsManager.TAG_STAT_MANAGER, SECTION_STATS)
+                                                                .put(TAG_QUEST_MANAGER, SECTION_QUESTS)
+                                                                .put(TAG_RESEARCH, SECTION_RESEARCH)
+                                                                .put(TAG_EVENT_DESC_MANAGER, SECTION_HISTORY)
+                                                                .put(TAG_RAID_HISTORY, SECTION_RAIDS)
+                                                                .build();
+
+    /**
+     * The sections which are only loaded on first access. The latest raid is saved with the core, so the raid checks don't need this section.
+     */
+    private static final Set<String> LAZY_SECTIONS = ImmutableSet.of(SECTION_RAIDS);
+
+    /**
+     * The keys copied to the header, so the colony can be identified without joining the sections.
+     */
+    private static final String[] HEADER_KEYS = {TAG_ID, TAG_NAME, TAG_CENTER, TAG_DIMENSION};
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonySaveFormat()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Check if a compound is in the sectioned format.
+     *
+     * @param compound the compound.
+     * @return true if so.
+     */
+    public static boolean isSectioned(@NotNull final CompoundTag compound)
+    {
+        return compound.contains(TAG_FORMAT, Tag.TAG_INT) && compound.contains(TAG_SECTIONS, Tag.TAG_COMPOUND);
+    }
+
+    /**
+     * Get the format version of a sectioned compound.
+     *
+     * @param compound the sectioned compound.
+     * @return the version.
+     */
+    public static int getFormatVersion(@NotNull final CompoundTag compound)
+    {
+        return compound.getInt(TAG_FORMAT);
+    }
+
+    /**
+     * Check that a compound was not saved with a newer format version than this one can read.
+     *
+     * @param compound the compound, sectioned or plain.
+     * @throws IllegalStateException if it was saved with a newer format version.
+     */
+    public static void checkFormatVersion(@NotNull final CompoundTag compound)
+    {
+        if (isSectioned(compound) && getFormatVersion(compound) > FORMAT_VERSION)
+        {
+            throw new IllegalStateException("Colony " + compound.getInt(TAG_ID) + " was saved with colony format version " + getFormatVersion(compound)
+                                              + ", this version only reads up to " + FORMAT_VERSION + ". The format can't be downgraded, restore a backup instead.");
+        }
+    }
+
+    /**
+     * Check if a section is only loaded on first access.
+     *
+     * @param section the section name.
+     * @return true if so.
+     */
+    public static boolean isLazy(@NotNull final String section)
+    {
+        return LAZY_SECTIONS.contains(section);
+    }
+
+    /**
+     * Split a colony compound into the sectioned format. Sections which are not loaded yet are taken over as they are.
+     *
+     * @param colonyCompound the colony compound.
+     * @return the sectioned compound.
+     */
+    public static CompoundTag pack(@NotNull final CompoundTag colonyCompound)
+    {
+        final Map<String, CompoundTag> sections = new LinkedHashMap<>();
+        for (final String key : colonyCompound.getAllKeys())
+        {
+            if (!key.equals(TAG_LAZY_SECTIONS))
+            {
+                sections.computeIfAbsent(SECTION_BY_KEY.getOrDefault(key, SECTION_CORE), name -> new CompoundTag()).put(key, colonyCompound.get(key));
+            }
+        }
+
+        final CompoundTag packed = new CompoundTag();
+        for (final String key : HEADER_KEYS)
+        {
+            final Tag tag = colonyCompound.get(key);
+            if (tag != null)
+            {
+                packed.put(key, tag.copy());
+            }
+        }
+
+        final ListTag toc = new ListTag();
+        final CompoundTag data = new CompoundTag();
+        for (final Map.Entry<String, CompoundTag> section : sections.entrySet())
+        {
+            addSection(toc, data, section.getKey(), section.getValue());
+        }
+
+        final CompoundTag lazy = colonyCompound.getCompound(TAG_LAZY_SECTIONS);
+        for (final String name : lazy.getAllKeys())
+        {
+            if (!data.contains(name))
+            {
+                addSection(toc, data, name, lazy.getCompound(name));
+            }
+        }
+
+        packed.putInt(TAG_FORMAT, FORMAT_VERSION);
+        packed.put(TAG_TOC, toc);
+        packed.put(TAG_SECTIONS, data);
+        return packed;
+    }
+
+    /**
+     * Add a section and its table of contents entry.
+     *
+     * @param toc     the table of contents.
+     * @param data    the section data.
+     * @param name    the section name.
+     * @param section the section compound.
+     */
+    private static void addSection(final ListTag toc, final CompoundTag data, final String name, final CompoundTag section)
+    {
+        final CompoundTag entry = new CompoundTag();
+        entry.putString(TAG_NAME, name);
+        entry.putBoolean(TAG_LAZY, isLazy(name));
+        toc.add(entry);
+        data.put(name, section);
+    }
+
+    /**
+     * Join a sectioned compound back into a colony compound. Lazy sections are not merged but carried under {@link #TAG_LAZY_SECTIONS}.
+     *
+     * @param packed the sectioned compound.
+     * @return the colony compound.
+     * @throws IllegalStateException if the compound was saved with a newer format version.
+     */
+    public static CompoundTag unpack(@NotNull final CompoundTag packed)
+    {
+        checkFormatVersion(packed);
+        final int version = getFormatVersion(packed);
+        final CompoundTag colonyCompound = new CompoundTag();
+        final CompoundTag lazy = new CompoundTag();
+        final CompoundTag data = packed.getCompound(TAG_SECTIONS);
+        final ListTag toc = packed.getList(TAG_TOC, Tag.TAG_COMPOUND);
+        for (int i = 0; i < toc.size(); i++)
+        {
+            final String name = toc.getCompound(i).getString(TAG_NAME);
+            final CompoundTag section = version < FIRST_PLAIN_VERSION ? decompress(data.getByteArray(name)) : data.getCompound(name);
+            if (isLazy(name))
+            {
+                lazy.put(name, section);
+                continue;
+            }
+
+            for (final String key : section.getAllKeys())
+            {
+                colonyCompound.put(key, section.get(key));
+            }
+        }
+
+        if (!lazy.isEmpty())
+        {
+            colonyCompound.put(TAG_LAZY_SECTIONS, lazy);
+        }
+        return colonyCompound;
+    }
+
+    /**
+     * Get a not yet loaded section carried inside a colony compound, version 1 carried them compressed.
+     *
+     * @param lazy the compound under {@link #TAG_LAZY_SECTIONS}.
+     * @param name the section name.
+     * @return the section compound.
+     */
+    public static CompoundTag getLazySection(@NotNull final CompoundTag lazy, @NotNull final String name)
+    {
+        if (lazy.contains(name, Tag.TAG_BYTE_ARRAY))
+        {
+            return decompress(lazy.getByteArray(name));
+        }
+        return lazy.getCompound(name);
+    }
+
+    /**
+     * Decompress a section of a version 1 save.
+     *
+     * @param body the compressed bytes.
+     * @return the section compound.
+     */
+    private static CompoundTag decompress(@NotNull final byte[] body)
+    {
+        try
+        {
+            return NbtIo.readCompressed(new ByteArrayInputStream(body));
+        }
+        catch (final IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
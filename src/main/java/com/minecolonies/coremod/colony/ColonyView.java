@@ -91,6 +91,16 @@ public final class ColonyView implements IColonyView
     //  Citizenry
     @NotNull
     private final Map<Integer, ICitizenDataView> citizens    = new HashMap<>();
+
+    /**
+     * Hashes of the last applied network payloads of the citizen (by id) and building (by position) views, unchanged updates are skipped.
+     */
+    private final Map<Object, Long> payloadHashes = new HashMap<>();
+
+    /**
+     * Listeners for citizen and building changes.
+     */
+    private final Set<IColonyViewChangeListener> changeListeners = Collections.newSetFromMap(new WeakHashMap<>());
     private       Map<Integer, IVisitorViewData> visitors    = new HashMap<>();
     private       String                         name        = "Unknown";
     private       ResourceKey<Level>                            dimensionId;
@@ -822,6 +832,7 @@ public final class ColonyView implements IColonyView
             citizens.clear();
             townHall = null;
             buildings.clear();
+            payloadHashes.clear();
         }
 
         freePositions.clear();
@@ -994,15 +1005,54 @@ public final class ColonyView implements IColonyView
     @Nullable
     public IMessage handleColonyViewCitizensMessage(final int id, final FriendlyByteBuf buf)
     {
+        final long payloadHash = hashPayload(buf);
+        if (citizens.containsKey(id) && Objects.equals(payloadHashes.get(id), payloadHash))
+        {
+            return null;
+        }
+
         final ICitizenDataView citizen = ICitizenDataManager.getInstance().createFromNetworkData(id, buf, this);
         if (citizen != null)
         {
             citizens.put(citizen.getId(), citizen);
+            payloadHashes.put(citizen.getId(), payloadHash);
+            for (final IColonyViewChangeListener listener : new ArrayList<>(changeListeners))
+            {
+                listener.onCitizenChanged(citizen.getId());
+            }
         }
 
         return null;
     }
 
+    /**
+     * Hash the remaining content of a view update buffer (64 bit FNV-1a), without consuming it.
+     *
+     * @param buf the buffer.
+     * @return the hash.
+     */
+    private static long hashPayload(final FriendlyByteBuf buf)
+    {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = buf.readerIndex(); i < buf.writerIndex(); i++)
+        {
+            hash = (hash ^ (buf.getByte(i) & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @Override
+    public void addChangeListener(@NotNull final IColonyViewChangeListener listener)
+    {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(@NotNull final IColonyViewChangeListener listener)
+    {
+        changeListeners.remove(listener);
+    }
+
     @Override
     public void handleColonyViewVisitorMessage(final FriendlyByteBuf visitorBuf, final boolean refresh)
     {
@@ -1042,6 +1092,11 @@ public final class ColonyView implements IColonyView
     public IMessage handleColonyViewRemoveCitizenMessage(final int citizen)
     {
         citizens.remove(citizen);
+        payloadHashes.remove(citizen);
+        for (final IColonyViewChangeListener listener : new ArrayList<>(changeListeners))
+        {
+            listener.onCitizenRemoved(citizen);
+        }
         return null;
     }
 
@@ -1056,10 +1111,15 @@ public final class ColonyView implements IColonyView
     public IMessage handleColonyViewRemoveBuildingMessage(final BlockPos buildingId)
     {
         final IBuildingView building = buildings.remove(buildingId);
+        payloadHashes.remove(buildingId);
         if (townHall == building)
         {
             townHall = null;
         }
+        for (final IColonyViewChangeListener listener : new ArrayList<>(changeListeners))
+        {
+            listener.onBuildingRemoved(buildingId);
+        }
         return null;
     }
 
@@ -1088,11 +1148,20 @@ public final class ColonyView implements IColonyView
     @Nullable
     public IMessage handleColonyBuildingViewMessage(final BlockPos buildingId, @NotNull final FriendlyByteBuf buf)
     {
+        final long payloadHash = hashPayload(buf);
+        if (buildings.containsKey(buildingId) && Objects.equals(payloadHashes.get(buildingId), payloadHash))
+        {
+            return null;
+        }
+
+        // Only cached once applied, so a payload which failed to apply is applied again when resent.
+        payloadHashes.remove(buildingId);
         if (buildings.containsKey(buildingId))
         {
             //Read the string first to set up the buffer.
             buf.readUtf(32767);
             buildings.get(buildingId).deserialize(buf);
+            payloadHashes.put(buildingId, payloadHash);
         }
         else
         {
@@ -1100,6 +1169,7 @@ public final class ColonyView implements IColonyView
             if (building != null)
             {
                 buildings.put(building.getID(), building);
+                payloadHashes.put(buildingId, payloadHash);
 
                 if (building instanceof BuildingTownHall.View)
                 {
@@ -1108,6 +1178,11 @@ public final class ColonyView implements IColonyView
             }
         }
 
+        for (final IColonyViewChangeListener listener : new ArrayList<>(changeListeners))
+        {
+            listener.onBuildingChanged(buildingId);
+        }
+
         return null;
     }
 
@@ -1642,6 +1717,18 @@ public final class ColonyView implements IColonyView
         return statisticManager;
     }
 
+    @Override
+    public IColonyEntityIndex getEntityIndex()
+    {
+        return null;
+    }
+
+    @Override
+    public IColonyCraftingGraph getCraftingGraph()
+    {
+        return null;
+    }
+
     @Override
     public int getDay()
     {
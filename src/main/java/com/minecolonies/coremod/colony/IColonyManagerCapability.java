@@ -129,7 +129,11 @@ public interface IColonyManagerCapability
         public static Tag writeNBT(@NotNull final Capability<IColonyManagerCapability> capability, @NotNull final IColonyManagerCapability instance, final boolean overworld)
         {
             final CompoundTag compound = new CompoundTag();
-            compound.put(TAG_COLONIES, instance.getColonies().stream().map(IColony::getColonyTag).filter(Objects::nonNull).collect(NBTUtils.toListNBT()));
+            compound.put(TAG_COLONIES, instance.getColonies()
+                                         .stream()
+                                         .map(colony -> colony instanceof Colony ? ((Colony) colony).getPackedColonyTag() : colony.getColonyTag())
+                                         .filter(Objects::nonNull)
+                                         .collect(NBTUtils.toListNBT()));
 
             if (overworld)
             {
@@ -160,6 +164,9 @@ public interface IColonyManagerCapability
                 Multimap<BlockPos, IColony> tempColonies = ArrayListMultimap.create();
                 for (final Tag tag : compound.getList(TAG_COLONIES, Tag.TAG_COMPOUND))
                 {
+                    // Refuse the whole load, a colony which is skipped here would be dropped from the save on the next write.
+                    ColonySaveFormat.checkFormatVersion((CompoundTag) tag);
+
                     final IColony colony = Colony.loadColony((CompoundTag) tag, null);
                     if (colony != null)
                     {
@@ -17,7 +17,6 @@ import com.minecolonies.api.colony.buildings.modules.settings.ISettingKey;
 import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.jobs.registry.JobEntry;
-import com.minecolonies.api.colony.modules.ModuleContainerUtils;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestSystemBuildingDataStore;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
@@ -82,6 +81,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -156,6 +156,11 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     protected List<IBuildingModule>                  modules    = new ArrayList<>();
     protected Int2ObjectOpenHashMap<IBuildingModule> modulesMap = new Int2ObjectOpenHashMap<>();
 
+    /**
+     * Modules by requested class or interface, filled on the first request of a class and cleared when a module is registered.
+     */
+    private final Map<Class<?>, List<IBuildingModule>> modulesByType = new ConcurrentHashMap<>();
+
     /**
      * Constructor for a AbstractBuilding.
      *
@@ -173,7 +178,28 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public boolean hasModule(final Class<? extends IBuildingModule> clazz)
     {
-        return ModuleContainerUtils.hasModule(modules, clazz);
+        return !getModulesOfClass(clazz).isEmpty();
+    }
+
+    /**
+     * Get the cached modules of a class or interface.
+     *
+     * @param clazz the module class or interface.
+     * @return the unmodifiable list of modules.
+     */
+    private List<IBuildingModule> getModulesOfClass(final Class<?> clazz)
+    {
+        return modulesByType.computeIfAbsent(clazz, key -> {
+            final List<IBuildingModule> result = new ArrayList<>();
+            for (final IBuildingModule module : modules)
+            {
+                if (key.isInstance(module))
+                {
+                    result.add(module);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        });
     }
 
     @Override
@@ -184,21 +210,31 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
 
     @NotNull
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends IBuildingModule> T getFirstModuleOccurance(final Class<T> clazz)
     {
-        return ModuleContainerUtils.getFirstModuleOccurance(modules,
-          clazz,
-          "The module of class: " + clazz.toString() + "should never be null! Building:" + getBuildingType().getTranslationKey() + " pos:" + getID().toShortString());
+        final List<IBuildingModule> matching = getModulesOfClass(clazz);
+        if (matching.isEmpty())
+        {
+            throw new IllegalStateException(
+              "The module of class: " + clazz.toString() + "should never be null! Building:" + getBuildingType().getTranslationKey() + " pos:" + getID().toShortString());
+        }
+        return (T) matching.get(0);
     }
 
     @NotNull
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends IBuildingModule> T getModuleMatching(final Class<T> clazz, final Predicate<? super T> modulePredicate)
     {
-        return ModuleContainerUtils.getModuleMatching(modules,
-          clazz,
-          modulePredicate,
-          "no matching module for Building:" + getBuildingType().getTranslationKey() + " pos:" + getID().toShortString());
+        for (final IBuildingModule module : getModulesOfClass(clazz))
+        {
+            if (modulePredicate.test((T) module))
+            {
+                return (T) module;
+            }
+        }
+        throw new IllegalStateException("no matching module for Building:" + getBuildingType().getTranslationKey() + " pos:" + getID().toShortString());
     }
 
     @Override
@@ -215,9 +251,10 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
 
     @NotNull
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends IBuildingModule> List<T> getModulesByType(final Class<T> clazz)
     {
-        return ModuleContainerUtils.getModules(modules, clazz);
+        return (List<T>) getModulesOfClass(clazz);
     }
 
     @Override
@@ -230,6 +267,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         }
         modulesMap.put(module.getProducer().getRuntimeID(),module);
         this.modules.add(module);
+        modulesByType.clear();
     }
 
     /**
@@ -994,6 +1032,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         getModulesByType(IBuildingEventsModule.class).forEach(module -> module.onUpgradeComplete(newLevel));
         colony.getResearchManager().checkAutoStartResearch();
         colony.getBuildingManager().onBuildingUpgradeComplete(this, newLevel);
+        colony.getQuestManager().onTriggerInputChanged();
     }
 
     @Override
@@ -1966,6 +2005,11 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public void onRequestedRequestCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
     {
+        if (!getCitizensByRequest().containsKey(request.getId()))
+        {
+            return;
+        }
+
         final int citizenThatRequested = getCitizensByRequest().remove(request.getId());
         final Map<Integer, Collection<IToken<?>>> openRequestsByCitizen = getOpenRequestsByCitizen();
         final Collection<IToken<?>> byCitizenList = openRequestsByCitizen.get(citizenThatRequested);
@@ -124,7 +124,9 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     public IBuildingModule setBuilding(final IBuilding building)
     {
         this.building = (AbstractBuilding) building;
-        return super.setBuilding(building);
+        final IBuildingModule module = super.setBuilding(building);
+        onRecipesChanged();
+        return module;
     }
 
     @Override
@@ -244,6 +246,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 }
             }
         }
+        onRecipesChanged();
     }
 
     @Override
@@ -557,6 +560,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     public void clearRecipes()
     {
         recipes.clear();
+        onRecipesChanged();
     }
 
     @Override
@@ -825,6 +829,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             int oldIndex = recipes.indexOf(oldRecipe);
             recipes.add(oldIndex, newRecipe);
             recipes.remove(oldRecipe);
+            onRecipesChanged();
             markDirty();
         }
     }
@@ -842,6 +847,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             Log.getLogger().warn("Failure to remove recipe, please tell the mod authors about this");
             recipes.clear();
         }
+        onRecipesChanged();
     }
 
     @Override
@@ -857,6 +863,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             {
                 recipes.add(token);
             }
+            onRecipesChanged();
         }
     }
 
@@ -901,9 +908,21 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         {
             disabledRecipes.add(key);
         }
+        onRecipesChanged();
         markDirty();
     }
 
+    /**
+     * Report a change of the recipe list or the disabled recipes to the crafting graph of the colony.
+     */
+    protected void onRecipesChanged()
+    {
+        if (building != null && building.getColony() != null && building.getColony().getCraftingGraph() != null)
+        {
+            building.getColony().getCraftingGraph().onRecipesChanged(this);
+        }
+    }
+
     @NotNull
     @Override
     public List<IGenericRecipe> getAdditionalRecipesForDisplayPurposesOnly()
@@ -366,6 +366,12 @@ public class BuildingCook extends AbstractBuilding
             return CraftingUtils.isRecipeCompatibleBasedOnTags(recipe, CRAFTING_COOK).orElse(ItemStackUtils.CAN_EAT.test(recipe.getPrimaryOutput()));
         }
 
+        @Override
+        public boolean hasDynamicRecipes()
+        {
+            return true;
+        }
+
         @Override
         @Nullable
         public IRecipeStorage getFirstRecipe(final Predicate<ItemStack> stackPredicate)
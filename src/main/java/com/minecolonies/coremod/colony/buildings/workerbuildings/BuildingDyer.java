@@ -104,6 +104,12 @@ public class BuildingDyer extends AbstractBuilding
             // don't improve any dyeing recipes
         }
 
+        @Override
+        public boolean hasDynamicRecipes()
+        {
+            return true;
+        }
+
         @Override
         public IRecipeStorage getFirstRecipe(Predicate<ItemStack> stackPredicate)
         {
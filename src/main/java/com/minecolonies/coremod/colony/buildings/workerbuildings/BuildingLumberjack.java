@@ -21,6 +21,7 @@ import com.minecolonies.coremod.colony.buildings.modules.settings.BoolSetting;
 import com.minecolonies.coremod.colony.buildings.modules.settings.DynamicTreesSetting;
 import com.minecolonies.coremod.colony.buildings.modules.settings.SettingKey;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -98,6 +99,11 @@ public class BuildingLumberjack extends AbstractBuilding
      */
     private static final int FUNGI_MODIFIER = 10;
 
+    /**
+     * The index of the trees in the work zone, not saved.
+     */
+    private final TreeIndex treeIndex = new TreeIndex();
+
     /**
      * Public constructor of the building, creates an object of the building.
      *
@@ -345,6 +351,16 @@ public class BuildingLumberjack extends AbstractBuilding
         netherTrees.add(pos);
     }
 
+    /**
+     * Get the index of the trees in the work zone.
+     *
+     * @return the tree index.
+     */
+    public TreeIndex getTreeIndex()
+    {
+        return treeIndex;
+    }
+
     @Override
     public void onColonyTick(@NotNull final IColony colony)
     {
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony.crafting;
 
 import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.network.SyncDataCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.api.distmarker.Dist;
@@ -63,6 +64,7 @@ public class CustomRecipeManagerMessage implements IMessage
     {
         if (Minecraft.getInstance().level != null)
         {
+            SyncDataCache.storeReceived(SyncDataCache.Type.CUSTOM_RECIPES, managerBuffer);
             CustomRecipeManager.getInstance().handleCustomRecipeManagerMessage(managerBuffer);
         }
         managerBuffer.release();
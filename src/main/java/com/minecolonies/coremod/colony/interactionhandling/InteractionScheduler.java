@@ -0,0 +1,129 @@
+package com.minecolonies.coremod.colony.interactionhandling;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.interactionhandling.IInteractionResponseHandler;
+import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
+import com.minecolonies.coremod.colony.CitizenData;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+
+/**
+ * Timer wheel scheduling the validity checks of all citizen interactions of a colony.
+ * The wheel advances one slot per citizen data update round, only handlers due in the current slot are checked.
+ * Each interaction has at most one scheduled check, scheduling it again replaces the previous one.
+ */
+public class InteractionScheduler
+{
+    /**
+     * Ticks between two update rounds.
+     */
+    public static final int ROUND_TICKS = TICKS_SECOND * 3;
+
+    /**
+     * Amount of slots in the wheel, entries due later stay in their slot for another revolution.
+     */
+    private static final int SLOTS = 64;
+
+    /**
+     * The wheel slots.
+     */
+    private final List<List<ScheduledValidation>> wheel = new ArrayList<>(SLOTS);
+
+    /**
+     * The scheduled check of each interaction. Interactions are owned by a single citizen, so they identify the (citizen, interaction) pair.
+     */
+    private final Map<IInteractionResponseHandler, ScheduledValidation> scheduled = new IdentityHashMap<>();
+
+    /**
+     * The current round.
+     */
+    private long round = 0;
+
+    /**
+     * Create a new scheduler.
+     */
+    public InteractionScheduler()
+    {
+        for (int i = 0; i < SLOTS; i++)
+        {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedule the next validity check of an interaction, replacing the check already scheduled for it.
+     *
+     * @param citizen the citizen owning the interaction.
+     * @param handler the interaction.
+     * @param delay   the delay in ticks, checked in the next round at the earliest.
+     */
+    public void schedule(final ICitizenData citizen, final IInteractionResponseHandler handler, final int delay)
+    {
+        final long dueRound = round + Math.max(1, (delay + ROUND_TICKS - 1) / ROUND_TICKS);
+        final ScheduledValidation entry = new ScheduledValidation(citizen, handler, dueRound);
+        final ScheduledValidation previous = scheduled.put(handler, entry);
+        if (previous != null)
+        {
+            wheel.get((int) (previous.dueRound % SLOTS)).remove(previous);
+        }
+        wheel.get((int) (dueRound % SLOTS)).add(entry);
+    }
+
+    /**
+     * Advance the wheel by one round and check all due interactions.
+     *
+     * @param citizenManager the citizen manager of the colony, entries of citizens which are gone are dropped.
+     */
+    public void tick(final ICitizenManager citizenManager)
+    {
+        round++;
+        final List<ScheduledValidation> slot = wheel.get((int) (round % SLOTS));
+        if (slot.isEmpty())
+        {
+            return;
+        }
+
+        final List<ScheduledValidation> due = new ArrayList<>();
+        for (final Iterator<ScheduledValidation> iterator = slot.iterator(); iterator.hasNext(); )
+        {
+            final ScheduledValidation entry = iterator.next();
+            if (entry.dueRound <= round)
+            {
+                iterator.remove();
+                scheduled.remove(entry.handler, entry);
+                due.add(entry);
+            }
+        }
+
+        for (final ScheduledValidation entry : due)
+        {
+            if (citizenManager.getCivilian(entry.citizen.getId()) == entry.citizen && entry.citizen instanceof CitizenData)
+            {
+                ((CitizenData) entry.citizen).validateInteraction(entry.handler);
+            }
+        }
+    }
+
+    /**
+     * A scheduled validity check.
+     */
+    private static class ScheduledValidation
+    {
+        private final ICitizenData                citizen;
+        private final IInteractionResponseHandler handler;
+        private final long                        dueRound;
+
+        private ScheduledValidation(final ICitizenData citizen, final IInteractionResponseHandler handler, final long dueRound)
+        {
+            this.citizen = citizen;
+            this.handler = handler;
+            this.dueRound = dueRound;
+        }
+    }
+}
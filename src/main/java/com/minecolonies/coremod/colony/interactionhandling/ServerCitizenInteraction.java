@@ -41,6 +41,11 @@ public abstract class ServerCitizenInteraction extends AbstractInteractionRespon
     private static final String TAG_PARENTS      = "parents";
     private static final String TAG_VALIDATOR_ID = "validator";
 
+    /**
+     * Ticks between two validity checks, validators test slowly changing citizen and colony state.
+     */
+    private static final int VALIDATION_INTERVAL = TICKS_SECOND * 15;
+
     /**
      * At which world tick this should be displayed again.
      */
@@ -107,6 +112,12 @@ public abstract class ServerCitizenInteraction extends AbstractInteractionRespon
         return (validator == null && !this.parents.isEmpty()) || (validator != null && validator.test(citizen));
     }
 
+    @Override
+    public int getValidationInterval()
+    {
+        return VALIDATION_INTERVAL;
+    }
+
     /**
      * Add a parent to the list.
      *
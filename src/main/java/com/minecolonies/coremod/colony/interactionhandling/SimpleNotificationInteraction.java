@@ -11,6 +11,7 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import static com.minecolonies.api.colony.interactionhandling.ModInteractionResponseHandlers.SIMPLE_NOTIFICATION;
+import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
 
 /**
  * A simple interaction which displays until an acceptable response is clicked
@@ -73,4 +74,11 @@ public class SimpleNotificationInteraction extends StandardInteraction
     {
         return active;
     }
+
+    @Override
+    public int getValidationInterval()
+    {
+        // Only a response deactivates this, which triggers a check anyway.
+        return TICKS_FIVE_MIN;
+    }
 }
@@ -0,0 +1,199 @@
+package com.minecolonies.coremod.colony.jobs;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.AbstractDeliverymanRequestable;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Delivery;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Pickup;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.minecolonies.api.colony.requestsystem.requestable.deliveryman.AbstractDeliverymanRequestable.getMaxAgingPriority;
+
+/**
+ * The task queue of a courier as a route of stops, with the source and target positions of each queued request cached.
+ * Used to score new requests against the queue without looking up every queued request again.
+ */
+public class DeliveryRoute
+{
+    /**
+     * Cached stops by request token.
+     */
+    private final Map<IToken<?>, Stop> stops = new HashMap<>();
+
+    /**
+     * Lowest priority any stop of the route can have right now.
+     */
+    private int minPriority = 0;
+
+    /**
+     * Sync the route with the current task queue of the courier.
+     * Only requests which were not seen before are looked up.
+     *
+     * @param queue          the current task queue.
+     * @param requestManager the request manager to look up new requests.
+     */
+    public void update(final List<IToken<?>> queue, final IRequestManager requestManager)
+    {
+        if (stops.size() > queue.size())
+        {
+            stops.keySet().retainAll(new HashSet<>(queue));
+        }
+
+        minPriority = Integer.MAX_VALUE;
+        for (final IToken<?> token : queue)
+        {
+            Stop stop = stops.get(token);
+            if (stop == null)
+            {
+                final IRequest<?> request = requestManager.getRequestForToken(token);
+                if (request == null || !(request.getRequest() instanceof AbstractDeliverymanRequestable))
+                {
+                    continue;
+                }
+
+                stop = new Stop(request);
+                stops.put(token, stop);
+            }
+            minPriority = Math.min(minPriority, stop.minPriority);
+        }
+
+        if (minPriority == Integer.MAX_VALUE)
+        {
+            minPriority = 0;
+        }
+    }
+
+    /**
+     * Get the stop of a queued request.
+     *
+     * @param token the request token.
+     * @return the stop or null if the request isn't a delivery or pickup.
+     */
+    @Nullable
+    public Stop getStop(final IToken<?> token)
+    {
+        return stops.get(token);
+    }
+
+    /**
+     * Get the lowest priority any stop on the route can have.
+     * Used as lower bound to stop scoring once no earlier stop can beat the best score anymore.
+     *
+     * @return the priority.
+     */
+    public int getMinPriority()
+    {
+        return minPriority;
+    }
+
+    /**
+     * A single stop of the route.
+     */
+    public static class Stop
+    {
+        /**
+         * Source position of a delivery, null for pickups which start at the warehouse of the courier.
+         */
+        @Nullable
+        private final BlockPos source;
+
+        /**
+         * Target position of the request.
+         */
+        @Nullable
+        private final BlockPos target;
+
+        /**
+         * Whether the stop is a delivery or a pickup.
+         */
+        private final boolean isDelivery;
+        private final boolean isPickup;
+
+        /**
+         * Lower bound of the priority. Aging only increases priorities up to the max aging priority.
+         */
+        private final int minPriority;
+
+        /**
+         * Create a new stop from a request.
+         *
+         * @param request the request.
+         */
+        private Stop(final IRequest<?> request)
+        {
+            this.isDelivery = request.getRequest() instanceof Delivery;
+            this.isPickup = request.getRequest() instanceof Pickup;
+            if (isDelivery)
+            {
+                this.source = ((Delivery) request.getRequest()).getStart().getInDimensionLocation();
+                this.target = ((Delivery) request.getRequest()).getTarget().getInDimensionLocation();
+            }
+            else
+            {
+                this.source = null;
+                this.target = isPickup ? request.getRequester().getLocation().getInDimensionLocation() : null;
+            }
+            this.minPriority = Math.min(getMaxAgingPriority(true), ((AbstractDeliverymanRequestable) request.getRequest()).getPriority());
+        }
+
+        /**
+         * Get the source position of the stop.
+         *
+         * @param wareHouse the warehouse position of the courier, start of pickups.
+         * @return the source.
+         */
+        @Nullable
+        public BlockPos getSource(@Nullable final BlockPos wareHouse)
+        {
+            return isPickup ? wareHouse : source;
+        }
+
+        /**
+         * Get the target position of the stop.
+         *
+         * @return the target.
+         */
+        @Nullable
+        public BlockPos getTarget()
+        {
+            return target;
+        }
+
+        /**
+         * Check if the stop is a delivery.
+         *
+         * @return true if so.
+         */
+        public boolean isDelivery()
+        {
+            return isDelivery;
+        }
+
+        /**
+         * Check if the stop is a pickup.
+         *
+         * @return true if so.
+         */
+        public boolean isPickup()
+        {
+            return isPickup;
+        }
+
+        /**
+         * Get the lower bound of the priority of the stop.
+         *
+         * @return the priority.
+         */
+        public int getMinPriority()
+        {
+            return minPriority;
+        }
+    }
+}
@@ -60,6 +60,11 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     private int ongoingDeliveries;
 
+    /**
+     * Cached route of the task queue, used for scoring new requests.
+     */
+    private final DeliveryRoute route = new DeliveryRoute();
+
     /**
      * Instantiates the job for the deliveryman.
      *
@@ -462,7 +467,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     @NotNull
     public Tuple<Double, Integer> getScoreForDelivery(final IRequest<?> newRequest)
     {
-        final List<IToken<?>> requestTokens = getTaskQueueFromDataStore();
+        final List<IToken<?>> requestTokens = new ArrayList<>(getTaskQueueFromDataStore());
 
         double totalScore = 10000;
         int bestRequestIndex = Math.max(0, requestTokens.size());
@@ -477,20 +482,49 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
 
             totalScore -= ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority();
         }
-
-        for (int i = 0; i < requestTokens.size(); i++)
+        else if (newRequest.getRequest() instanceof AbstractDeliverymanRequestable)
         {
-            final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestTokens.get(i));
-            if (compareRequest == null)
-            {
-                continue;
-            }
+            final IRequestManager requestManager = getColony().getRequestManager();
+            route.update(requestTokens, requestManager);
 
-            if (compareRequest.getRequest() instanceof AbstractDeliverymanRequestable)
+            final IWareHouse wareHouse = findWareHouse();
+            final BlockPos wareHousePos = wareHouse == null ? null : wareHouse.getID();
+            final BlockPos newSource = newRequest.getRequest() instanceof Pickup ? wareHousePos : getSource(newRequest);
+            final BlockPos newTarget = getTarget(newRequest);
+            final int newPriority = ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority();
+            final double minPriorityScore = (route.getMinPriority() - newPriority) * 0.5;
+
+            // Walk the queue from the back, the overtake penalty only grows towards the front, so once it alone can't beat the best score we're done.
+            for (int i = requestTokens.size() - 1; i >= 0; i--)
             {
-                double score = getScoreOfRequestComparedTo(newRequest, compareRequest, i);
+                final int overtakeScore = requestTokens.size() - i;
+                if (overtakeScore + minPriorityScore >= totalScore)
+                {
+                    break;
+                }
+
+                final DeliveryRoute.Stop stop = route.getStop(requestTokens.get(i));
+                if (stop == null)
+                {
+                    continue;
+                }
+
+                final double spatialScore = getClosenessFactorTo(newSource, newTarget, stop.getSource(wareHousePos), stop.getTarget())
+                                              + getPickUpRequestScore(newRequest, stop.isPickup(), stop.isDelivery())
+                                              + overtakeScore;
+                if (spatialScore + (stop.getMinPriority() - newPriority) * 0.5 >= totalScore)
+                {
+                    continue;
+                }
 
-                if (score <= totalScore)
+                final IRequest<?> compareRequest = requestManager.getRequestForToken(requestTokens.get(i));
+                if (compareRequest == null || !(compareRequest.getRequest() instanceof AbstractDeliverymanRequestable))
+                {
+                    continue;
+                }
+
+                final double score = spatialScore + (((AbstractDeliverymanRequestable) compareRequest.getRequest()).getPriority() - newPriority) * 0.5;
+                if (score < totalScore)
                 {
                     bestRequestIndex = i + getPickupOrRequestOffset(newRequest, compareRequest);
                     totalScore = score;
@@ -528,7 +562,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         score += getPickUpRequestScore(source, comparing);
 
         // Worse score the more requests we have to overtake
-        score += getTaskQueue().size() - comparingIndex;
+        score += getTaskQueueFromDataStore().size() - comparingIndex;
 
         return score;
     }
@@ -560,8 +594,21 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     private static int getPickUpRequestScore(final IRequest<?> newRequest, final IRequest<?> existing)
     {
-        if (newRequest.getRequest() instanceof Pickup && existing.getRequest() instanceof Delivery
-              || newRequest.getRequest() instanceof Delivery && existing.getRequest() instanceof Pickup)
+        return getPickUpRequestScore(newRequest, existing.getRequest() instanceof Pickup, existing.getRequest() instanceof Delivery);
+    }
+
+    /**
+     * Score for how nicely pickups and deliveries alternate
+     *
+     * @param newRequest         the new request
+     * @param existingIsPickup   whether the existing request is a pickup
+     * @param existingIsDelivery whether the existing request is a delivery
+     * @return better score for when alternating deliveries and pickups nicely
+     */
+    private static int getPickUpRequestScore(final IRequest<?> newRequest, final boolean existingIsPickup, final boolean existingIsDelivery)
+    {
+        if (newRequest.getRequest() instanceof Pickup && existingIsDelivery
+              || newRequest.getRequest() instanceof Delivery && existingIsPickup)
         {
             return 0;
         }
@@ -0,0 +1,144 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index over one snapshot of the buildings of a colony.
+ * Buildings are bucketed spatially by chunk up front, the class and module indexes are filled on the first query of each class.
+ * The building map of the colony is immutable and replaced on every change, so an index is simply dropped once its snapshot is outdated.
+ */
+public class BuildingRegistryIndex
+{
+    /**
+     * The snapshot this index was built for.
+     */
+    private final Map<BlockPos, IBuilding> buildings;
+
+    /**
+     * The buildings by chunk of their position.
+     */
+    private final Long2ObjectOpenHashMap<List<IBuilding>> byChunk = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The buildings by building class or interface.
+     */
+    private final Map<Class<?>, List<IBuilding>> byClass = new ConcurrentHashMap<>();
+
+    /**
+     * The buildings by module class or interface.
+     */
+    private final Map<Class<?>, List<IBuilding>> byModule = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new index for a snapshot.
+     *
+     * @param buildings the immutable building map.
+     */
+    public BuildingRegistryIndex(@NotNull final Map<BlockPos, IBuilding> buildings)
+    {
+        this.buildings = buildings;
+        for (final IBuilding building : buildings.values())
+        {
+            byChunk.computeIfAbsent(ChunkPos.asLong(building.getPosition()), key -> new ArrayList<>()).add(building);
+        }
+    }
+
+    /**
+     * Check if this index still belongs to the given snapshot.
+     *
+     * @param snapshot the current building map.
+     * @return true if so.
+     */
+    public boolean isFor(@NotNull final Map<BlockPos, IBuilding> snapshot)
+    {
+        return buildings == snapshot;
+    }
+
+    /**
+     * Get all buildings of a class or implementing an interface.
+     *
+     * @param clazz the building class or interface.
+     * @param <T>   the building type.
+     * @return the unmodifiable list of buildings.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IBuilding> List<T> getBuildingsOfType(@NotNull final Class<T> clazz)
+    {
+        return (List<T>) byClass.computeIfAbsent(clazz, key -> {
+            final List<IBuilding> result = new ArrayList<>();
+            for (final IBuilding building : buildings.values())
+            {
+                if (key.isInstance(building))
+                {
+                    result.add(building);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        });
+    }
+
+    /**
+     * Get all buildings with a module of a class or implementing an interface.
+     *
+     * @param clazz the module class or interface.
+     * @return the unmodifiable list of buildings.
+     */
+    public List<IBuilding> getBuildingsWithModule(@NotNull final Class<? extends IBuildingModule> clazz)
+    {
+        return byModule.computeIfAbsent(clazz, key -> {
+            final List<IBuilding> result = new ArrayList<>();
+            for (final IBuilding building : buildings.values())
+            {
+                if (building.hasModule(clazz))
+                {
+                    result.add(building);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        });
+    }
+
+    /**
+     * Get all buildings whose position is inside a box.
+     *
+     * @param box the box.
+     * @return the buildings.
+     */
+    public List<IBuilding> getBuildingsWithin(@NotNull final BoundingBox box)
+    {
+        final List<IBuilding> result = new ArrayList<>();
+        for (int chunkX = SectionPos.blockToSectionCoord(box.minX()); chunkX <= SectionPos.blockToSectionCoord(box.maxX()); chunkX++)
+        {
+            for (int chunkZ = SectionPos.blockToSectionCoord(box.minZ()); chunkZ <= SectionPos.blockToSectionCoord(box.maxZ()); chunkZ++)
+            {
+                final List<IBuilding> chunkBuildings = byChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (chunkBuildings == null)
+                {
+                    continue;
+                }
+
+                for (final IBuilding building : chunkBuildings)
+                {
+                    if (box.isInside(building.getPosition()))
+                    {
+                        result.add(building);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
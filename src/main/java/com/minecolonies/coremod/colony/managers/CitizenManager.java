@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.HiringMode;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.citizens.event.CitizenAddedEvent;
+import com.minecolonies.api.colony.interactionhandling.IInteractionResponseHandler;
 import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
 import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.citizen.AbstractCivilianEntity;
@@ -27,6 +28,7 @@ import com.minecolonies.coremod.colony.buildings.modules.BuildingModules;
 import com.minecolonies.coremod.colony.buildings.modules.LivingBuildingModule;
 import com.minecolonies.coremod.colony.buildings.modules.WorkAtHomeBuildingModule;
 import com.minecolonies.coremod.colony.colonyEvents.citizenEvents.CitizenSpawnedEvent;
+import com.minecolonies.coremod.colony.interactionhandling.InteractionScheduler;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobUndertaker;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
@@ -101,6 +103,11 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean areCitizensSleeping;
 
+    /**
+     * Schedules the validity checks of the citizen interactions.
+     */
+    private final InteractionScheduler interactionScheduler = new InteractionScheduler();
+
     /**
      * Creates the Citizenmanager for a colony.
      *
@@ -222,7 +229,7 @@ public class CitizenManager implements ICitizenManager
                 if (citizen.isDirty() || !newSubscribers.isEmpty())
                 {
                     final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen);
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                    Network.getNetwork().sendToPlayers(message, players);
                 }
             }
         }
@@ -323,6 +330,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCivilian();
         citizens.put(citizenData.getId(), citizenData);
+        colony.getQuestManager().onTriggerInputChanged();
         return citizenData;
     }
 
@@ -348,6 +356,7 @@ public class CitizenManager implements ICitizenManager
         final ICitizenData citizenData = deserializeCitizen(compoundNBT);
         citizenData.onResurrect();
         citizens.put(citizenData.getId(), citizenData);
+        colony.getQuestManager().onTriggerInputChanged();
         spawnOrCreateCitizen(citizenData, world, spawnPos);
 
         MinecraftForge.EVENT_BUS.post(new CitizenAddedEvent(citizenData, CitizenAddedEvent.Source.RESURRECTED));
@@ -554,9 +563,16 @@ public class CitizenManager implements ICitizenManager
         {
             iCitizenData.update();
         }
+        interactionScheduler.tick(this);
         return false;
     }
 
+    @Override
+    public void scheduleInteractionValidation(final ICitizenData citizen, final IInteractionResponseHandler handler, final int delay)
+    {
+        interactionScheduler.schedule(citizen, handler, delay);
+    }
+
     /**
      * Updates the citizen entities when needed and spawn the initial citizens on colony tick.
      *
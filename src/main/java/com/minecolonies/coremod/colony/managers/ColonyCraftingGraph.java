@@ -0,0 +1,375 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.modules.ICraftingBuildingModule;
+import com.minecolonies.api.colony.managers.interfaces.IColonyCraftingGraph;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Crafting graph of a colony. Items point to the recipes producing them and the modules holding those recipes, recipes point to their input items.
+ * Changed modules are only marked, they are re-indexed on the next query, so bulk changes (e.g. loading a colony) cost one pass and the recipe manager is complete by then.
+ */
+public class ColonyCraftingGraph implements IColonyCraftingGraph
+{
+    /**
+     * Modules whose recipes changed since the last query.
+     */
+    private final Set<ICraftingBuildingModule> dirtyModules = new HashSet<>();
+
+    /**
+     * The indexed enabled recipes of each module.
+     */
+    private final Map<ICraftingBuildingModule, Map<IToken<?>, IRecipeStorage>> moduleRecipes = new HashMap<>();
+
+    /**
+     * The distinct outputs of the indexed recipes of each module.
+     */
+    private final Map<ICraftingBuildingModule, List<ItemStack>> moduleOutputs = new HashMap<>();
+
+    /**
+     * Output item to recipe to the modules holding the recipe.
+     */
+    private final Map<Item, Map<IToken<?>, Set<ICraftingBuildingModule>>> producers = new HashMap<>();
+
+    /**
+     * The indexed recipes, shared by all modules holding them.
+     */
+    private final Map<IToken<?>, IRecipeStorage> recipes = new HashMap<>();
+
+    /**
+     * Cached results of the cycle query, cleared whenever the graph changes.
+     */
+    private final Map<Item, Boolean> cyclicCache = new HashMap<>();
+
+    /**
+     * Indexed modules which produce recipes on demand, those recipes have no edges in the graph.
+     */
+    private final Set<ICraftingBuildingModule> dynamicModules = new HashSet<>();
+
+    @Override
+    public void onRecipesChanged(@NotNull final ICraftingBuildingModule module)
+    {
+        dirtyModules.add(module);
+    }
+
+    @Override
+    public void onBuildingRemoved(@NotNull final IBuilding building)
+    {
+        dirtyModules.removeIf(module -> module.getBuilding() == building);
+        dynamicModules.removeIf(module -> module.getBuilding() == building);
+        for (final ICraftingBuildingModule module : new ArrayList<>(moduleRecipes.keySet()))
+        {
+            if (module.getBuilding() == building)
+            {
+                for (final Map.Entry<IToken<?>, IRecipeStorage> entry : moduleRecipes.remove(module).entrySet())
+                {
+                    unlink(module, entry.getKey(), entry.getValue());
+                }
+                moduleOutputs.remove(module);
+                cyclicCache.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean canProduce(@NotNull final ICraftingBuildingModule module, @NotNull final Predicate<ItemStack> stackPredicate)
+    {
+        flush();
+        for (final ItemStack output : moduleOutputs.getOrDefault(module, Collections.emptyList()))
+        {
+            if (stackPredicate.test(output))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<ICraftingBuildingModule> getProducers(@NotNull final Item item)
+    {
+        flush();
+        final Set<ICraftingBuildingModule> result = new HashSet<>();
+        for (final Set<ICraftingBuildingModule> modules : producers.getOrDefault(item, Collections.emptyMap()).values())
+        {
+            result.addAll(modules);
+        }
+        return result;
+    }
+
+    @Override
+    public List<Item> getShortestChain(@NotNull final Item output, @NotNull final Item ingredient)
+    {
+        flush();
+        final Map<Item, Item> parents = new HashMap<>();
+        final Deque<Item> queue = new ArrayDeque<>();
+        parents.put(output, output);
+        queue.add(output);
+
+        while (!queue.isEmpty())
+        {
+            final Item current = queue.poll();
+            for (final Item input : getInputs(current))
+            {
+                if (input == ingredient)
+                {
+                    final LinkedList<Item> chain = new LinkedList<>();
+                    chain.addFirst(ingredient);
+                    for (Item step = current; step != output; step = parents.get(step))
+                    {
+                        chain.addFirst(step);
+                    }
+                    chain.addFirst(output);
+                    return chain;
+                }
+
+                if (!parents.containsKey(input))
+                {
+                    parents.put(input, current);
+                    queue.add(input);
+                }
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isCyclic(@NotNull final Item item)
+    {
+        flush();
+        final Boolean cached = cyclicCache.get(item);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final boolean cyclic = !getShortestChain(item, item).isEmpty();
+        cyclicCache.put(item, cyclic);
+        return cyclic;
+    }
+
+    @Override
+    public boolean hasDynamicProducers()
+    {
+        flush();
+        return !dynamicModules.isEmpty();
+    }
+
+    @Override
+    public void clear()
+    {
+        dirtyModules.clear();
+        dynamicModules.clear();
+        moduleRecipes.clear();
+        moduleOutputs.clear();
+        producers.clear();
+        recipes.clear();
+        cyclicCache.clear();
+    }
+
+    /**
+     * Re-index all modules which changed since the last query.
+     */
+    private void flush()
+    {
+        if (dirtyModules.isEmpty())
+        {
+            return;
+        }
+
+        for (final ICraftingBuildingModule module : dirtyModules)
+        {
+            reindex(module);
+        }
+        dirtyModules.clear();
+        cyclicCache.clear();
+    }
+
+    /**
+     * Re-index a module, only links and unlinks the recipes which were added or removed since it was indexed last.
+     *
+     * @param module the module.
+     */
+    private void reindex(final ICraftingBuildingModule module)
+    {
+        if (module.hasDynamicRecipes())
+        {
+            dynamicModules.add(module);
+        }
+
+        final Map<IToken<?>, IRecipeStorage> previous = moduleRecipes.getOrDefault(module, Collections.emptyMap());
+        final Map<IToken<?>, IRecipeStorage> current = new HashMap<>();
+        for (final IToken<?> token : module.getRecipes())
+        {
+            if (module.isDisabled(token))
+            {
+                continue;
+            }
+
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
+            if (storage != null)
+            {
+                current.put(token, storage);
+            }
+        }
+
+        for (final Map.Entry<IToken<?>, IRecipeStorage> entry : previous.entrySet())
+        {
+            if (!current.containsKey(entry.getKey()))
+            {
+                unlink(module, entry.getKey(), entry.getValue());
+            }
+        }
+
+        for (final Map.Entry<IToken<?>, IRecipeStorage> entry : current.entrySet())
+        {
+            if (!previous.containsKey(entry.getKey()))
+            {
+                link(module, entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (current.isEmpty())
+        {
+            moduleRecipes.remove(module);
+            moduleOutputs.remove(module);
+            return;
+        }
+
+        final List<ItemStack> outputs = new ArrayList<>();
+        for (final IRecipeStorage storage : current.values())
+        {
+            for (final ItemStack output : getOutputs(storage))
+            {
+                if (outputs.stream().noneMatch(existing -> ItemStack.isSameItemSameTags(existing, output)))
+                {
+                    outputs.add(output);
+                }
+            }
+        }
+        moduleRecipes.put(module, current);
+        moduleOutputs.put(module, outputs);
+    }
+
+    /**
+     * Add the edges of a recipe held by a module.
+     *
+     * @param module  the module.
+     * @param token   the recipe token.
+     * @param storage the recipe.
+     */
+    private void link(final ICraftingBuildingModule module, final IToken<?> token, final IRecipeStorage storage)
+    {
+        recipes.put(token, storage);
+        for (final ItemStack output : getOutputs(storage))
+        {
+            producers.computeIfAbsent(output.getItem(), item -> new HashMap<>()).computeIfAbsent(token, key -> new HashSet<>()).add(module);
+        }
+    }
+
+    /**
+     * Remove the edges of a recipe held by a module, drops the recipe once no module holds it anymore.
+     *
+     * @param module  the module.
+     * @param token   the recipe token.
+     * @param storage the recipe.
+     */
+    private void unlink(final ICraftingBuildingModule module, final IToken<?> token, final IRecipeStorage storage)
+    {
+        boolean stillUsed = false;
+        for (final ItemStack output : getOutputs(storage))
+        {
+            final Map<IToken<?>, Set<ICraftingBuildingModule>> itemRecipes = producers.get(output.getItem());
+            if (itemRecipes == null)
+            {
+                continue;
+            }
+
+            final Set<ICraftingBuildingModule> modules = itemRecipes.get(token);
+            if (modules != null)
+            {
+                modules.remove(module);
+                if (modules.isEmpty())
+                {
+                    itemRecipes.remove(token);
+                }
+                else
+                {
+                    stillUsed = true;
+                }
+            }
+
+            if (itemRecipes.isEmpty())
+            {
+                producers.remove(output.getItem());
+            }
+        }
+
+        if (!stillUsed)
+        {
+            recipes.remove(token);
+        }
+    }
+
+    /**
+     * Get the input items of all recipes producing an item.
+     *
+     * @param item the item.
+     * @return the inputs.
+     */
+    private Set<Item> getInputs(final Item item)
+    {
+        final Map<IToken<?>, Set<ICraftingBuildingModule>> itemRecipes = producers.get(item);
+        if (itemRecipes == null)
+        {
+            return Collections.emptySet();
+        }
+
+        final Set<Item> inputs = new HashSet<>();
+        for (final IToken<?> token : itemRecipes.keySet())
+        {
+            final IRecipeStorage storage = recipes.get(token);
+            if (storage != null)
+            {
+                for (final ItemStorage input : storage.getCleanedInput())
+                {
+                    inputs.add(input.getItem());
+                }
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Get the non empty outputs of a recipe.
+     *
+     * @param storage the recipe.
+     * @return the primary and alternate outputs.
+     */
+    private static List<ItemStack> getOutputs(final IRecipeStorage storage)
+    {
+        final List<ItemStack> outputs = new ArrayList<>();
+        if (!storage.getPrimaryOutput().isEmpty())
+        {
+            outputs.add(storage.getPrimaryOutput());
+        }
+        for (final ItemStack alternate : storage.getAlternateOutputs())
+        {
+            if (!alternate.isEmpty())
+            {
+                outputs.add(alternate);
+            }
+        }
+        return outputs;
+    }
+}
@@ -0,0 +1,252 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.managers.interfaces.IColonyEntityIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+
+/**
+ * Entity index of a colony. Keeps one bucket per building and requested entity type, containing all entities within the chunk sections the building touches.
+ */
+public class ColonyEntityIndex implements IColonyEntityIndex
+{
+    /**
+     * Ticks after which a bucket is rebuilt from the world, covers events we might have missed (e.g. entities loading in before their chunk).
+     */
+    private static final int REFRESH_INTERVAL = TICKS_SECOND * 30;
+
+    /**
+     * Ticks after which an unused bucket is dropped.
+     */
+    private static final int EVICT_INTERVAL = TICKS_SECOND * 60;
+
+    /**
+     * Margin around the building the world lookup also considers, same as the vanilla entity lookup.
+     */
+    private static final double ENTITY_SEARCH_MARGIN = 2.0D;
+
+    /**
+     * The buckets, by building id and entity type.
+     */
+    private final Map<BlockPos, Map<Class<? extends Entity>, EntityBucket>> buckets = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> List<? extends T> getEntitiesWithinBuilding(
+      @NotNull final Level world,
+      @NotNull final IBuilding building,
+      @NotNull final Class<? extends T> clazz,
+      @Nullable final Predicate<? super T> predicate)
+    {
+        final Tuple<BlockPos, BlockPos> corners = building.getCorners();
+        final AABB bounds = new AABB(corners.getA().getX(), corners.getA().getY(), corners.getA().getZ(), corners.getB().getX(), corners.getB().getY(), corners.getB().getZ());
+        final long gameTime = world.getGameTime();
+
+        final Map<Class<? extends Entity>, EntityBucket> buildingBuckets = buckets.computeIfAbsent(building.getID(), id -> new HashMap<>());
+        EntityBucket bucket = buildingBuckets.get(clazz);
+        if (bucket == null || !bucket.bounds.equals(bounds) || gameTime - bucket.lastRefresh > REFRESH_INTERVAL)
+        {
+            bucket = new EntityBucket(clazz, bounds);
+            bucket.refresh(world, gameTime);
+            buildingBuckets.put(clazz, bucket);
+        }
+        bucket.lastAccess = gameTime;
+
+        final List<T> result = new ArrayList<>();
+        for (final Iterator<Entity> iterator = bucket.entities.iterator(); iterator.hasNext(); )
+        {
+            final Entity entity = iterator.next();
+            if (entity.isRemoved())
+            {
+                iterator.remove();
+                continue;
+            }
+
+            if (!entity.isSpectator() && entity.getBoundingBox().intersects(bounds) && (predicate == null || predicate.test((T) entity)))
+            {
+                result.add((T) entity);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void onEntityAdded(@NotNull final Entity entity)
+    {
+        final BlockPos pos = entity.blockPosition();
+        onEntitySectionChange(entity, SectionPos.of(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ())));
+    }
+
+    @Override
+    public void onEntityRemoved(@NotNull final Entity entity)
+    {
+        for (final Map<Class<? extends Entity>, EntityBucket> buildingBuckets : buckets.values())
+        {
+            for (final EntityBucket bucket : buildingBuckets.values())
+            {
+                bucket.entities.remove(entity);
+            }
+        }
+    }
+
+    @Override
+    public void onEntitySectionChange(@NotNull final Entity entity, @NotNull final SectionPos section)
+    {
+        for (final Map<Class<? extends Entity>, EntityBucket> buildingBuckets : buckets.values())
+        {
+            for (final EntityBucket bucket : buildingBuckets.values())
+            {
+                if (!bucket.type.isInstance(entity))
+                {
+                    continue;
+                }
+
+                if (bucket.contains(section))
+                {
+                    bucket.entities.add(entity);
+                }
+                else
+                {
+                    bucket.entities.remove(entity);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onColonyTick(@NotNull final IColony colony)
+    {
+        if (colony.getWorld() == null)
+        {
+            buckets.clear();
+            return;
+        }
+
+        final long gameTime = colony.getWorld().getGameTime();
+        for (final Iterator<Map.Entry<BlockPos, Map<Class<? extends Entity>, EntityBucket>>> iterator = buckets.entrySet().iterator(); iterator.hasNext(); )
+        {
+            final Map.Entry<BlockPos, Map<Class<? extends Entity>, EntityBucket>> entry = iterator.next();
+            if (colony.getBuildingManager().getBuilding(entry.getKey()) == null)
+            {
+                iterator.remove();
+                continue;
+            }
+
+            entry.getValue().values().removeIf(bucket -> gameTime - bucket.lastAccess > EVICT_INTERVAL);
+            if (entry.getValue().isEmpty())
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        buckets.clear();
+    }
+
+    /**
+     * All entities of one type within the chunk sections of a building.
+     */
+    private static class EntityBucket
+    {
+        /**
+         * The entity type of the bucket.
+         */
+        private final Class<? extends Entity> type;
+
+        /**
+         * The exact building bounds.
+         */
+        private final AABB bounds;
+
+        /**
+         * The covered section range.
+         */
+        private final int minSectionX;
+        private final int minSectionY;
+        private final int minSectionZ;
+        private final int maxSectionX;
+        private final int maxSectionY;
+        private final int maxSectionZ;
+
+        /**
+         * The entities in the covered sections.
+         */
+        private final Set<Entity> entities = new LinkedHashSet<>();
+
+        /**
+         * Game time of the last rebuild from the world.
+         */
+        private long lastRefresh;
+
+        /**
+         * Game time of the last lookup.
+         */
+        private long lastAccess;
+
+        /**
+         * Create a new bucket.
+         *
+         * @param type   the entity type.
+         * @param bounds the building bounds.
+         */
+        private EntityBucket(final Class<? extends Entity> type, final AABB bounds)
+        {
+            this.type = type;
+            this.bounds = bounds;
+            this.minSectionX = SectionPos.blockToSectionCoord(Mth.floor(bounds.minX - ENTITY_SEARCH_MARGIN));
+            this.minSectionY = SectionPos.blockToSectionCoord(Mth.floor(bounds.minY - ENTITY_SEARCH_MARGIN));
+            this.minSectionZ = SectionPos.blockToSectionCoord(Mth.floor(bounds.minZ - ENTITY_SEARCH_MARGIN));
+            this.maxSectionX = SectionPos.blockToSectionCoord(Mth.floor(bounds.maxX + ENTITY_SEARCH_MARGIN));
+            this.maxSectionY = SectionPos.blockToSectionCoord(Mth.floor(bounds.maxY + ENTITY_SEARCH_MARGIN));
+            this.maxSectionZ = SectionPos.blockToSectionCoord(Mth.floor(bounds.maxZ + ENTITY_SEARCH_MARGIN));
+        }
+
+        /**
+         * Rebuild the bucket from the world.
+         *
+         * @param world    the world to query.
+         * @param gameTime the current game time.
+         */
+        private void refresh(final Level world, final long gameTime)
+        {
+            entities.clear();
+            entities.addAll(world.getEntitiesOfClass(type, new AABB(
+              SectionPos.sectionToBlockCoord(minSectionX),
+              SectionPos.sectionToBlockCoord(minSectionY),
+              SectionPos.sectionToBlockCoord(minSectionZ),
+              SectionPos.sectionToBlockCoord(maxSectionX + 1),
+              SectionPos.sectionToBlockCoord(maxSectionY + 1),
+              SectionPos.sectionToBlockCoord(maxSectionZ + 1))));
+            lastRefresh = gameTime;
+        }
+
+        /**
+         * Check if a section is covered by this bucket.
+         *
+         * @param section the section to check.
+         * @return true if so.
+         */
+        private boolean contains(final SectionPos section)
+        {
+            return section.x() >= minSectionX && section.x() <= maxSectionX
+                     && section.y() >= minSectionY && section.y() <= maxSectionY
+                     && section.z() >= minSectionZ && section.z() <= maxSectionZ;
+        }
+    }
+}
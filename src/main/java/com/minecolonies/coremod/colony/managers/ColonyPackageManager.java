@@ -256,7 +256,7 @@ public class ColonyPackageManager implements IColonyPackageManager
 
             List<IWorkOrder> workOrders = new ArrayList<>(workManager.getWorkOrders().values());
             final ColonyViewWorkOrderMessage message = new ColonyViewWorkOrderMessage(colony, workOrders);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+            Network.getNetwork().sendToPlayers(message, players);
 
             workManager.setDirty(false);
         }
@@ -18,6 +18,7 @@ import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonySaveFormat;
 import com.minecolonies.coremod.colony.buildings.modules.LivingBuildingModule;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingGuardTower;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
@@ -49,6 +50,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -98,6 +100,7 @@ public class RaidManager implements IRaiderManager
      */
     private static final String TAG_RAID_DIFFICULTY = "difficulty";
     private static final String TAG_LOST_CITIZENS   = "lostCitizens";
+    private static final String TAG_LAST_RAID       = "lastRaid";
 
     /**
      * Min required raidlevel
@@ -189,6 +192,13 @@ public class RaidManager implements IRaiderManager
      */
     private List<RaidHistory> raidHistories = new ArrayList<>();
 
+    /**
+     * The latest raid, also the last entry of the history. Saved with the colony core, so the nightly difficulty check, the lost citizen tracking and the colony view
+     * don't load the lazy raid history.
+     */
+    @Nullable
+    private RaidHistory lastRaid = null;
+
     /**
      * If ships will be allowed or not.
      */
@@ -298,7 +308,9 @@ public class RaidManager implements IRaiderManager
             return RaidSpawnResult.NO_SPAWN_POINT;
         }
 
-        raidHistories.add(new RaidHistory(amount, colony.getWorld().getGameTime()));
+        final RaidHistory raid = new RaidHistory(amount, colony.getWorld().getGameTime());
+        getRaidHistories().add(raid);
+        lastRaid = raid;
         nightsSinceLastRaid = 0;
         raidTonight = false;
         amount = (int) Math.ceil((float) amount / spawnPoints.size());
@@ -381,7 +393,7 @@ public class RaidManager implements IRaiderManager
                 colony.getEventManager().addEvent(event);
             }
 
-            raidHistories.get(raidHistories.size() - 1).spawnData.add(new RaidSpawnInfo(raidEvent.getEventTypeID(), targetSpawnPoint));
+            getLastRaid().spawnData.add(new RaidSpawnInfo(raidEvent.getEventTypeID(), targetSpawnPoint));
         }
         colony.markDirty();
         return RaidSpawnResult.SUCCESS;
@@ -600,12 +612,12 @@ public class RaidManager implements IRaiderManager
     @Override
     public List<BlockPos> getLastSpawnPoints()
     {
-        if (raidHistories.isEmpty())
+        final RaidHistory last = getLastRaid();
+        if (last == null)
         {
             return List.of();
         }
 
-        final RaidHistory last = raidHistories.get(raidHistories.size() - 1);
         return last.spawnData.stream().map(raidSpawnInfo -> raidSpawnInfo.spawnpos).collect(Collectors.toList());
     }
 
@@ -646,9 +658,9 @@ public class RaidManager implements IRaiderManager
         {
             if (nightsSinceLastRaid == 0)
             {
-                if (!raidHistories.isEmpty())
+                final RaidHistory history = getLastRaid();
+                if (history != null)
                 {
-                    RaidHistory history = raidHistories.get(raidHistories.size() - 1);
                     final double lostPct = (double) history.lostCitizens / colony.getCitizenManager().getMaxCitizens();
                     if (lostPct > LOST_CITIZEN_DIFF_REDUCE_PCT)
                     {
@@ -830,12 +842,12 @@ public class RaidManager implements IRaiderManager
             return;
         }
 
-        if (raidHistories.isEmpty())
+        final RaidHistory history = getLastRaid();
+        if (history == null)
         {
             return;
         }
 
-        final RaidHistory history = raidHistories.get(raidHistories.size() - 1);
         if (citizen.getJob() instanceof AbstractJobGuard)
         {
             history.lostCitizens++;
@@ -864,6 +876,16 @@ public class RaidManager implements IRaiderManager
         compound.putBoolean(TAG_RAIDABLE, canHaveRaiderEvents());
         compound.putInt(TAG_NIGHTS_SINCE_LAST_RAID, getNightsSinceLastRaid());
         compound.putInt(TAG_RAID_DIFFICULTY, raidDifficulty);
+        if (lastRaid != null)
+        {
+            compound.put(TAG_LAST_RAID, lastRaid.write());
+        }
+
+        if (colony.hasLazySection(ColonySaveFormat.SECTION_RAIDS))
+        {
+            // Not loaded yet, the colony writes the saved section back as it is.
+            return;
+        }
 
         ListTag nbtList = new ListTag();
         for (final RaidHistory history : raidHistories)
@@ -891,7 +913,17 @@ public class RaidManager implements IRaiderManager
         }
 
         raidDifficulty = Mth.clamp(compound.getInt(TAG_RAID_DIFFICULTY), MIN_RAID_DIFFICULTY, MAX_RAID_DIFFICULTY);
+        lastRaid = compound.contains(TAG_LAST_RAID) ? RaidHistory.fromNBT(compound.getCompound(TAG_LAST_RAID)) : null;
+        readHistory(compound);
+    }
 
+    /**
+     * Read the raid history, either with the colony or on first access if it was saved as lazy section.
+     *
+     * @param compound the compound containing the history.
+     */
+    public void readHistory(final CompoundTag compound)
+    {
         if (compound.contains(TAG_RAID_HISTORY))
         {
             raidHistories.clear();
@@ -900,18 +932,45 @@ public class RaidManager implements IRaiderManager
             {
                 raidHistories.add(RaidHistory.fromNBT((CompoundTag) tag));
             }
+
+            final RaidHistory last = raidHistories.isEmpty() ? null : raidHistories.get(raidHistories.size() - 1);
+            if (lastRaid == null)
+            {
+                lastRaid = last;
+            }
+            else if (last != null && last.raidTime == lastRaid.raidTime)
+            {
+                // The copy saved with the core is up to date, the history may have been written back unchanged since.
+                raidHistories.set(raidHistories.size() - 1, lastRaid);
+            }
+            else if (last == null || last.raidTime < lastRaid.raidTime)
+            {
+                raidHistories.add(lastRaid);
+            }
         }
     }
 
+    /**
+     * Get the raid histories, loading them first if they are still a lazy section of the colony save.
+     *
+     * @return the raid histories.
+     */
+    private List<RaidHistory> getRaidHistories()
+    {
+        colony.loadLazySection(ColonySaveFormat.SECTION_RAIDS);
+        return raidHistories;
+    }
+
     @Override
     public int getLostCitizen()
     {
-        if (raidHistories.isEmpty())
+        final RaidHistory last = getLastRaid();
+        if (last == null)
         {
             return 0;
         }
 
-        return raidHistories.get(raidHistories.size() - 1).lostCitizens;
+        return last.lostCitizens;
     }
 
     @Override
@@ -925,18 +984,14 @@ public class RaidManager implements IRaiderManager
     }
 
     /**
-     * List of raid histories
+     * Get the latest raid, doesn't load the raid history.
      *
-     * @return
+     * @return the latest raid or null if there was none.
      */
+    @Nullable
     public RaidHistory getLastRaid()
     {
-        if (raidHistories.isEmpty())
-        {
-            return null;
-        }
-
-        return raidHistories.get(raidHistories.size() - 1);
+        return lastRaid;
     }
 
     @Override
@@ -951,7 +1006,7 @@ public class RaidManager implements IRaiderManager
      */
     public List<RaidHistory> getAllRaids()
     {
-        return new ArrayList<>(raidHistories);
+        return new ArrayList<>(getRaidHistories());
     }
 
     /**
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.buildings.*;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
 import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.colony.buildings.registry.IBuildingDataManager;
 import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
@@ -74,6 +75,11 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @NotNull
     private ImmutableMap<BlockPos, IBuilding> buildings = ImmutableMap.of();
 
+    /**
+     * Index over the current building map, rebuilt lazily once the map was replaced.
+     */
+    private volatile BuildingRegistryIndex buildingIndex = new BuildingRegistryIndex(buildings);
+
     /**
      * List of fields of the colony.
      */
@@ -414,6 +420,41 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         return leisureSites.isEmpty() ? null : leisureSites.get(RANDOM.nextInt(leisureSites.size()));
     }
 
+    /**
+     * Get the index of the current building map.
+     *
+     * @return the index.
+     */
+    private BuildingRegistryIndex getBuildingIndex()
+    {
+        final ImmutableMap<BlockPos, IBuilding> snapshot = buildings;
+        BuildingRegistryIndex index = buildingIndex;
+        if (!index.isFor(snapshot))
+        {
+            index = new BuildingRegistryIndex(snapshot);
+            buildingIndex = index;
+        }
+        return index;
+    }
+
+    @Override
+    public <T extends IBuilding> List<T> getBuildingsOfType(@NotNull final Class<T> clazz)
+    {
+        return getBuildingIndex().getBuildingsOfType(clazz);
+    }
+
+    @Override
+    public List<IBuilding> getBuildingsWithModule(@NotNull final Class<? extends IBuildingModule> clazz)
+    {
+        return getBuildingIndex().getBuildingsWithModule(clazz);
+    }
+
+    @Override
+    public List<IBuilding> getBuildingsWithin(@NotNull final BoundingBox box)
+    {
+        return getBuildingIndex().getBuildingsWithin(box);
+    }
+
     @Nullable
     @Override
     public BlockPos getFirstBuildingMatching(final Predicate<IBuilding> predicate)
@@ -490,19 +531,16 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public IBuilding getHouseWithSpareBed()
     {
-        for (final IBuilding building : buildings.values())
+        for (final IBuilding building : getBuildingsWithModule(LivingBuildingModule.class))
         {
-            if (building.hasModule(LivingBuildingModule.class))
+            final LivingBuildingModule module = building.getFirstModuleOccurance(LivingBuildingModule.class);
+            if (HiringMode.LOCKED.equals(module.getHiringMode()))
             {
-                final LivingBuildingModule module = building.getFirstModuleOccurance(LivingBuildingModule.class);
-                if (HiringMode.LOCKED.equals(module.getHiringMode()))
-                {
-                    continue;
-                }
-                if (module.getAssignedCitizen().size() < module.getModuleMax())
-                {
-                    return building;
-                }
+                continue;
+            }
+            if (module.getAssignedCitizen().size() < module.getModuleMax())
+            {
+                return building;
             }
         }
         return null;
@@ -675,6 +713,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
 
         colony.getRequestManager().onProviderRemovedFromColony(building);
         colony.getRequestManager().onRequesterRemovedFromColony(building.getRequester());
+        colony.getCraftingGraph().onBuildingRemoved(building);
 
         colony.getCitizenManager().calculateMaxCitizens();
     }
@@ -690,9 +729,9 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         double distance = Double.MAX_VALUE;
         BlockPos goodCook = null;
-        for (final IBuilding building : buildings.values())
+        for (final IBuilding building : getBuildingsOfType(clazz))
         {
-            if (clazz.isInstance(building) && building.getBuildingLevel() > 0)
+            if (building.getBuildingLevel() > 0)
             {
                 final double localDistance = building.getPosition().distSqr(citizen);
                 if (localDistance < distance)
@@ -739,18 +778,26 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             return true;
         }
 
-        for (final IBuilding colonyBuilding : getBuildings().values())
+        return isGuardedBy(getBuildingsOfType(IGuardBuilding.class), building) || isGuardedBy(getBuildingsOfType(BuildingBarracks.class), building);
+    }
+
+    /**
+     * Check if a building is within the guarded region of one of the given guard buildings.
+     *
+     * @param guardBuildings the guard buildings.
+     * @param building       the building to check.
+     * @return true if so.
+     */
+    private static boolean isGuardedBy(final List<? extends IBuilding> guardBuildings, final IBuilding building)
+    {
+        for (final IBuilding guardBuilding : guardBuildings)
         {
-            if (colonyBuilding instanceof IGuardBuilding || colonyBuilding instanceof BuildingBarracks)
+            final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), guardBuilding.getClaimRadius(guardBuilding.getBuildingLevel()));
+            if (guardedRegion.isInside(building.getPosition()))
             {
-                final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
-                if (guardedRegion.isInside(building.getPosition()))
-                {
-                    return true;
-                }
+                return true;
             }
         }
-
         return false;
     }
 
@@ -759,12 +806,9 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         final int claimRadius = guardBuilding.getClaimRadius(Math.max(guardBuilding.getBuildingLevel(), newLevel));
         final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), claimRadius);
-        for (final IBuilding building : getBuildings().values())
+        for (final IBuilding building : getBuildingsWithin(guardedRegion))
         {
-            if (guardedRegion.isInside(building.getPosition()))
-            {
-                building.resetGuardBuildingNear();
-            }
+            building.resetGuardBuildingNear();
         }
     }
 
@@ -855,7 +899,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
                     final ColonyViewBuildingViewMessage message = new ColonyViewBuildingViewMessage(building);
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                    Network.getNetwork().sendToPlayers(message, players);
                 }
             }
         }
@@ -877,7 +921,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewFieldsUpdateMessage(colony, fields), player));
+            Network.getNetwork().sendToPlayers(new ColonyViewFieldsUpdateMessage(colony, fields), players);
         }
     }
 
@@ -88,7 +88,7 @@ public class ResearchManager implements IResearchManager
             players.addAll(newSubscribers);
 
             final ColonyViewResearchManagerViewMessage message = new ColonyViewResearchManagerViewMessage(colony, this);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+            Network.getNetwork().sendToPlayers(message, players);
 
         }
         clearDirty();
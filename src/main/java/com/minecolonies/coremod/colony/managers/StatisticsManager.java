@@ -2,14 +2,16 @@ package com.minecolonies.coremod.colony.managers;
 
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.managers.interfaces.IStatisticsManager;
-import it.unimi.dsi.fastutil.ints.Int2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -18,14 +20,35 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
  * Manager for colony related statistics.
+ * Each stat keeps a running total, a ring of the recent days and weekly and monthly rollups for older days.
  */
 public class StatisticsManager implements IStatisticsManager
 {
     /**
      * NBT tags.
      */
-    private static final String TAG_STAT_MANAGER    = "stat_manager";
+    public static final  String TAG_STAT_MANAGER    = "stat_manager";
     private static final String TAG_STAT            = "stat";
+    private static final String TAG_TOTAL           = "total";
+    private static final String TAG_DAYS            = "days";
+    private static final String TAG_WEEKS           = "weeks";
+    private static final String TAG_MONTHS          = "months";
+
+    /**
+     * Amount of recent days kept with daily precision, also the window synced to the client.
+     */
+    public static final int RECENT_DAYS = 100;
+
+    /**
+     * Amount of weeks kept with weekly precision.
+     */
+    private static final int RECENT_WEEKS = 104;
+
+    /**
+     * Days per rollup.
+     */
+    private static final int DAYS_PER_WEEK  = 7;
+    private static final int DAYS_PER_MONTH = 30;
 
     /**
      * Colony reference
@@ -35,7 +58,7 @@ public class StatisticsManager implements IStatisticsManager
     /**
      * The current stats of the colony.
      */
-    private final Map<String, Int2IntLinkedOpenHashMap> stats = new HashMap<>();
+    private final Map<String, StatSeries> stats = new HashMap<>();
 
     /**
      * Create a new stat manager.
@@ -55,32 +78,27 @@ public class StatisticsManager implements IStatisticsManager
     @Override
     public void incrementBy(final @NotNull String id, int qty)
     {
-        final Int2IntLinkedOpenHashMap innerMap = stats.computeIfAbsent(id, k -> new Int2IntLinkedOpenHashMap());
-        innerMap.addTo(colony.getDay(), qty);
+        StatSeries series = stats.get(id);
+        if (series == null)
+        {
+            series = new StatSeries();
+            stats.put(id.intern(), series);
+        }
+        series.add(colony.getDay(), qty);
     }
 
     @Override
     public int getStatTotal(final @NotNull String id)
     {
-        final Int2IntLinkedOpenHashMap stats = this.stats.getOrDefault(id, new Int2IntLinkedOpenHashMap());
-        int totalCount = 0;
-        for (final int count : stats.values())
-        {
-            totalCount += count;
-        }
-        return totalCount;
+        final StatSeries series = stats.get(id);
+        return series == null ? 0 : series.total;
     }
 
     @Override
     public int getStatsInPeriod(final @NotNull String id, final int startDay, final int endDay)
     {
-        final Int2IntLinkedOpenHashMap stats = this.stats.getOrDefault(id, new Int2IntLinkedOpenHashMap());
-        int count = 0;
-        for (int day = startDay; day <= endDay; day++)
-        {
-            count += stats.get(day);
-        }
-        return count;
+        final StatSeries series = stats.get(id);
+        return series == null ? 0 : series.getInPeriod(startDay, endDay);
     }
 
     @Override
@@ -92,16 +110,18 @@ public class StatisticsManager implements IStatisticsManager
     @Override
     public void serialize(@NotNull final FriendlyByteBuf buf)
     {
+        final int windowStart = colony.getDay() - RECENT_DAYS + 1;
         buf.writeVarInt(stats.size());
-        for (final Map.Entry<String, Int2IntLinkedOpenHashMap> dataEntry : stats.entrySet())
+        for (final Map.Entry<String, StatSeries> dataEntry : stats.entrySet())
         {
             buf.writeUtf(dataEntry.getKey());
-            buf.writeVarInt(dataEntry.getValue().size());
+            buf.writeVarInt(dataEntry.getValue().total);
 
-            for (final Int2IntMap.Entry valueEntry : dataEntry.getValue().int2IntEntrySet())
+            final IntArrayList days = dataEntry.getValue().getDays(windowStart);
+            buf.writeVarInt(days.size() / 2);
+            for (int i = 0; i < days.size(); i++)
             {
-                buf.writeVarInt(valueEntry.getIntKey());
-                buf.writeVarInt(valueEntry.getIntValue());
+                buf.writeVarInt(days.getInt(i));
             }
         }
     }
@@ -113,16 +133,17 @@ public class StatisticsManager implements IStatisticsManager
         final int statSize = buf.readVarInt();
         for (int i = 0; i < statSize; i++)
         {
-            final String id = buf.readUtf();
-            final int statEntrySize = buf.readVarInt();
+            final String id = buf.readUtf().intern();
+            final StatSeries series = new StatSeries();
+            series.total = buf.readVarInt();
 
-            final Int2IntLinkedOpenHashMap statValues = new Int2IntLinkedOpenHashMap(statEntrySize);
+            final int statEntrySize = buf.readVarInt();
             for (int j = 0; j < statEntrySize; j++)
             {
-                statValues.put(buf.readVarInt(), buf.readVarInt());
+                series.putDay(buf.readVarInt(), buf.readVarInt());
             }
 
-            stats.put(id, statValues);
+            stats.put(id, series);
         }
     }
 
@@ -130,23 +151,11 @@ public class StatisticsManager implements IStatisticsManager
     public void writeToNBT(@NotNull final CompoundTag compound)
     {
         final ListTag statManagerNBT = new ListTag();
-        for (final Map.Entry<String, Int2IntLinkedOpenHashMap> stat : stats.entrySet())
+        for (final Map.Entry<String, StatSeries> stat : stats.entrySet())
         {
             final CompoundTag statCompound = new CompoundTag();
             statCompound.putString(TAG_ID, stat.getKey());
-
-            final ListTag statNBT = new ListTag();
-            for (final Map.Entry<Integer, Integer> dailyStats : stat.getValue().entrySet())
-            {
-                final CompoundTag timeStampTag = new CompoundTag();
-
-                timeStampTag.putInt(TAG_TIME, dailyStats.getKey());
-                timeStampTag.putInt(TAG_QUANTITY, dailyStats.getValue());
-
-                statNBT.add(timeStampTag);
-            }
-
-            statCompound.put(TAG_STAT, statNBT);
+            stat.getValue().write(statCompound);
             statManagerNBT.add(statCompound);
         }
 
@@ -163,19 +172,248 @@ public class StatisticsManager implements IStatisticsManager
             for (int i = 0; i < statsNbts.size(); i++)
             {
                 final CompoundTag statCompound = statsNbts.getCompound(i);
-                final String id = statCompound.getString(TAG_ID);
-                final ListTag timeStampNbts = statCompound.getList(TAG_STAT, Tag.TAG_COMPOUND);
-                final Int2IntLinkedOpenHashMap timeStamps = new Int2IntLinkedOpenHashMap();
-                for (int j = 0; j < timeStampNbts.size(); j++)
+                final String id = statCompound.getString(TAG_ID).intern();
+                final StatSeries series = new StatSeries();
+
+                if (statCompound.contains(TAG_STAT))
+                {
+                    // Legacy format, full daily history.
+                    final ListTag timeStampNbts = statCompound.getList(TAG_STAT, Tag.TAG_COMPOUND);
+                    for (int j = 0; j < timeStampNbts.size(); j++)
+                    {
+                        final CompoundTag compoundTag = timeStampNbts.getCompound(j);
+                        series.add(compoundTag.getInt(TAG_TIME), compoundTag.getInt(TAG_QUANTITY));
+                    }
+                }
+                else
+                {
+                    series.read(statCompound);
+                }
+
+                stats.put(id, series);
+            }
+        }
+    }
+
+    /**
+     * Time series of a single stat.
+     */
+    private static class StatSeries
+    {
+        /**
+         * Running total since colony creation.
+         */
+        private int total = 0;
+
+        /**
+         * Latest day anything was recorded at.
+         */
+        private int latestDay = -1;
+
+        /**
+         * Ring of the recent days, slot stamps hold the day a slot belongs to.
+         */
+        private final int[] dayStamps = new int[RECENT_DAYS];
+        private final int[] dayCounts = new int[RECENT_DAYS];
+
+        /**
+         * Ring of the recent weeks.
+         */
+        private final int[] weekStamps = new int[RECENT_WEEKS];
+        private final int[] weekCounts = new int[RECENT_WEEKS];
+
+        /**
+         * Monthly rollups of the whole history.
+         */
+        private final Int2IntOpenHashMap months = new Int2IntOpenHashMap();
+
+        /**
+         * Create a new empty series.
+         */
+        private StatSeries()
+        {
+            Arrays.fill(dayStamps, -1);
+            Arrays.fill(weekStamps, -1);
+        }
+
+        /**
+         * Record a quantity at a day.
+         *
+         * @param day the day.
+         * @param qty the quantity.
+         */
+        private void add(final int day, final int qty)
+        {
+            total += qty;
+            addToRing(dayStamps, dayCounts, day, qty);
+            addToRing(weekStamps, weekCounts, day / DAYS_PER_WEEK, qty);
+            months.addTo(day / DAYS_PER_MONTH, qty);
+            latestDay = Math.max(latestDay, day);
+        }
+
+        /**
+         * Set the count of a day, used on the client which only knows the recent days and the total.
+         *
+         * @param day   the day.
+         * @param count the count.
+         */
+        private void putDay(final int day, final int count)
+        {
+            final int slot = Math.floorMod(day, RECENT_DAYS);
+            dayStamps[slot] = day;
+            dayCounts[slot] = count;
+            latestDay = Math.max(latestDay, day);
+        }
+
+        /**
+         * Add to a ring slot, older stamps than the one in the slot are dropped.
+         *
+         * @param stamps the slot stamps.
+         * @param counts the slot counts.
+         * @param stamp  the stamp to add at.
+         * @param qty    the quantity.
+         */
+        private static void addToRing(final int[] stamps, final int[] counts, final int stamp, final int qty)
+        {
+            final int slot = Math.floorMod(stamp, stamps.length);
+            if (stamps[slot] == stamp)
+            {
+                counts[slot] += qty;
+            }
+            else if (stamps[slot] < stamp)
+            {
+                stamps[slot] = stamp;
+                counts[slot] = qty;
+            }
+        }
+
+        /**
+         * Get the count of a period.
+         * Days older than the daily ring are resolved through the weekly and monthly rollups that lie fully within the period.
+         *
+         * @param startDay the first day.
+         * @param endDay   the last day.
+         * @return the count.
+         */
+        private int getInPeriod(final int startDay, final int endDay)
+        {
+            final int end = Math.min(endDay, latestDay);
+            final int oldestDay = latestDay - RECENT_DAYS + 1;
+            final int oldestWeek = latestDay / DAYS_PER_WEEK - RECENT_WEEKS + 1;
+
+            int count = 0;
+            int day = Math.max(0, startDay);
+            while (day <= end)
+            {
+                if (day >= oldestDay)
+                {
+                    final int slot = Math.floorMod(day, RECENT_DAYS);
+                    if (dayStamps[slot] == day)
+                    {
+                        count += dayCounts[slot];
+                    }
+                    day++;
+                }
+                else if (day % DAYS_PER_MONTH == 0 && day + DAYS_PER_MONTH - 1 < oldestDay && day + DAYS_PER_MONTH - 1 <= endDay)
+                {
+                    count += months.get(day / DAYS_PER_MONTH);
+                    day += DAYS_PER_MONTH;
+                }
+                else if (day % DAYS_PER_WEEK == 0 && day / DAYS_PER_WEEK >= oldestWeek && day + DAYS_PER_WEEK - 1 < oldestDay && day + DAYS_PER_WEEK - 1 <= endDay)
+                {
+                    final int slot = Math.floorMod(day / DAYS_PER_WEEK, RECENT_WEEKS);
+                    if (weekStamps[slot] == day / DAYS_PER_WEEK)
+                    {
+                        count += weekCounts[slot];
+                    }
+                    day += DAYS_PER_WEEK;
+                }
+                else
                 {
-                    final CompoundTag compoundTag = timeStampNbts.getCompound(j);
-                    final int day = compoundTag.getInt(TAG_TIME);
-                    final int qty = compoundTag.getInt(TAG_QUANTITY);
+                    // Only partially covered by a rollup, the daily value is gone.
+                    day++;
+                }
+            }
+            return count;
+        }
 
-                    timeStamps.put(day, qty);
+        /**
+         * Get all recorded days from a day on.
+         *
+         * @param fromDay the first day.
+         * @return flat list of day and count pairs.
+         */
+        private IntArrayList getDays(final int fromDay)
+        {
+            final IntArrayList days = new IntArrayList();
+            for (int slot = 0; slot < RECENT_DAYS; slot++)
+            {
+                if (dayStamps[slot] >= fromDay && dayStamps[slot] >= 0)
+                {
+                    days.add(dayStamps[slot]);
+                    days.add(dayCounts[slot]);
+                }
+            }
+            return days;
+        }
+
+        /**
+         * Write the series to nbt.
+         *
+         * @param compound the compound to write to.
+         */
+        private void write(final CompoundTag compound)
+        {
+            compound.putInt(TAG_TOTAL, total);
+            compound.putIntArray(TAG_DAYS, getDays(0).toIntArray());
+
+            final IntArrayList weeks = new IntArrayList();
+            for (int slot = 0; slot < RECENT_WEEKS; slot++)
+            {
+                if (weekStamps[slot] >= 0)
+                {
+                    weeks.add(weekStamps[slot]);
+                    weeks.add(weekCounts[slot]);
                 }
+            }
+            compound.putIntArray(TAG_WEEKS, weeks.toIntArray());
 
-                stats.put(id, timeStamps);
+            final IntArrayList monthList = new IntArrayList();
+            for (final Int2IntMap.Entry entry : months.int2IntEntrySet())
+            {
+                monthList.add(entry.getIntKey());
+                monthList.add(entry.getIntValue());
+            }
+            compound.putIntArray(TAG_MONTHS, monthList.toIntArray());
+        }
+
+        /**
+         * Read the series from nbt.
+         *
+         * @param compound the compound to read from.
+         */
+        private void read(final CompoundTag compound)
+        {
+            total = compound.getInt(TAG_TOTAL);
+
+            final int[] days = compound.getIntArray(TAG_DAYS);
+            for (int i = 0; i + 1 < days.length; i += 2)
+            {
+                putDay(days[i], days[i + 1]);
+            }
+
+            final int[] weeks = compound.getIntArray(TAG_WEEKS);
+            for (int i = 0; i + 1 < weeks.length; i += 2)
+            {
+                final int slot = Math.floorMod(weeks[i], RECENT_WEEKS);
+                weekStamps[slot] = weeks[i];
+                weekCounts[slot] = weeks[i + 1];
+            }
+
+            final int[] monthArray = compound.getIntArray(TAG_MONTHS);
+            for (int i = 0; i + 1 < monthArray.length; i += 2)
+            {
+                months.put(monthArray[i], monthArray[i + 1]);
             }
         }
     }
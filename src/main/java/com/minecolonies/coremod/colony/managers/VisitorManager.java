@@ -180,10 +180,7 @@ public class VisitorManager implements IVisitorManager
 
         final ColonyVisitorViewDataMessage message = new ColonyVisitorViewDataMessage(colony, toSend, refresh);
 
-        for (final ServerPlayer player : players)
-        {
-            Network.getNetwork().sendToPlayer(message, player);
-        }
+        Network.getNetwork().sendToPlayers(message, players);
     }
 
     @NotNull
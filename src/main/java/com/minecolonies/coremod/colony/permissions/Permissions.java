@@ -656,7 +656,15 @@ public class Permissions implements IPermissions
     @Override
     public boolean hasPermission(@NotNull final Player player, @NotNull final Action action)
     {
-        return hasPermission(getRank(player), action);
+        return Utils.testFlag(getPermissionFlags(player.getGameProfile().getId()), action.getFlag());
+    }
+
+    @Override
+    public long getPermissionFlags(@NotNull final UUID id)
+    {
+        // The rank keeps its permissions as bitset, reading it through the player's rank is always current, whichever path changed the rank or the player.
+        final long flags = getRank(id).getPermissions();
+        return fullyAbandoned ? flags | fullyAbandonedPermissionsFlag : flags;
     }
 
     @Override
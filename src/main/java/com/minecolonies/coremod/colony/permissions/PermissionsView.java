@@ -109,9 +109,16 @@ public class PermissionsView implements IPermissions
      * @param action the action he is trying to execute.
      * @return true if so.
      */
-    public boolean hasPermission(final UUID id, @NotNull final Action action)
+    @Override
+    public boolean hasPermission(@NotNull final UUID id, @NotNull final Action action)
+    {
+        return Utils.testFlag(getPermissionFlags(id), action.getFlag());
+    }
+
+    @Override
+    public long getPermissionFlags(@NotNull final UUID id)
     {
-        return hasPermission(getRank(id), action);
+        return getRank(id).getPermissions();
     }
 
     /**
@@ -283,7 +290,7 @@ public class PermissionsView implements IPermissions
     @Override
     public boolean hasPermission(@NotNull final Player player, @NotNull final Action action)
     {
-        return hasPermission(getRank(player), action);
+        return hasPermission(player.getUUID(), action);
     }
 
     @Override
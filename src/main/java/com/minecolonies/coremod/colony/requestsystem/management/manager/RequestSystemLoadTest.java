@@ -0,0 +1,351 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.Food;
+import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.requestable.Tool;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Delivery;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Pickup;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.constant.ToolType;
+import com.minecolonies.coremod.colony.jobs.AbstractJobCrafter;
+import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
+
+/**
+ * Load test of the request system of a colony, meant for test worlds.
+ * Builds a detached request manager for the colony, which is never set on the colony and starts without any of its requests, but registers the resolvers of its buildings.
+ * Creates a batch of mixed requests from the buildings in that manager, so they are resolved by the resolvers of the colony including crafting chains,
+ * and measures assignment, reassignment, ticking, serialization and cancellation with their allocations. All requests of the detached manager are cancelled at the end
+ * and crafter tasks which still point at them are dropped. Colonies with couriers are refused, as deliveries and pickups would be queued on them.
+ * Runs synchronously on the server thread, as the request system is not thread safe.
+ */
+public final class RequestSystemLoadTest
+{
+    /**
+     * Items of the stack requests, raw materials and items which are usually crafted in a colony.
+     */
+    private static final Item[] STACK_ITEMS = {Items.COBBLESTONE, Items.OAK_LOG, Items.TORCH, Items.CHEST, Items.BREAD, Items.IRON_INGOT, Items.OAK_PLANKS};
+
+    /**
+     * Tool types of the tool requests.
+     */
+    private static final ToolType[] TOOL_TYPES = {ToolType.PICKAXE, ToolType.AXE, ToolType.SHOVEL, ToolType.HOE};
+
+    /**
+     * Amount of distinct request types created round robin.
+     */
+    private static final int REQUEST_TYPES = 5;
+
+    /**
+     * Request sizes.
+     */
+    private static final int STACK_SIZE = 16;
+    private static final int FOOD_SIZE  = 16;
+
+    /**
+     * Priority of the created deliveries and pickups.
+     */
+    private static final int PRIORITY = 1;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private RequestSystemLoadTest()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Count the couriers of a colony, the load test refuses to run while there are any.
+     *
+     * @param colony the colony.
+     * @return the amount of citizens with a courier job.
+     */
+    public static int countCouriers(@NotNull final IColony colony)
+    {
+        int couriers = 0;
+        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
+        {
+            if (citizen.getJob() instanceof JobDeliveryman)
+            {
+                couriers++;
+            }
+        }
+        return couriers;
+    }
+
+    /**
+     * Run the load test.
+     *
+     * @param colony   the colony.
+     * @param requests the amount of requests to create.
+     * @param rounds   how often reassignment, tick and serialization are measured.
+     * @return the report lines.
+     * @throws IllegalStateException if the colony has couriers.
+     */
+    public static List<String> run(@NotNull final IColony colony, final int requests, final int rounds)
+    {
+        final int couriers = countCouriers(colony);
+        if (couriers > 0)
+        {
+            throw new IllegalStateException("Colony " + colony.getID() + " has " + couriers + " couriers, the load test would queue deliveries on them.");
+        }
+
+        final List<IBuilding> buildings = new ArrayList<>(colony.getBuildingManager().getBuildings().values());
+        if (buildings.isEmpty())
+        {
+            return Collections.singletonList("Colony " + colony.getID() + " has no buildings to request from.");
+        }
+
+        final StandardRequestManager manager = new StandardRequestManager(colony);
+        final Map<String, Stats> stats = new LinkedHashMap<>();
+        final Set<IToken<?>> created = new HashSet<>();
+        final Set<IToken<?>> seen = new HashSet<>();
+        final Random random = new Random(colony.getID());
+
+        try
+        {
+            for (int i = 0; i < requests; i++)
+            {
+                final IBuilding building = buildings.get(i % buildings.size());
+                final IRequestable requestable = createRequestable(i, random, building, buildings);
+                final long allocated = getAllocatedBytes();
+                final long start = System.nanoTime();
+                final IToken<?> token = manager.createRequest(building.getRequester(), requestable);
+                created.add(token);
+                manager.assignRequest(token);
+                stats.computeIfAbsent("assign " + requestable.getClass().getSimpleName(), key -> new Stats())
+                  .add(System.nanoTime() - start, getAllocatedBytes() - allocated);
+            }
+
+            final int requestsAfter = manager.getRequestIdentitiesDataStore().getIdentities().size();
+            seen.addAll(manager.getRequestIdentitiesDataStore().getIdentities().keySet());
+
+            final StandardRequestManager copy = new StandardRequestManager(colony);
+            for (int round = 0; round < rounds; round++)
+            {
+                measure(stats, "reassign", () -> manager.onColonyUpdate(request -> created.contains(request.getId())));
+                measure(stats, "tick", manager::tick);
+
+                final CompoundTag[] tag = new CompoundTag[1];
+                measure(stats, "serialize", () -> tag[0] = manager.serializeNBT());
+                measure(stats, "deserialize", () -> copy.deserializeNBT(tag[0]));
+                seen.addAll(manager.getRequestIdentitiesDataStore().getIdentities().keySet());
+            }
+
+            final List<String> lines = new ArrayList<>();
+            lines.add(String.format("Colony %d: %d buildings, %d resolvers, %d created requests, %d including child requests, %d rounds",
+              colony.getID(),
+              buildings.size(),
+              manager.getRequestResolverIdentitiesDataStore().getIdentities().size(),
+              created.size(),
+              requestsAfter,
+              rounds));
+
+            cleanUp(colony, manager, created, seen, stats);
+            created.clear();
+
+            for (final Map.Entry<String, Stats> entry : stats.entrySet())
+            {
+                lines.add(entry.getKey() + ": " + entry.getValue().summarize());
+            }
+            lines.add(String.format("Cleanup: %d requests left in the detached manager", manager.getRequestIdentitiesDataStore().getIdentities().size()));
+            return lines;
+        }
+        finally
+        {
+            if (!created.isEmpty())
+            {
+                cleanUp(colony, manager, created, seen, stats);
+            }
+        }
+    }
+
+    /**
+     * Create the requestable for the n-th request, cycling through the request types.
+     *
+     * @param index     the index of the request.
+     * @param random    the random to pick items with.
+     * @param building  the requesting building.
+     * @param buildings all buildings of the colony, delivery targets are picked from them.
+     * @return the requestable.
+     */
+    private static IRequestable createRequestable(final int index, final Random random, final IBuilding building, final List<IBuilding> buildings)
+    {
+        switch (index % REQUEST_TYPES)
+        {
+            case 0:
+                return new Stack(new ItemStack(STACK_ITEMS[random.nextInt(STACK_ITEMS.length)], STACK_SIZE));
+            case 1:
+                return new Tool(TOOL_TYPES[random.nextInt(TOOL_TYPES.length)], TOOL_LEVEL_WOOD_OR_GOLD, building.getMaxToolLevel());
+            case 2:
+                return new Food(FOOD_SIZE, 0);
+            case 3:
+                final IBuilding target = buildings.get(random.nextInt(buildings.size()));
+                return new Delivery(building.getRequester().getLocation(),
+                  target.getRequester().getLocation(),
+                  new ItemStack(STACK_ITEMS[random.nextInt(STACK_ITEMS.length)], STACK_SIZE),
+                  PRIORITY);
+            default:
+                return new Pickup(PRIORITY);
+        }
+    }
+
+    /**
+     * Cancel every request of the detached manager and drop the tasks of the crafters of the colony which still point at one of them.
+     *
+     * @param colony  the colony.
+     * @param manager the detached request manager.
+     * @param created the tokens of the created requests.
+     * @param seen    the tokens of all requests the manager held during the test.
+     * @param stats   the stats to record the cancellation in.
+     */
+    private static void cleanUp(
+      final IColony colony,
+      final StandardRequestManager manager,
+      final Collection<IToken<?>> created,
+      final Set<IToken<?>> seen,
+      final Map<String, Stats> stats)
+    {
+        seen.addAll(manager.getRequestIdentitiesDataStore().getIdentities().keySet());
+        cancel(manager, created, stats);
+        cancel(manager, new ArrayList<>(manager.getRequestIdentitiesDataStore().getIdentities().keySet()), stats);
+
+        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
+        {
+            if (citizen.getJob() instanceof AbstractJobCrafter<?, ?> job)
+            {
+                final List<IToken<?>> stale = new ArrayList<>();
+                for (final IToken<?> token : seen)
+                {
+                    if (job.getTaskQueue().contains(token) || job.getAssignedTasks().contains(token))
+                    {
+                        stale.add(token);
+                    }
+                }
+                stale.forEach(job::onTaskDeletion);
+            }
+        }
+    }
+
+    /**
+     * Cancel the given requests which are still open.
+     *
+     * @param manager the request manager.
+     * @param tokens  the tokens of the created requests.
+     * @param stats   the stats to record the cancellation in.
+     */
+    private static void cancel(final StandardRequestManager manager, final Collection<IToken<?>> tokens, final Map<String, Stats> stats)
+    {
+        for (final IToken<?> token : tokens)
+        {
+            try
+            {
+                final IRequest<?> request = manager.getRequestHandler().getRequestOrNull(token);
+                if (request != null)
+                {
+                    measure(stats, "cancel", () -> manager.updateRequestState(token, RequestState.CANCELLED));
+                }
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Failed to cancel load test request " + token, e);
+            }
+        }
+    }
+
+    /**
+     * Measure an operation.
+     *
+     * @param stats     the stats.
+     * @param name      the name of the operation.
+     * @param operation the operation.
+     */
+    private static void measure(final Map<String, Stats> stats, final String name, final Runnable operation)
+    {
+        final long allocated = getAllocatedBytes();
+        final long start = System.nanoTime();
+        operation.run();
+        stats.computeIfAbsent(name, key -> new Stats()).add(System.nanoTime() - start, getAllocatedBytes() - allocated);
+    }
+
+    /**
+     * Get the bytes allocated by the current thread so far, if the jvm supports measuring it.
+     *
+     * @return the allocated bytes or 0.
+     */
+    private static long getAllocatedBytes()
+    {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported())
+        {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Measurements of one operation.
+     */
+    private static final class Stats
+    {
+        /**
+         * The recorded values.
+         */
+        private int  invocations;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalAllocated;
+
+        /**
+         * Add an invocation.
+         *
+         * @param nanos     the time it took.
+         * @param allocated the allocated bytes.
+         */
+        private void add(final long nanos, final long allocated)
+        {
+            invocations++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            totalAllocated += allocated;
+        }
+
+        /**
+         * Summarize the invocations.
+         *
+         * @return the summary line.
+         */
+        private String summarize()
+        {
+            return String.format("%d calls, %.3f ms avg, %.2f ms max, %.2f ms total, %d KB/call",
+              invocations,
+              totalNanos / NANOS_PER_MILLI / invocations,
+              maxNanos / NANOS_PER_MILLI,
+              totalNanos / NANOS_PER_MILLI,
+              totalAllocated / invocations / 1024);
+        }
+    }
+}
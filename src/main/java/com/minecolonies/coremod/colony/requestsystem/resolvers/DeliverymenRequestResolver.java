@@ -34,6 +34,13 @@ import java.util.List;
  */
 public abstract class DeliverymenRequestResolver<R extends IRequestable> extends AbstractRequestResolver<R>
 {
+    /**
+     * The request last scored against the couriers, with the chosen courier and its score.
+     */
+    private IToken<?>              lastScoredRequest;
+    private ICitizenData           lastChosenCourier;
+    private Tuple<Double, Integer> lastBestScore;
+
     public DeliverymenRequestResolver(
       @NotNull final ILocation location,
       @NotNull final IToken<?> token)
@@ -94,32 +101,46 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
             return null;
         }
 
-        ICitizenData chosenCourier = null;
+        if (!scoreCouriers(manager, request))
+        {
+            return null;
+        }
 
-        Tuple<Double, Integer> bestScore = null;
-        for (final ICitizenData citizen : getResolveAbleDeliverymen(manager))
+        return Lists.newArrayList();
+    }
+
+    @Override
+    public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends R> request) throws RuntimeException
+    {
+        // The request handler resolves right after a successful attempt, reuse the courier picked there instead of scoring all queues again.
+        if (!request.getId().equals(lastScoredRequest) || lastChosenCourier == null || !lastChosenCourier.isWorking() || !(lastChosenCourier.getJob() instanceof JobDeliveryman))
         {
-            if (citizen.isWorking())
-            {
-                Tuple<Double, Integer> localScore = ((JobDeliveryman) citizen.getJob()).getScoreForDelivery(request);
-                if (bestScore == null || localScore.getA() < bestScore.getA())
-                {
-                    bestScore = localScore;
-                    chosenCourier = citizen;
-                }
-            }
+            scoreCouriers(manager, request);
         }
 
+        final ICitizenData chosenCourier = lastChosenCourier;
+        final Tuple<Double, Integer> bestScore = lastBestScore;
+        lastScoredRequest = null;
+        lastChosenCourier = null;
+        lastBestScore = null;
+
         if (chosenCourier == null)
         {
-            return null;
+            return;
         }
 
-        return Lists.newArrayList();
+        final JobDeliveryman job = (JobDeliveryman) chosenCourier.getJob();
+        job.addRequest(request.getId(), bestScore.getB());
     }
 
-    @Override
-    public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends R> request) throws RuntimeException
+    /**
+     * Score the request against the queue of every courier and remember the best fit.
+     *
+     * @param manager the request manager.
+     * @param request the request to score.
+     * @return true if a courier was found.
+     */
+    private boolean scoreCouriers(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends R> request)
     {
         ICitizenData chosenCourier = null;
 
@@ -137,13 +158,10 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
             }
         }
 
-        if (chosenCourier == null)
-        {
-            return;
-        }
-
-        final JobDeliveryman job = (JobDeliveryman) chosenCourier.getJob();
-        job.addRequest(request.getId(), bestScore.getB());
+        lastScoredRequest = request.getId();
+        lastChosenCourier = chosenCourier;
+        lastBestScore = bestScore;
+        return chosenCourier != null;
     }
 
     @Nullable
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.buildings.modules.ICraftingBuildingModule;
 import com.minecolonies.api.colony.jobs.registry.JobEntry;
+import com.minecolonies.api.colony.managers.interfaces.IColonyCraftingGraph;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -139,6 +140,12 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
             return false;
         }
 
+        final Predicate<ItemStack> stackPredicate = itemStack -> request.getRequest().matches(itemStack);
+        if (!mayProduce(manager, building, stackPredicate))
+        {
+            return false;
+        }
+
         if (createsCraftingCycle(manager, request, request.getRequest(), request))
         {
             return false;
@@ -147,7 +154,7 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
         final boolean isFood = request.getRequest() instanceof Food;
         for (final ICraftingBuildingModule module : building.getModulesByType(ICraftingBuildingModule.class))
         {
-            final IRecipeStorage recipe = module.getFirstRecipe(itemStack -> request.getRequest().matches(itemStack));
+            final IRecipeStorage recipe = module.getFirstRecipe(stackPredicate);
 
             // If this building is resolving a generic food request, then only allow it to resolve non-smeltables.
             if (recipe != null && (!isFood || recipe.getIntermediate() != Blocks.FURNACE) && canBuildingCraftRecipe(building, recipe))
@@ -156,7 +163,7 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
                 boolean success = true;
                 for (final ItemStorage ingredient : recipe.getCleanedInput())
                 {
-                    if (createsCraftingCycle(manager, request, new Stack(ingredient.getItemStack(), ingredient.getAmount() * recipeCount, ingredient.getAmount() * recipeCount), null))
+                    if (mayBeCyclic(manager, ingredient) && createsCraftingCycle(manager, request, new Stack(ingredient.getItemStack(), ingredient.getAmount() * recipeCount, ingredient.getAmount() * recipeCount), null))
                     {
                         success = false;
                         break;
@@ -172,6 +179,47 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
         return false;
     }
 
+    /**
+     * Check the crafting graph of the colony for a module of the building with an enabled recipe producing a matching output.
+     * Lets the resolvers of buildings which can't craft the item reject a request without scanning their recipes.
+     *
+     * @param manager        the manager.
+     * @param building       the building to check.
+     * @param stackPredicate the output predicate.
+     * @return false if the building surely can't produce it.
+     */
+    protected boolean mayProduce(@NotNull final IRequestManager manager, @NotNull final AbstractBuilding building, @NotNull final Predicate<ItemStack> stackPredicate)
+    {
+        final IColonyCraftingGraph craftingGraph = manager.getColony().getCraftingGraph();
+        if (craftingGraph == null)
+        {
+            return true;
+        }
+
+        for (final ICraftingBuildingModule module : building.getModulesByType(ICraftingBuildingModule.class))
+        {
+            if (module.hasDynamicRecipes() || craftingGraph.canProduce(module, stackPredicate))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check the crafting graph of the colony if an ingredient can be part of a crafting cycle at all.
+     * Only an ingredient which is required, directly or through other recipes, to craft itself can show up again in the parent chain of a request.
+     *
+     * @param manager    the manager.
+     * @param ingredient the ingredient.
+     * @return false if the ingredient surely can't create a crafting cycle.
+     */
+    protected boolean mayBeCyclic(@NotNull final IRequestManager manager, @NotNull final ItemStorage ingredient)
+    {
+        final IColonyCraftingGraph craftingGraph = manager.getColony().getCraftingGraph();
+        return craftingGraph == null || craftingGraph.hasDynamicProducers() || craftingGraph.isCyclic(ingredient.getItem());
+    }
+
     /**
      * Method to check if a crafting cycle can be created.
      *
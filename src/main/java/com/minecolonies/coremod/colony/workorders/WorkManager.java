@@ -358,16 +358,45 @@ public class WorkManager implements IWorkManager
     @Override
     public void onColonyTick(@NotNull final IColony colony)
     {
-        @NotNull final Iterator<IWorkOrder> iter = workOrders.values().iterator();
-        while (iter.hasNext())
+        applyColonyTick(collectInvalidWorkOrders());
+    }
+
+    /**
+     * Collect the work orders which turned invalid. Only reads the colony, so it may run in the compute phase of the colony tick.
+     *
+     * @return the invalid work orders.
+     */
+    public List<IWorkOrder> collectInvalidWorkOrders()
+    {
+        final List<IWorkOrder> invalid = new ArrayList<>();
+        for (final IWorkOrder o : workOrders.values())
         {
-            final IWorkOrder o = iter.next();
             if (!o.isValid(this.colony))
             {
-                iter.remove();
+                invalid.add(o);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Remove the collected invalid work orders and reset the change flags of the others.
+     *
+     * @param invalid the work orders found invalid by {@link #collectInvalidWorkOrders()}.
+     */
+    public void applyColonyTick(@NotNull final List<IWorkOrder> invalid)
+    {
+        for (final IWorkOrder o : invalid)
+        {
+            if (workOrders.remove(o.getID(), o))
+            {
                 dirty = true;
             }
-            else if (o.isDirty())
+        }
+
+        for (final IWorkOrder o : workOrders.values())
+        {
+            if (o.isDirty())
             {
                 dirty = true;
                 o.resetChange();
@@ -14,4 +14,6 @@ public abstract class CommandArgumentNames
 
     public static final String RANGE_ARG = "range";
     public static final String ADD_ARG   = "add";
+
+    public static final String PROFILE_ACTION_ARG = "action";
 }
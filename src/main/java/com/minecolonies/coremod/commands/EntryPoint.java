@@ -3,6 +3,7 @@ package com.minecolonies.coremod.commands;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.commands.citizencommands.*;
 import com.minecolonies.coremod.commands.colonycommands.*;
+import com.minecolonies.coremod.commands.colonycommands.requestsystem.CommandRSLoadTest;
 import com.minecolonies.coremod.commands.colonycommands.requestsystem.CommandRSReset;
 import com.minecolonies.coremod.commands.colonycommands.requestsystem.CommandRSResetAll;
 import com.minecolonies.coremod.commands.generalcommands.*;
@@ -55,10 +56,12 @@ public class EntryPoint
           .addNode(new CommandLoadAllBackups().build())
           .addNode(new CommandColonyInfo().build())
           .addNode(new CommandColonyPrintStats().build())
+          .addNode(new CommandColonyProfile().build())
           .addNode(new CommandColonyRaidsInfo().build())
           .addNode(new CommandColonyChunks().build())
           .addNode(new CommandRSReset().build())
           .addNode(new CommandRSResetAll().build())
+          .addNode(new CommandRSLoadTest().build())
           .addNode(new CommandSetAbandoned().build())
           .addNode(new CommandExportColony().build());
 
@@ -92,7 +95,8 @@ public class EntryPoint
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
           .addNode(new ScanCommand().build())
-          .addNode(new CommandPruneWorld().build());
+          .addNode(new CommandPruneWorld().build())
+          .addNode(new CommandPathfindingBenchmark().build());
 
         /*
          * Root minecolonies alias command tree, all subtrees are added here.
@@ -111,7 +115,8 @@ public class EntryPoint
           .addNode(new CommandBackup().build())
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
-          .addNode(new CommandPruneWorld().build());
+          .addNode(new CommandPruneWorld().build())
+          .addNode(new CommandPathfindingBenchmark().build());
 
         // Adds all command trees to the dispatcher to register the commands.
         dispatcher.register(minecoloniesRoot.build());
@@ -0,0 +1,200 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.entity.ai.statemachine.basestatemachine.StateMachineProfiler;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.*;
+import static com.minecolonies.coremod.commands.CommandArgumentNames.COLONYID_ARG;
+import static com.minecolonies.coremod.commands.CommandArgumentNames.PROFILE_ACTION_ARG;
+
+/**
+ * Command to profile the AI statemachines of a colony, prints the most expensive transitions or exports all of them as CSV.
+ */
+public class CommandColonyProfile implements IMCOPCommand
+{
+    /**
+     * The actions of the command.
+     */
+    private static final String ACTION_START  = "start";
+    private static final String ACTION_STOP   = "stop";
+    private static final String ACTION_PRINT  = "print";
+    private static final String ACTION_EXPORT = "export";
+
+    /**
+     * All valid actions.
+     */
+    private static final List<String> ACTIONS = List.of(ACTION_START, ACTION_STOP, ACTION_PRINT, ACTION_EXPORT);
+
+    /**
+     * Amount of transitions printed to chat.
+     */
+    private static final int PRINT_LIMIT = 10;
+
+    /**
+     * Nanoseconds per millisecond and microsecond.
+     */
+    private static final double NANOS_PER_MS = 1_000_000D;
+    private static final double NANOS_PER_US = 1_000D;
+
+    private static final String PROFILE_HEADER = "Profile of colony %d over %.1fs (%s):";
+    private static final String PROFILE_ENTRY  = "%s %s: %d calls, %.2fms total, %.1fus max, %d state changes";
+    private static final String CSV_HEADER     = "owner,transition,invocations,total_ns,max_ns,state_changes";
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final String action = StringArgumentType.getString(context, PROFILE_ACTION_ARG);
+        if (!ACTIONS.contains(action))
+        {
+            context.getSource().sendFailure(Component.translatable(COMMAND_COLONY_PROFILE_USAGE, action, String.join(", ", ACTIONS)));
+            return 0;
+        }
+
+        final int colonyID = IntegerArgumentType.getInteger(context, COLONYID_ARG);
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyID, context.getSource().getLevel().dimension());
+        if (colony == null)
+        {
+            context.getSource().sendSuccess(Component.translatable(COMMAND_COLONY_ID_NOT_FOUND, colonyID), true);
+            return 0;
+        }
+
+        if (action.equals(ACTION_START))
+        {
+            StateMachineProfiler.start(colony.getDimension(), colonyID);
+            context.getSource().sendSuccess(Component.translatable(COMMAND_COLONY_PROFILE_START, colonyID), true);
+            return 1;
+        }
+
+        final StateMachineProfiler.Profile profile = StateMachineProfiler.getProfile(colony.getDimension(), colonyID);
+        if (profile == null)
+        {
+            context.getSource().sendFailure(Component.translatable(COMMAND_COLONY_PROFILE_EMPTY, colonyID));
+            return 0;
+        }
+
+        switch (action)
+        {
+            case ACTION_STOP:
+                StateMachineProfiler.stop(colony.getDimension(), colonyID);
+                context.getSource().sendSuccess(Component.translatable(COMMAND_COLONY_PROFILE_STOP, colonyID), true);
+                return 1;
+            case ACTION_PRINT:
+                printProfile(context, colonyID, profile);
+                return 1;
+            case ACTION_EXPORT:
+                return exportProfile(context, colony, profile);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Print the most expensive transitions of a profile to chat.
+     *
+     * @param context  the command context.
+     * @param colonyID the colony id.
+     * @param profile  the profile.
+     */
+    private void printProfile(final CommandContext<CommandSourceStack> context, final int colonyID, final StateMachineProfiler.Profile profile)
+    {
+        final List<StateMachineProfiler.TransitionStats> stats = profile.getStats();
+        stats.sort(Comparator.comparingLong(StateMachineProfiler.TransitionStats::getTotalNanos).reversed());
+
+        context.getSource()
+          .sendSuccess(Component.literal(String.format(PROFILE_HEADER, colonyID, profile.getDurationNanos() / NANOS_PER_MS / 1000D, profile.isRunning() ? "running" : "stopped")),
+            false);
+        for (int i = 0; i < Math.min(PRINT_LIMIT, stats.size()); i++)
+        {
+            final StateMachineProfiler.TransitionStats entry = stats.get(i);
+            context.getSource().sendSuccess(Component.literal(String.format(PROFILE_ENTRY,
+              entry.getOwner(),
+              entry.getTransition(),
+              entry.getInvocations(),
+              entry.getTotalNanos() / NANOS_PER_MS,
+              entry.getMaxNanos() / NANOS_PER_US,
+              entry.getStateChanges())), false);
+        }
+    }
+
+    /**
+     * Export all transitions of a profile to a CSV file in the world folder.
+     *
+     * @param context the command context.
+     * @param colony  the colony.
+     * @param profile the profile.
+     * @return 1 if successful.
+     */
+    private int exportProfile(final CommandContext<CommandSourceStack> context, final IColony colony, final StateMachineProfiler.Profile profile)
+    {
+        final int colonyID = colony.getID();
+        final String dimension = colony.getDimension().location().toString().replace(':', '_').replace('/', '_');
+        final Path outputPath =
+          context.getSource().getServer().getWorldPath(LevelResource.ROOT).resolve(MOD_ID).resolve("profile_colony_" + dimension + "_" + colonyID + ".csv");
+        try
+        {
+            Files.createDirectories(outputPath.getParent());
+            try (final BufferedWriter writer = Files.newBufferedWriter(outputPath))
+            {
+                writer.write(CSV_HEADER);
+                writer.newLine();
+                for (final StateMachineProfiler.TransitionStats entry : profile.getStats())
+                {
+                    writer.write(entry.getOwner() + "," + entry.getTransition() + "," + entry.getInvocations() + "," + entry.getTotalNanos() + "," + entry.getMaxNanos() + ","
+                                   + entry.getStateChanges());
+                    writer.newLine();
+                }
+            }
+        }
+        catch (final Exception ex)
+        {
+            Log.getLogger().error("Failed to write colony profile to " + outputPath, ex);
+            context.getSource().sendFailure(Component.translatable(COMMAND_COLONY_PROFILE_EXPORT_FAILED, colonyID));
+            return 0;
+        }
+
+        context.getSource().sendSuccess(Component.translatable(COMMAND_COLONY_PROFILE_EXPORT_SUCCESS, colonyID, outputPath.toString()), true);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "profile";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .then(IMCCommand.newArgument(PROFILE_ACTION_ARG, StringArgumentType.word())
+                         .suggests((ctx, builder) -> SharedSuggestionProvider.suggest(ACTIONS, builder))
+                         .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1)).executes(this::checkPreConditionAndExecute)));
+    }
+}
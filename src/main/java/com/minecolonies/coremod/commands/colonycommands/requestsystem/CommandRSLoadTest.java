@@ -0,0 +1,87 @@
+package com.minecolonies.coremod.commands.colonycommands.requestsystem;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSystemLoadTest;
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_COLONY_ID_NOT_FOUND;
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_REQUEST_SYSTEM_LOAD_TEST_COURIERS;
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_REQUEST_SYSTEM_LOAD_TEST_WARNING;
+import static com.minecolonies.coremod.commands.CommandArgumentNames.COLONYID_ARG;
+
+/**
+ * Command to load test the request system of a colony, creates a batch of requests from its buildings in a detached request manager, measures it and cancels them again.
+ * Refuses colonies with couriers.
+ */
+public class CommandRSLoadTest implements IMCOPCommand
+{
+    /**
+     * The arguments of the command.
+     */
+    private static final String REQUESTS_ARG = "requests";
+    private static final String ROUNDS_ARG   = "rounds";
+
+    /**
+     * Argument limits.
+     */
+    private static final int MAX_REQUESTS = 5000;
+    private static final int MAX_ROUNDS   = 100;
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final int colonyID = IntegerArgumentType.getInteger(context, COLONYID_ARG);
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyID, context.getSource().getLevel().dimension());
+        if (colony == null)
+        {
+            context.getSource().sendSuccess(Component.translatable(COMMAND_COLONY_ID_NOT_FOUND, colonyID), true);
+            return 0;
+        }
+
+        final int couriers = RequestSystemLoadTest.countCouriers(colony);
+        if (couriers > 0)
+        {
+            context.getSource().sendFailure(Component.translatable(COMMAND_REQUEST_SYSTEM_LOAD_TEST_COURIERS, colony.getName(), couriers));
+            return 0;
+        }
+
+        context.getSource().sendSuccess(Component.translatable(COMMAND_REQUEST_SYSTEM_LOAD_TEST_WARNING, colony.getName()), true);
+        for (final String line : RequestSystemLoadTest.run(colony,
+          IntegerArgumentType.getInteger(context, REQUESTS_ARG),
+          IntegerArgumentType.getInteger(context, ROUNDS_ARG)))
+        {
+            context.getSource().sendSuccess(Component.literal(line), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "requestsystem-loadtest";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1))
+                         .then(IMCCommand.newArgument(REQUESTS_ARG, IntegerArgumentType.integer(1, MAX_REQUESTS))
+                                 .then(IMCCommand.newArgument(ROUNDS_ARG, IntegerArgumentType.integer(1, MAX_ROUNDS)).executes(this::checkPreConditionAndExecute))));
+    }
+}
@@ -0,0 +1,138 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.entity.pathfinding.benchmark.PathfindingBenchmark;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.*;
+
+/**
+ * Command to record the path queries of the citizens around the player and replay them later as a benchmark of the pathfinding.
+ */
+public class CommandPathfindingBenchmark implements IMCOPCommand
+{
+    /**
+     * The arguments of the command.
+     */
+    private static final String RADIUS_ARG     = "radius";
+    private static final String NAME_ARG       = "name";
+    private static final String ITERATIONS_ARG = "iterations";
+
+    /**
+     * Maximum measured passes of a replay.
+     */
+    private static final int MAX_ITERATIONS = 100;
+
+    /**
+     * Unused, all actions are subcommands.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        return 0;
+    }
+
+    /**
+     * Start recording the area around the executing position.
+     *
+     * @param context the command context.
+     * @return 1 if successful.
+     */
+    private int executeRecord(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        final int radius = IntegerArgumentType.getInteger(context, RADIUS_ARG);
+        final int chunks = PathfindingBenchmark.startRecording(context.getSource().getLevel(), new BlockPos(context.getSource().getPosition()), radius);
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PATH_BENCHMARK_RECORD, Math.min(radius, PathfindingBenchmark.MAX_RADIUS), chunks), true);
+        return 1;
+    }
+
+    /**
+     * Stop the active recording and write it.
+     *
+     * @param context the command context.
+     * @return 1 if successful.
+     */
+    private int executeStop(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        final String name = StringArgumentType.getString(context, NAME_ARG);
+        final int queries = PathfindingBenchmark.stopRecording(context.getSource().getServer(), name);
+        if (queries < 0)
+        {
+            context.getSource().sendFailure(Component.translatable(COMMAND_PATH_BENCHMARK_NOT_RECORDING));
+            return 0;
+        }
+
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PATH_BENCHMARK_STOP, queries, name), true);
+        return 1;
+    }
+
+    /**
+     * Replay a recording and report the results to the executing source.
+     *
+     * @param context the command context.
+     * @return 1 if successful.
+     */
+    private int executeReplay(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        final String name = StringArgumentType.getString(context, NAME_ARG);
+        final CommandSourceStack source = context.getSource();
+        final boolean started = PathfindingBenchmark.replay(source.getServer(),
+          name,
+          IntegerArgumentType.getInteger(context, ITERATIONS_ARG),
+          lines -> lines.forEach(line -> source.sendSuccess(Component.literal(line), false)));
+        if (!started)
+        {
+            source.sendFailure(Component.translatable(COMMAND_PATH_BENCHMARK_BUSY));
+            return 0;
+        }
+
+        source.sendSuccess(Component.translatable(COMMAND_PATH_BENCHMARK_REPLAY, name), true);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathbenchmark";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .then(IMCCommand.newLiteral("record")
+                         .then(IMCCommand.newArgument(RADIUS_ARG, IntegerArgumentType.integer(1, PathfindingBenchmark.MAX_RADIUS)).executes(this::executeRecord)))
+                 .then(IMCCommand.newLiteral("stop")
+                         .then(IMCCommand.newArgument(NAME_ARG, StringArgumentType.word()).executes(this::executeStop)))
+                 .then(IMCCommand.newLiteral("replay")
+                         .then(IMCCommand.newArgument(NAME_ARG, StringArgumentType.word())
+                                 .then(IMCCommand.newArgument(ITERATIONS_ARG, IntegerArgumentType.integer(1, MAX_ITERATIONS)).executes(this::executeReplay))));
+    }
+}
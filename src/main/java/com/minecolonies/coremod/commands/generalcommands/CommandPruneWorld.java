@@ -1,25 +1,23 @@
 package com.minecolonies.coremod.commands.generalcommands;
 
-import com.minecolonies.api.colony.IColony;
-import com.minecolonies.coremod.colony.IColonyManagerCapability;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
 import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.util.RegionPruner;
+import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import net.minecraft.commands.CommandSourceStack;
-import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.storage.LevelResource;
 
-import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
-import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_PRUNE_WORLD_WARNING;
-import static com.minecolonies.coremod.MineColonies.COLONY_MANAGER_CAP;
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.*;
 
 /**
  * Command for pruning world region files to colonies
@@ -27,9 +25,9 @@ import static com.minecolonies.coremod.MineColonies.COLONY_MANAGER_CAP;
 public class CommandPruneWorld implements IMCOPCommand
 {
     /**
-     * Command radius arg, for giving the protection range around buildings
+     * Command radius arg, for giving an additional protection margin around buildings on top of the claimed chunks
      */
-    private static final String RADIUS_ARG = "additional block protection radius";
+    private static final String RADIUS_ARG = "radius";
 
     /**
      * Command stage arg, for execution repeats
@@ -37,9 +35,14 @@ public class CommandPruneWorld implements IMCOPCommand
     private static final String COMMAND_STAGE = "stage";
 
     /**
-     * Base name of region data folders
+     * Command chunks arg, also prunes the unprotected chunks of partly protected regions
      */
-    private static final String REGION_FOLDER = "region";
+    private static final String CHUNKS_ARG = "chunks";
+
+    /**
+     * Command dry run arg, only reports what would be pruned
+     */
+    private static final String DRY_RUN_ARG = "dryrun";
 
     @Override
     public int onExecute(final CommandContext<CommandSourceStack> context)
@@ -58,7 +61,8 @@ public class CommandPruneWorld implements IMCOPCommand
     }
 
     /**
-     * Tries to prune the world, protects colony buildings in this world by the given radius(min 100)
+     * Tries to prune the world to the chunks claimed by colonies, protects an additional margin around colony buildings by the given radius(min 100)
+     * The region files are pruned once the server stopped and closed them, dry runs are checked in the background right away and reported once done.
      *
      * @param context command context
      * @param arg     progress arg
@@ -66,95 +70,64 @@ public class CommandPruneWorld implements IMCOPCommand
      */
     private int tryPrune(final CommandContext<CommandSourceStack> context, final int arg)
     {
-        if (arg < 3)
+        final boolean chunkLevel = getOptionalBool(context, CHUNKS_ARG);
+        final boolean dryRun = getOptionalBool(context, DRY_RUN_ARG);
+        if (arg < 3 && !dryRun)
         {
             context.getSource().sendSuccess(Component.translatable(COMMAND_PRUNE_WORLD_WARNING, arg + 1), true);
             return 0;
         }
 
         final int radius = IntegerArgumentType.getInteger(context, RADIUS_ARG);
-
-        int deleteCount = 0;
-
         final ServerLevel world = context.getSource().getLevel();
-
-        // Local save folder for this word
-        final File saveDir = new File(DimensionType.getStorageFolder(world.dimension(), world.getServer().getWorldPath(LevelResource.ROOT)).toFile(), REGION_FOLDER);
-
-        // Colony list for this world
-        List<IColony> colonies = new ArrayList<>();
-        final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null).orElseGet(null);
-        if (cap != null)
+        final String dimension = world.dimension().location().toString();
+        if (!dryRun)
         {
-            colonies = cap.getColonies();
-        }
-        else
-        {
-            return 0;
+            RegionPruner.schedule(world.dimension(), radius, chunkLevel);
+            context.getSource().sendSuccess(Component.translatable(COMMAND_PRUNE_WORLD_SCHEDULED, dimension), true);
+            return 1;
         }
 
-        // Loop the region data files
-        for (final File currentRegion : saveDir.listFiles())
+        final RegionPruner pruner = new RegionPruner(radius, chunkLevel, true);
+        pruner.protectWorld(world, IColonyManager.getInstance().getColonies(world));
+
+        // Local save folder for this word
+        final Path saveDir = DimensionType.getStorageFolder(world.dimension(), world.getServer().getWorldPath(LevelResource.ROOT));
+        final CompletableFuture<RegionPruner.Result> result = pruner.pruneAsync(saveDir);
+        if (result == null)
         {
-            if (currentRegion != null && currentRegion.getName().contains(".mca"))
-            {
-                final String[] split = currentRegion.getName().split("\\.");
-                if (split.length != 4)
-                {
-                    continue;
-                }
-
-                // Current region file X/Z positions
-                final int regionX = Integer.parseInt(split[1]);
-                final int regionZ = Integer.parseInt(split[2]);
-
-                if (isFarEnoughFromColonies(regionX, regionZ, radius, colonies))
-                {
-                    if (!currentRegion.delete())
-                    {
-                        context.getSource().sendSuccess(Component.literal("Could not delete file:" + currentRegion.getPath()), true);
-                    }
-                    else
-                    {
-                        deleteCount++;
-                        context.getSource().sendSuccess(Component.literal("Deleted file:" + currentRegion.getPath()), true);
-                    }
-                }
-            }
+            context.getSource().sendFailure(Component.translatable(COMMAND_PRUNE_WORLD_RUNNING));
+            return 0;
         }
 
-        context.getSource().sendSuccess(Component.literal("Successfully deleted " + deleteCount + " regions!"), true);
-        return 0;
+        final CommandSourceStack source = context.getSource();
+        source.sendSuccess(Component.translatable(COMMAND_PRUNE_WORLD_DRY_RUN, dimension), true);
+        result.thenAccept(done -> world.getServer()
+                                    .execute(() -> source.sendSuccess(Component.translatable(COMMAND_PRUNE_WORLD_DRY_RUN_RESULT,
+                                      done.getRegions(),
+                                      done.getChunks(),
+                                      done.getMegabytes(),
+                                      done.getFailures()), true)));
+        return 1;
     }
 
     /**
-     * Returns whether the given region coords are far enough away from all colony buildings
+     * Get an optional boolean argument.
      *
-     * @param regionX     X
-     * @param regionZ     Z
-     * @param blockRadius additional protected block radius
-     * @param colonies    colonies to check
-     * @return true if far enough
+     * @param context the command context.
+     * @param name    the argument name.
+     * @return the value or false if not given.
      */
-    private boolean isFarEnoughFromColonies(final int regionX, final int regionZ, final int blockRadius, List<IColony> colonies)
+    private static boolean getOptionalBool(final CommandContext<CommandSourceStack> context, final String name)
     {
-        for (final IColony colony : colonies)
+        try
+        {
+            return BoolArgumentType.getBool(context, name);
+        }
+        catch (final IllegalArgumentException e)
         {
-            for (final BlockPos buildingPos : colony.getBuildingManager().getBuildings().keySet())
-            {
-                // Calculate region corners for the building pos + additionally protected radius
-                final int maxX = (buildingPos.getX() + blockRadius) >> 9;
-                final int minX = (buildingPos.getX() - blockRadius) >> 9;
-                final int maxZ = (buildingPos.getZ() + blockRadius) >> 9;
-                final int minZ = (buildingPos.getZ() - blockRadius) >> 9;
-
-                if (regionX <= maxX && regionX >= minX && regionZ <= maxZ && regionZ >= minZ)
-                {
-                    return false;
-                }
-            }
+            return false;
         }
-        return true;
     }
 
     @Override
@@ -169,7 +142,11 @@ public class CommandPruneWorld implements IMCOPCommand
         return IMCCommand.newLiteral(getName())
                  .then(IMCCommand.newArgument(COMMAND_STAGE, IntegerArgumentType.integer(1))
                          .executes(this::executeWithPage)
-                         .then(IMCCommand.newArgument(RADIUS_ARG, IntegerArgumentType.integer(100, 5000)).executes(this::executeWithPage)))
+                         .then(IMCCommand.newArgument(RADIUS_ARG, IntegerArgumentType.integer(100, 5000))
+                                 .executes(this::executeWithPage)
+                                 .then(IMCCommand.newArgument(CHUNKS_ARG, BoolArgumentType.bool())
+                                         .executes(this::executeWithPage)
+                                         .then(IMCCommand.newArgument(DRY_RUN_ARG, BoolArgumentType.bool()).executes(this::executeWithPage)))))
                  .executes(this::checkPreConditionAndExecute);
     }
 }
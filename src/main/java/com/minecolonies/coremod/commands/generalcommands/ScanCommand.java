@@ -15,6 +15,7 @@ import com.ldtteam.structurize.util.ScanToolData;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.coremod.network.messages.client.SaveStructureNBTMessage;
+import com.minecolonies.coremod.util.SectionBlockReader;
 import com.mojang.authlib.GameProfile;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.arguments.StringArgumentType;
@@ -49,6 +50,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -160,8 +162,7 @@ public class ScanCommand extends AbstractCommand
         final String style = split.length <= 1 ? "" : split[0];
 
         final BlockPos zero = new BlockPos(box.minX(), box.minY(), box.minZ());
-        final Blueprint
-          bp = BlueprintUtil.createBlueprint(world, zero, saveEntities, (short) box.getXSpan(), (short) box.getYSpan(), (short) box.getZSpan(), fileName, slot.getBox().getAnchor());
+        final Blueprint bp = BlueprintUtil.createBlueprint(world, zero, saveEntities, (short) box.getXSpan(), (short) box.getYSpan(), (short) box.getZSpan(), fileName, slot.getBox().getAnchor());
 
         if (slot.getBox().getAnchor().isEmpty() && bp.getPrimaryBlockOffset().equals(new BlockPos(bp.getSizeX() / 2, 0, bp.getSizeZ() / 2)))
         {
@@ -196,12 +197,16 @@ public class ScanCommand extends AbstractCommand
             return;
         }
 
-        final BlockState primary = world.getBlockState(zero.offset(bp.getPrimaryBlockOffset()));
+        // Only the jigsaw pass walks the whole area, read it from section snapshots instead of block by block.
+        final SectionBlockReader reader = SectionBlockReader.read(world, box);
+
+        final BlockPos primaryPos = zero.offset(bp.getPrimaryBlockOffset());
+        final BlockState primary = reader.getBlockState(primaryPos.getX(), primaryPos.getY(), primaryPos.getZ());
         final boolean isHut;
         if (primary.getBlock() instanceof AbstractBlockHut<?>)
         {
             isHut = true;
-            final AbstractTileEntityColonyBuilding building = (AbstractTileEntityColonyBuilding) world.getBlockEntity(zero.offset(bp.getPrimaryBlockOffset()));
+            final AbstractTileEntityColonyBuilding building = (AbstractTileEntityColonyBuilding) world.getBlockEntity(primaryPos);
             building.addTag(new BlockPos(0, 0, 0), "deactivated");
             building.setPackName(style);
             building.setBlueprintPath(fileName.replace( style + "/", ""));
@@ -213,44 +218,43 @@ public class ScanCommand extends AbstractCommand
 
         int lowestY = box.maxY();
         final String piecesName = style.replace(" ", "").toLowerCase(Locale.US);
-        for (final BlockPos mutablePos : BlockPos.betweenClosed(zero, zero.offset(box.getXSpan() - 1, box.getYSpan() - 1, box.getZSpan() - 1)))
+        final List<BlockPos> jigsaws = new ArrayList<>();
+        reader.forEachMatching(state -> state.getBlock() == Blocks.JIGSAW, (pos, state) -> jigsaws.add(pos.immutable()));
+        for (final BlockPos mutablePos : jigsaws)
         {
-            BlockState state = world.getBlockState(mutablePos);
-            if (state.getBlock() == Blocks.JIGSAW)
+            final BlockState state = reader.getBlockState(mutablePos.getX(), mutablePos.getY(), mutablePos.getZ());
+            if (mutablePos.getY() < lowestY)
+            {
+                lowestY = mutablePos.getY();
+            }
+            JigsawBlockEntity jigsawBlockEntity = (JigsawBlockEntity) world.getBlockEntity(mutablePos);
+            if (jigsawBlockEntity.getName().getPath().isEmpty() || jigsawBlockEntity.getName().getPath().equals("empty"))
             {
-                if (mutablePos.getY() < lowestY)
+                if (jigsawBlockEntity.getFinalState().equals("minecraft:air"))
+                {
+                    jigsawBlockEntity.setFinalState("minecraft:structure_void");
+                }
+                if (isHut)
+                {
+                    jigsawBlockEntity.setPool(ResourceKey.create(Registry.TEMPLATE_POOL_REGISTRY, new ResourceLocation("minecolonies:" + piecesName+ "/roads")));
+                    jigsawBlockEntity.setName(new ResourceLocation("minecolonies:building_entrance"));
+                    jigsawBlockEntity.setTarget(new ResourceLocation("minecolonies:building_entrance"));
+                }
+                else if (jigsawBlockEntity.getPool().location().getPath().contains("building"))
                 {
-                    lowestY = mutablePos.getY();
+                    jigsawBlockEntity.setPool(ResourceKey.create(Registry.TEMPLATE_POOL_REGISTRY, new ResourceLocation("minecolonies:" + piecesName+ "/buildings")));
+                    jigsawBlockEntity.setName(new ResourceLocation("minecolonies:building_entrance"));
+                    jigsawBlockEntity.setTarget(new ResourceLocation("minecolonies:building_entrance"));
                 }
-                JigsawBlockEntity jigsawBlockEntity = (JigsawBlockEntity) world.getBlockEntity(mutablePos);
-                if (jigsawBlockEntity.getName().getPath().isEmpty() || jigsawBlockEntity.getName().getPath().equals("empty"))
+                else
                 {
-                    if (jigsawBlockEntity.getFinalState().equals("minecraft:air"))
-                    {
-                        jigsawBlockEntity.setFinalState("minecraft:structure_void");
-                    }
-                    if (isHut)
-                    {
-                        jigsawBlockEntity.setPool(ResourceKey.create(Registry.TEMPLATE_POOL_REGISTRY, new ResourceLocation("minecolonies:" + piecesName+ "/roads")));
-                        jigsawBlockEntity.setName(new ResourceLocation("minecolonies:building_entrance"));
-                        jigsawBlockEntity.setTarget(new ResourceLocation("minecolonies:building_entrance"));
-                    }
-                    else if (jigsawBlockEntity.getPool().location().getPath().contains("building"))
-                    {
-                        jigsawBlockEntity.setPool(ResourceKey.create(Registry.TEMPLATE_POOL_REGISTRY, new ResourceLocation("minecolonies:" + piecesName+ "/buildings")));
-                        jigsawBlockEntity.setName(new ResourceLocation("minecolonies:building_entrance"));
-                        jigsawBlockEntity.setTarget(new ResourceLocation("minecolonies:building_entrance"));
-                    }
-                    else
-                    {
-                        jigsawBlockEntity.setPool(ResourceKey.create(Registry.TEMPLATE_POOL_REGISTRY, new ResourceLocation("minecolonies:" + piecesName+ "/roads")));
-                        jigsawBlockEntity.setName(new ResourceLocation("minecolonies:street"));
-                        jigsawBlockEntity.setTarget(new ResourceLocation("minecolonies:street"));
-                    }
+                    jigsawBlockEntity.setPool(ResourceKey.create(Registry.TEMPLATE_POOL_REGISTRY, new ResourceLocation("minecolonies:" + piecesName+ "/roads")));
+                    jigsawBlockEntity.setName(new ResourceLocation("minecolonies:street"));
+                    jigsawBlockEntity.setTarget(new ResourceLocation("minecolonies:street"));
                 }
-                jigsawBlockEntity.setChanged();
-                world.sendBlockUpdated(mutablePos, state, state, 3);
             }
+            jigsawBlockEntity.setChanged();
+            world.sendBlockUpdated(mutablePos, state, state, 3);
         }
 
         final StructureTemplateManager structuretemplatemanager = ((ServerLevel) world).getStructureManager();
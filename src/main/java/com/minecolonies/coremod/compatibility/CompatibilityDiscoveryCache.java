@@ -0,0 +1,250 @@
+package com.minecolonies.coremod.compatibility;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.compatibility.ICompatibilityManager;
+import com.minecolonies.api.crafting.registry.ModRecipeSerializer;
+import com.minecolonies.api.util.Log;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.IForgeRegistry;
+import net.minecraftforge.registries.tags.ITag;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+
+/**
+ * Disk cache of the compatibility discovery.
+ * The discovered lists only depend on the registries, the item tags, the smelting and compost recipes and the loaded mods and datapacks,
+ * so they are stored together with a fingerprint of those and restored instead of discovered again as long as the fingerprint matches.
+ */
+public final class CompatibilityDiscoveryCache
+{
+    /**
+     * Version of the cache format, bump on every change of the serialized discovery data.
+     */
+    private static final int CACHE_VERSION = 1;
+
+    /**
+     * The cache file in the game directory.
+     */
+    private static final String CACHE_FILE = "compatibility-discovery.bin";
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private CompatibilityDiscoveryCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Run the discovery of the compatibility manager, or restore it from the cache if nothing it depends on changed.
+     *
+     * @param manager the compatibility manager.
+     * @param server  the server.
+     */
+    public static void discover(@NotNull final ICompatibilityManager manager, @NotNull final MinecraftServer server)
+    {
+        final long start = System.nanoTime();
+        final String fingerprint = fingerprint(server);
+        if (restore(manager, fingerprint))
+        {
+            Log.getLogger().info("Restored compatibility discovery from cache in {} ms", (System.nanoTime() - start) / 1_000_000);
+            return;
+        }
+
+        manager.discover(server.getRecipeManager());
+        store(manager, fingerprint);
+        Log.getLogger().info("Finished compatibility discovery in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Restore the discovery from the cache file.
+     *
+     * @param manager     the compatibility manager.
+     * @param fingerprint the current fingerprint.
+     * @return true if the cache matched and was restored.
+     */
+    private static boolean restore(final ICompatibilityManager manager, final String fingerprint)
+    {
+        final Path file = getCacheFile();
+        if (!Files.exists(file))
+        {
+            return false;
+        }
+
+        try
+        {
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(Files.readAllBytes(file)));
+            if (buf.readVarInt() != CACHE_VERSION || !fingerprint.equals(buf.readUtf()))
+            {
+                return false;
+            }
+
+            manager.deserializeDiscovery(buf);
+            return true;
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Failed to restore the compatibility discovery cache, discovering again", e);
+            return false;
+        }
+    }
+
+    /**
+     * Write the discovery to the cache file.
+     *
+     * @param manager     the compatibility manager.
+     * @param fingerprint the current fingerprint.
+     */
+    private static void store(final ICompatibilityManager manager, final String fingerprint)
+    {
+        final Path file = getCacheFile();
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try
+        {
+            buf.writeVarInt(CACHE_VERSION);
+            buf.writeUtf(fingerprint);
+            manager.serializeDiscovery(buf);
+
+            final byte[] data = new byte[buf.readableBytes()];
+            buf.readBytes(data);
+
+            Files.createDirectories(file.getParent());
+            final Path temp = file.resolveSibling(CACHE_FILE + ".tmp");
+            Files.write(temp, data);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Failed to write the compatibility discovery cache", e);
+        }
+        finally
+        {
+            buf.release();
+        }
+    }
+
+    /**
+     * Calculate the fingerprint of everything the discovery depends on.
+     *
+     * @param server the server.
+     * @return the hex fingerprint.
+     */
+    private static String fingerprint(final MinecraftServer server)
+    {
+        final Hasher hasher = Hashing.sha256().newHasher();
+
+        ModList.get().forEachModContainer((id, container) -> hasher.putString(id, StandardCharsets.UTF_8)
+                                                                   .putString(container.getModInfo().getVersion().toString(), StandardCharsets.UTF_8));
+        for (final String pack : server.getPackRepository().getSelectedIds())
+        {
+            hasher.putString(pack, StandardCharsets.UTF_8);
+        }
+
+        putKeys(hasher, ForgeRegistries.ITEMS);
+        putKeys(hasher, ForgeRegistries.BLOCKS);
+        putKeys(hasher, ForgeRegistries.ENTITY_TYPES);
+
+        putTags(hasher, ForgeRegistries.ITEMS);
+        putTags(hasher, ForgeRegistries.ENTITY_TYPES);
+
+        putRecipes(hasher, server.getRecipeManager().byType(RecipeType.SMELTING).values());
+        putRecipes(hasher, server.getRecipeManager().byType(ModRecipeSerializer.CompostRecipeType.get()).values());
+
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Add the keys of a registry to the fingerprint, in registration order.
+     *
+     * @param hasher   the hasher.
+     * @param registry the registry.
+     */
+    private static void putKeys(final Hasher hasher, final IForgeRegistry<?> registry)
+    {
+        for (final ResourceLocation key : registry.getKeys())
+        {
+            hasher.putString(key.toString(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Add the contents of all tags of a registry to the fingerprint, sorted by tag.
+     *
+     * @param hasher   the hasher.
+     * @param registry the registry.
+     * @param <T>      the registry type.
+     */
+    private static <T> void putTags(final Hasher hasher, final IForgeRegistry<T> registry)
+    {
+        final List<ITag<T>> tags = new ArrayList<>(registry.tags().stream().toList());
+        tags.sort(Comparator.comparing(tag -> tag.getKey().location()));
+        for (final ITag<T> tag : tags)
+        {
+            hasher.putString(tag.getKey().location().toString(), StandardCharsets.UTF_8);
+            for (final T value : tag)
+            {
+                hasher.putString(String.valueOf(registry.getKey(value)), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    /**
+     * Add recipes to the fingerprint, sorted by id, using their network form so any change of inputs or results is covered.
+     *
+     * @param hasher  the hasher.
+     * @param recipes the recipes.
+     */
+    @SuppressWarnings("unchecked")
+    private static void putRecipes(final Hasher hasher, final Collection<? extends Recipe<?>> recipes)
+    {
+        final List<Recipe<?>> sorted = new ArrayList<>(recipes);
+        sorted.sort(Comparator.comparing(Recipe::getId));
+
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try
+        {
+            for (final Recipe<?> recipe : sorted)
+            {
+                buf.writeResourceLocation(recipe.getId());
+                ((RecipeSerializer<Recipe<?>>) recipe.getSerializer()).toNetwork(buf, recipe);
+            }
+            hasher.putBytes(buf.nioBuffer());
+        }
+        finally
+        {
+            buf.release();
+        }
+    }
+
+    /**
+     * Get the cache file.
+     *
+     * @return the path.
+     */
+    private static Path getCacheFile()
+    {
+        return FMLPaths.GAMEDIR.get().resolve(MOD_ID).resolve(CACHE_FILE);
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.datalistener;
 
 import com.google.gson.*;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.items.CheckedNbtKey;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
@@ -36,6 +37,7 @@ public class ItemNbtListener extends SimpleJsonResourceReloadListener
     protected void apply(final Map<ResourceLocation, JsonElement> jsonElementMap, final @NotNull ResourceManager resourceManager, final @NotNull ProfilerFiller profiler)
     {
         ItemStackUtils.CHECKED_NBT_KEYS.clear();
+        ItemKey.clearCache();
         for (final Map.Entry<ResourceLocation, JsonElement> entry : jsonElementMap.entrySet())
         {
             tryParse(entry);
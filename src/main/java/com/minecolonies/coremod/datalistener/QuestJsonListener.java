@@ -57,13 +57,22 @@ public class QuestJsonListener extends SimpleJsonResourceReloadListener
     public static void sendGlobalQuestPackets(final ServerPlayer player)
     {
         final FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+        serializeGlobalQuests(byteBuf);
+        Network.getNetwork().sendToPlayer(new GlobalQuestSyncMessage(byteBuf), player);
+    }
+
+    /**
+     * Serialize the global quests into a buffer, in the format read by {@link #readGlobalQuestPackets(FriendlyByteBuf)}.
+     * @param byteBuf the buffer to write to.
+     */
+    public static void serializeGlobalQuests(final FriendlyByteBuf byteBuf)
+    {
         byteBuf.writeInt(globalJsonElementMap.size());
         for (final Map.Entry<ResourceLocation, JsonElement> entry : globalJsonElementMap.entrySet())
         {
             byteBuf.writeResourceLocation(entry.getKey());
             byteBuf.writeByteArray(entry.getValue().toString().getBytes());
         }
-        Network.getNetwork().sendToPlayer(new GlobalQuestSyncMessage(byteBuf), player);
     }
 
     /**
@@ -116,6 +125,7 @@ public class QuestJsonListener extends SimpleJsonResourceReloadListener
             }
         }
 
+        QuestEligibilityIndex.onQuestsReloaded();
         Log.getLogger().info("Finished loading quests from data");
     }
 
@@ -209,7 +219,7 @@ public class QuestJsonListener extends SimpleJsonResourceReloadListener
             }
         }
 
-        return new QuestTemplate(questId, questName, parents, maxOccurrences, parseTriggerOrder(questId, order, questTriggers), questObjectives, questTimeout, questRewards);
+        return new QuestTemplate(questId, questName, parents, maxOccurrences, parseTriggerOrder(questId, order, questTriggers), questTriggers.stream().anyMatch(IQuestTriggerTemplate::isChanceBased), questObjectives, questTimeout, questRewards);
 
         /*
 
@@ -53,6 +53,7 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> implements ITickingS
         this.worker = this.job.getCitizen().getEntity().get();
         this.world = CompatibilityUtils.getWorldFromCitizen(this.worker);
         stateMachine = new TickRateStateMachine<>(AIWorkerState.INIT, this::onException);
+        stateMachine.setProfilingOwner(job.getColony(), job.getJobRegistryEntry().getKey().toString());
     }
 
     @Override
@@ -61,6 +62,12 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> implements ITickingS
         stateMachine.tick();
     }
 
+    @Override
+    public void tick(final int elapsedTicks)
+    {
+        stateMachine.tick(elapsedTicks);
+    }
+
     /**
      * Register one target.
      *
@@ -96,13 +103,13 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> implements ITickingS
     }
 
     /**
-     * Gets the update rate of the worker's statemachine
+     * Gets the update rate of the worker's statemachine, the ticks which pass between two updates.
      *
      * @return update rate
      */
     public int getTickRate()
     {
-        return stateMachine.getTickRate();
+        return stateMachine.getTickRate() * stateMachine.getElapsedTicks();
     }
 
     /**
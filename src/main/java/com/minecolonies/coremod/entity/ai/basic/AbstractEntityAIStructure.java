@@ -372,6 +372,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
 
         final StructurePhasePlacementResult result;
         final StructurePlacer placer = structurePlacer.getA();
+        structurePlacer.getB().resetInventorySnapshot();
         switch (structurePlacer.getB().getStage())
         {
             case BUILD_SOLID:
@@ -458,6 +459,8 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
                 }
                 break;
         }
+        structurePlacer.getB().resetInventorySnapshot();
+        structurePlacer.getB().flushPlacements();
 
         if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FAIL)
         {
@@ -917,11 +920,12 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
     }
 
     /**
-     * Reduces the needed resources by 1.
+     * Reduces the needed resources.
      *
-     * @param stack the stack which has been used now.
+     * @param stack  the stack which has been used now.
+     * @param amount the number of times it has been used.
      */
-    public void reduceNeededResources(final ItemStack stack)
+    public void reduceNeededResources(final ItemStack stack, final int amount)
     {
         /*
          * Nothing to be done here. Workers overwrite this if necessary.
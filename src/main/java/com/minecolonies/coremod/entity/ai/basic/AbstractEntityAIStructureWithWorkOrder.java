@@ -454,9 +454,9 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     }
 
     @Override
-    public void reduceNeededResources(final ItemStack stack)
+    public void reduceNeededResources(final ItemStack stack, final int amount)
     {
-        building.reduceNeededResource(stack, 1);
+        building.reduceNeededResource(stack, amount);
     }
 
     @Override
@@ -392,11 +392,11 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook, Build
     protected IRequestable getSmeltAbleClass()
     {
         final List<ItemStorage> blockedItems = new ArrayList<>(building.getModuleMatching(ItemListModule.class, m -> m.getId().equals(FOOD_EXCLUSION_LIST)).getList());
-        for (final Map.Entry<ItemStorage, Integer> content: building.getTileEntity().getAllContent().entrySet())
+        for (final ItemStorage content : building.getTileEntity().getAllContent().values())
         {
-            if (content.getValue() > content.getKey().getItemStack().getMaxStackSize() * 6 && ItemStackUtils.CAN_EAT.test(content.getKey().getItemStack()))
+            if (content.getAmount() > content.getItemStack().getMaxStackSize() * 6 && ItemStackUtils.CAN_EAT.test(content.getItemStack()))
             {
-                blockedItems.add(content.getKey());
+                blockedItems.add(content);
             }
         }
 
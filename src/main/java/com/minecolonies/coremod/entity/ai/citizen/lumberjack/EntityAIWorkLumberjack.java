@@ -32,6 +32,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.*;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.material.Material;
 import net.minecraft.world.level.pathfinder.Node;
 import net.minecraft.world.level.pathfinder.Path;
@@ -373,6 +374,12 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         }
         if (pathResult == null)
         {
+            final IAIState indexedTreeState = findIndexedTree();
+            if (indexedTreeState != null)
+            {
+                return indexedTreeState;
+            }
+
             if (building.shouldRestrict())
             {
                 final BlockPos startPos = building.getStartRestriction();
@@ -406,6 +413,62 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         return LUMBERJACK_NO_TREES_FOUND;
     }
 
+    /**
+     * Take the nearest tree from the tree index of the building, which saves the path search for it.
+     *
+     * @return the next state, or null if the index is not built yet or empty and the path search has to be used.
+     */
+    @Nullable
+    private IAIState findIndexedTree()
+    {
+        final TreeIndex index = building.getTreeIndex();
+        if (!index.update(world,
+          getTreeSearchZone(),
+          building.getModuleMatching(ItemListModule.class, m -> m.getId().equals(SAPLINGS_LIST)).getList(),
+          building.getSetting(BuildingLumberjack.DYNAMIC_TREES_SIZE).getValue()) || index.isEmpty())
+        {
+            return null;
+        }
+
+        final BlockPos treeLocation = index.pollNearest(world, worker.blockPosition(), building.getColony(), building.shouldRestrict());
+        if (treeLocation == null)
+        {
+            // All checked trees were gone, check the next ones on the next update.
+            return getState();
+        }
+
+        job.setTree(new Tree(world, treeLocation, building.shouldRestrict() ? null : building.getColony()));
+        if (job.getTree().isTree())
+        {
+            job.getTree().findLogs(world, building.shouldRestrict() ? null : building.getColony());
+            return LUMBERJACK_CHOP_TREE;
+        }
+
+        job.setTree(null);
+        return getState();
+    }
+
+    /**
+     * Get the zone the lumberjack searches trees in, the restricted area or the max search range around the hut.
+     *
+     * @return the zone.
+     */
+    private BoundingBox getTreeSearchZone()
+    {
+        if (building.shouldRestrict())
+        {
+            return BoundingBox.fromCorners(building.getStartRestriction(), building.getEndRestriction());
+        }
+
+        final BlockPos hut = building.getPosition();
+        return new BoundingBox(hut.getX() - SEARCH_LIMIT,
+          world.getMinBuildHeight(),
+          hut.getZ() - SEARCH_LIMIT,
+          hut.getX() + SEARCH_LIMIT,
+          world.getMaxBuildHeight(),
+          hut.getZ() + SEARCH_LIMIT);
+    }
+
     private IAIState setNewTree(final BuildingLumberjack building)
     {
         if (pathResult.treeLocation == null)
@@ -0,0 +1,415 @@
+package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingLumberjack;
+import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Index of the trees in the work zone of one lumberjack.
+ * The zone is scanned column by column on the pathfinding threads from a snapshot of the loaded chunks, which keeps the base log of every valid tree.
+ * Block changes and sapling growth mark their column dirty, dirty columns are scanned again on the next query, and the whole zone is rescanned every few minutes
+ * to pick up changes without events. The lumberjack takes the nearest tree which is still valid and only has to path to it.
+ */
+public class TreeIndex
+{
+    /**
+     * Game ticks after which the zone is scanned again.
+     */
+    private static final int REFRESH_INTERVAL = 20 * 60 * 5;
+
+    /**
+     * Max candidates validated per query, the query is retried on the next update if all of them were invalid.
+     */
+    private static final int MAX_VALIDATIONS = 8;
+
+    /**
+     * Max blocks a column is scanned down from its surface.
+     */
+    private static final int MAX_COLUMN_DEPTH = 48;
+
+    /**
+     * The zone of the index, null before the first update.
+     */
+    @Nullable
+    private BoundingBox zone = null;
+
+    /**
+     * The settings the index was built for.
+     */
+    private List<ItemStorage> excludedTrees = new ArrayList<>();
+    private int               dyntreesize   = 0;
+
+    /**
+     * The base log of the tree in each column, keyed by the column position at y zero.
+     */
+    private Long2ObjectMap<BlockPos> trees = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Columns which changed since they were scanned.
+     */
+    private final LongSet dirtyColumns = new LongOpenHashSet();
+
+    /**
+     * The running zone scan, if any.
+     */
+    @Nullable
+    private CompletableFuture<Long2ObjectMap<BlockPos>> scan = null;
+
+    /**
+     * Game time of the last zone scan.
+     */
+    private long lastScan = 0;
+
+    /**
+     * If a zone scan finished since the last reset.
+     */
+    private boolean ready = false;
+
+    /**
+     * Update the index, resets it if the zone or settings changed, starts scans and applies finished scans and dirty columns.
+     *
+     * @param world         the world.
+     * @param zone          the work zone.
+     * @param excludedTrees the trees the lumberjack is not supposed to cut.
+     * @param dyntreesize   the radius a dynamic tree must have in order to get cut down.
+     * @return true if the index can be queried, false while the first scan is still running.
+     */
+    public boolean update(@NotNull final Level world, @NotNull final BoundingBox zone, @NotNull final List<ItemStorage> excludedTrees, final int dyntreesize)
+    {
+        // Columns are scanned down from the surface, which doesn't work below a ceiling.
+        if (world.dimensionType().hasCeiling())
+        {
+            return false;
+        }
+
+        if (!zone.equals(this.zone) || dyntreesize != this.dyntreesize || !excludedTrees.equals(this.excludedTrees))
+        {
+            this.zone = zone;
+            this.excludedTrees = new ArrayList<>(excludedTrees);
+            this.dyntreesize = dyntreesize;
+            trees = new Long2ObjectOpenHashMap<>();
+            dirtyColumns.clear();
+            ready = false;
+            startScan(world);
+        }
+        else if (scan == null && world.getGameTime() - lastScan > REFRESH_INTERVAL)
+        {
+            startScan(world);
+        }
+
+        if (scan != null && scan.isDone())
+        {
+            try
+            {
+                trees = scan.join();
+                ready = true;
+            }
+            catch (final CompletionException e)
+            {
+                Log.getLogger().warn("Failed to scan the lumberjack zone " + zone, e.getCause());
+            }
+            scan = null;
+        }
+
+        if (!ready)
+        {
+            return false;
+        }
+
+        updateDirtyColumns(world);
+        return true;
+    }
+
+    /**
+     * Check if the index has no trees.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return trees.isEmpty();
+    }
+
+    /**
+     * Take the nearest valid tree out of the index, invalid trees on the way are dropped.
+     *
+     * @param world               the world.
+     * @param from                the position to measure the distance from.
+     * @param colony              the colony the tree has to be in.
+     * @param allowInsideBuilding if trees inside buildings are allowed.
+     * @return the base log of the tree or null if none of the checked ones was valid.
+     */
+    @Nullable
+    public BlockPos pollNearest(@NotNull final Level world, @NotNull final BlockPos from, @NotNull final IColony colony, final boolean allowInsideBuilding)
+    {
+        for (int i = 0; i < MAX_VALIDATIONS && !trees.isEmpty(); i++)
+        {
+            long nearestColumn = 0;
+            BlockPos nearest = null;
+            double nearestDist = Double.MAX_VALUE;
+            for (final Long2ObjectMap.Entry<BlockPos> entry : trees.long2ObjectEntrySet())
+            {
+                final double dist = entry.getValue().distSqr(from);
+                if (dist < nearestDist)
+                {
+                    nearestDist = dist;
+                    nearest = entry.getValue();
+                    nearestColumn = entry.getLongKey();
+                }
+            }
+
+            trees.remove(nearestColumn);
+            if (WorldUtil.isBlockLoaded(world, nearest)
+                  && Tree.checkTree(world, nearest, excludedTrees, dyntreesize)
+                  && Tree.checkIfInColony(nearest, colony, world, allowInsideBuilding))
+            {
+                return nearest;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mark the column of a changed position dirty.
+     *
+     * @param pos the position.
+     */
+    public void markDirty(@NotNull final BlockPos pos)
+    {
+        if (zone != null && pos.getX() >= zone.minX() && pos.getX() <= zone.maxX() && pos.getZ() >= zone.minZ() && pos.getZ() <= zone.maxZ())
+        {
+            dirtyColumns.add(BlockPos.asLong(pos.getX(), 0, pos.getZ()));
+        }
+    }
+
+    /**
+     * Mark a changed position dirty in the tree indexes of all lumberjacks of the colony at the position.
+     *
+     * @param level the level.
+     * @param pos   the changed position.
+     */
+    public static void onTreeChanged(@NotNull final LevelAccessor level, @NotNull final BlockPos pos)
+    {
+        if (level.isClientSide() || !(level instanceof Level))
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld((Level) level, pos);
+        if (colony == null)
+        {
+            return;
+        }
+
+        for (final BuildingLumberjack building : colony.getBuildingManager().getBuildingsOfType(BuildingLumberjack.class))
+        {
+            building.getTreeIndex().markDirty(pos);
+        }
+    }
+
+    /**
+     * Check if a block change can affect a tree.
+     *
+     * @param state the placed or removed state.
+     * @return true if it is a log, leaf or sapling.
+     */
+    public static boolean isTreeBlock(@NotNull final BlockState state)
+    {
+        return isLog(state) || state.is(BlockTags.LEAVES) || state.is(BlockTags.SAPLINGS);
+    }
+
+    /**
+     * Start a scan of the whole zone from a snapshot of the loaded chunks.
+     *
+     * @param world the world.
+     */
+    private void startScan(final Level world)
+    {
+        lastScan = world.getGameTime();
+
+        final BoundingBox scanZone = zone;
+        final List<ItemStorage> scanExcludedTrees = excludedTrees;
+        final int scanDyntreesize = dyntreesize;
+        final ChunkCache cache = new ChunkCache(world,
+          new BlockPos(scanZone.minX(), world.getMinBuildHeight(), scanZone.minZ()),
+          new BlockPos(scanZone.maxX(), world.getMaxBuildHeight(), scanZone.maxZ()),
+          0,
+          world.dimensionType());
+
+        scan = CompletableFuture.supplyAsync(() -> scanZone(cache, scanZone, scanExcludedTrees, scanDyntreesize), Pathfinding.getExecutor());
+    }
+
+    /**
+     * Scan all columns of a zone.
+     *
+     * @param world         the chunk snapshot.
+     * @param zone          the zone.
+     * @param excludedTrees the trees the lumberjack is not supposed to cut.
+     * @param dyntreesize   the radius a dynamic tree must have in order to get cut down.
+     * @return the base logs by column.
+     */
+    private static Long2ObjectMap<BlockPos> scanZone(final LevelReader world, final BoundingBox zone, final List<ItemStorage> excludedTrees, final int dyntreesize)
+    {
+        final Long2ObjectMap<BlockPos> result = new Long2ObjectOpenHashMap<>();
+        for (int x = zone.minX(); x <= zone.maxX(); x++)
+        {
+            for (int z = zone.minZ(); z <= zone.maxZ(); z++)
+            {
+                final BlockPos base = scanColumn(world, x, z, result, excludedTrees, dyntreesize);
+                if (base != null)
+                {
+                    result.put(BlockPos.asLong(x, 0, z), base);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scan the dirty columns again in the world.
+     *
+     * @param world the world.
+     */
+    private void updateDirtyColumns(final Level world)
+    {
+        for (final LongIterator it = dirtyColumns.iterator(); it.hasNext(); )
+        {
+            final long column = it.nextLong();
+            final int x = BlockPos.getX(column);
+            final int z = BlockPos.getZ(column);
+            if (!WorldUtil.isBlockLoaded(world, new BlockPos(x, 0, z)))
+            {
+                continue;
+            }
+
+            it.remove();
+            trees.remove(column);
+            final BlockPos base = scanColumn(world, x, z, trees, excludedTrees, dyntreesize);
+            if (base != null)
+            {
+                trees.put(column, base);
+            }
+        }
+    }
+
+    /**
+     * Find the base log of a valid tree in a column.
+     * The column is scanned down from its surface through leaves, logs and plants until the ground, the lowest log of the last log run above the ground is the base.
+     * Trees with a wider trunk are only kept once, in the first column of the trunk.
+     *
+     * @param world         the world or chunk snapshot.
+     * @param x             the x of the column.
+     * @param z             the z of the column.
+     * @param known         the already found bases by column.
+     * @param excludedTrees the trees the lumberjack is not supposed to cut.
+     * @param dyntreesize   the radius a dynamic tree must have in order to get cut down.
+     * @return the base log or null if the column has no valid tree.
+     */
+    @Nullable
+    private static BlockPos scanColumn(
+      final LevelReader world,
+      final int x,
+      final int z,
+      final Long2ObjectMap<BlockPos> known,
+      final List<ItemStorage> excludedTrees,
+      final int dyntreesize)
+    {
+        final ChunkAccess chunk = world.getChunk(x >> 4, z >> 4, ChunkStatus.FULL, false);
+        if (chunk == null)
+        {
+            return null;
+        }
+
+        final int top = chunk.getHeight(Heightmap.Types.WORLD_SURFACE, x, z);
+        final int bottom = Math.max(world.getMinBuildHeight(), top - MAX_COLUMN_DEPTH);
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, top, z);
+        boolean belowLog = false;
+        for (int y = top; y >= bottom; y--)
+        {
+            pos.setY(y);
+            final BlockState state = world.getBlockState(pos);
+            if (isLog(state))
+            {
+                belowLog = true;
+                continue;
+            }
+
+            final boolean passable = state.isAir() || state.is(BlockTags.LEAVES) || state.getMaterial().isReplaceable();
+            if (belowLog && !passable)
+            {
+                final BlockPos base = pos.above().immutable();
+                return !isKnownTrunk(known, base) && Tree.checkTree(world, base, excludedTrees, dyntreesize) ? base : null;
+            }
+
+            if (!passable)
+            {
+                return null;
+            }
+            belowLog = false;
+        }
+        return null;
+    }
+
+    /**
+     * Check if a neighbouring column already has a base log at the same height, which makes the log part of a wider trunk.
+     *
+     * @param known the found bases by column.
+     * @param base  the base log.
+     * @return true if so.
+     */
+    private static boolean isKnownTrunk(final Long2ObjectMap<BlockPos> known, final BlockPos base)
+    {
+        for (int dx = -1; dx <= 1; dx++)
+        {
+            for (int dz = -1; dz <= 1; dz++)
+            {
+                final BlockPos neighbour = known.get(BlockPos.asLong(base.getX() + dx, 0, base.getZ() + dz));
+                if ((dx != 0 || dz != 0) && neighbour != null && neighbour.getY() == base.getY())
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a state is a log, like {@link Tree#checkTree(LevelReader, BlockPos, List, int)} does.
+     *
+     * @param state the state.
+     * @return true if so.
+     */
+    private static boolean isLog(final BlockState state)
+    {
+        return state.is(ModTags.tree) || Compatibility.isSlimeBlock(state.getBlock()) || Compatibility.isDynamicBlock(state.getBlock());
+    }
+}
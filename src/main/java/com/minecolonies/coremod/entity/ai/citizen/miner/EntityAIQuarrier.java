@@ -290,6 +290,7 @@ public class EntityAIQuarrier extends AbstractEntityAIStructureWithWorkOrder<Job
 
         final StructurePhasePlacementResult result;
         final StructurePlacer placer = structurePlacer.getA();
+        structurePlacer.getB().resetInventorySnapshot();
         switch (structurePlacer.getB().getStage())
         {
             case BUILD_SOLID:
@@ -376,6 +377,8 @@ public class EntityAIQuarrier extends AbstractEntityAIStructureWithWorkOrder<Job
                 }
                 break;
         }
+        structurePlacer.getB().resetInventorySnapshot();
+        structurePlacer.getB().flushPlacements();
 
         if (result.getBlockResult().getResult() == BlockPlacementResult.Result.LIMIT_REACHED)
         {
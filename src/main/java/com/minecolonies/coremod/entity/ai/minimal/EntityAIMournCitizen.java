@@ -275,8 +275,14 @@ public class EntityAIMournCitizen implements IStateAI
 
         if (this.graveyard == null)
         {
-            this.graveyard = citizen.getCitizenColonyHandler().getColony().getBuildingManager().getFirstBuildingMatching(b -> b instanceof BuildingGraveyard && b.getFirstModuleOccurance(
-              GraveyardManagementModule.class).hasRestingCitizen(citizen.getCitizenData().getCitizenMournHandler().getDeceasedCitizens()));
+            for (final BuildingGraveyard building : citizen.getCitizenColonyHandler().getColony().getBuildingManager().getBuildingsOfType(BuildingGraveyard.class))
+            {
+                if (building.getFirstModuleOccurance(GraveyardManagementModule.class).hasRestingCitizen(citizen.getCitizenData().getCitizenMournHandler().getDeceasedCitizens()))
+                {
+                    this.graveyard = building.getPosition();
+                    break;
+                }
+            }
         }
 
         if (graveyard != null)
@@ -9,11 +9,13 @@ import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.ToolType;
+import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingStructureBuilder;
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
@@ -23,6 +25,7 @@ import net.minecraft.tags.ItemTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -35,7 +38,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
@@ -74,6 +79,22 @@ public class BuildingStructureHandler<J extends AbstractJobStructure<?, J>, B ex
      */
     private int stage;
 
+    /**
+     * Item counts of the worker inventory during the current placement step, built on the first item check of the step and reduced on consumption.
+     */
+    @Nullable
+    private Map<ItemKey, Integer> inventorySnapshot = null;
+
+    /**
+     * Items placed during the current placement step, the count being the number of placements, applied to the needed resources at the end of the step.
+     */
+    private final List<ItemStack> placedResources = new ArrayList<>();
+
+    /**
+     * Number of placed stacks during the current placement step, added to the statistics at the end of the step.
+     */
+    private int placedStacks = 0;
+
     /**
      * The minecolonies AI specific creative structure placer.
      *
@@ -215,8 +236,8 @@ public class BuildingStructureHandler<J extends AbstractJobStructure<?, J>, B ex
 
             for (final ItemStack stack : list)
             {
-                structureAI.reduceNeededResources(stack);
-                structureAI.getWorker().getCitizenColonyHandler().getColony().getStatisticsManager().increment(BLOCKS_PLACED);
+                addPlacedResource(stack);
+                placedStacks++;
             }
         }
 
@@ -235,7 +256,7 @@ public class BuildingStructureHandler<J extends AbstractJobStructure<?, J>, B ex
 
             for (final ItemStack stack : list)
             {
-                structureAI.reduceNeededResources(stack);
+                addPlacedResource(stack);
             }
         }
     }
@@ -257,19 +278,143 @@ public class BuildingStructureHandler<J extends AbstractJobStructure<?, J>, B ex
             itemList.add(stack);
         }
 
+        if (hasInInventorySnapshot(itemList))
+        {
+            return true;
+        }
+
         return AbstractEntityAIStructure.hasListOfResInInvOrRequest(structureAI, itemList, itemList.size() > 1) == AbstractEntityAIStructure.ItemCheckResult.SUCCESS;
     }
 
+    /**
+     * Check the items against the inventory snapshot of the current placement step, so placing several blocks in one step doesn't scan the inventory for each.
+     * Only answers if the worker has the full amount of every item, everything else goes through the regular check which also requests missing items.
+     *
+     * @param requiredItems the required items.
+     * @return true if all items are in the inventory.
+     */
+    private boolean hasInInventorySnapshot(final List<ItemStack> requiredItems)
+    {
+        final IItemHandler inventory = getInventory();
+        if (inventory == null)
+        {
+            return false;
+        }
+
+        if (inventorySnapshot == null)
+        {
+            inventorySnapshot = new HashMap<>();
+            for (int slot = 0; slot < inventory.getSlots(); slot++)
+            {
+                final ItemStack stack = inventory.getStackInSlot(slot);
+                if (!ItemStackUtils.isEmpty(stack))
+                {
+                    inventorySnapshot.merge(ItemKey.of(stack), stack.getCount(), Integer::sum);
+                }
+            }
+        }
+
+        final Map<ItemKey, Integer> required = new HashMap<>();
+        for (final ItemStack stack : requiredItems)
+        {
+            if (stack.getItem() instanceof BlockItem && AbstractEntityAIStructure.isBlockFree(((BlockItem) stack.getItem()).getBlock().defaultBlockState()))
+            {
+                continue;
+            }
+
+            if (ItemStackUtils.isEmpty(stack))
+            {
+                return false;
+            }
+            required.merge(ItemKey.of(stack), stack.getCount(), Integer::sum);
+        }
+
+        for (final Map.Entry<ItemKey, Integer> entry : required.entrySet())
+        {
+            if (inventorySnapshot.getOrDefault(entry.getKey(), 0) < entry.getValue())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drop the inventory snapshot, called before and after every placement step as the inventory may change in between.
+     */
+    public void resetInventorySnapshot()
+    {
+        inventorySnapshot = null;
+    }
+
+    /**
+     * Count one placement of an item for the needed resources of the current step.
+     *
+     * @param stack the placed stack.
+     */
+    private void addPlacedResource(final ItemStack stack)
+    {
+        for (final ItemStack placed : placedResources)
+        {
+            if (ItemStack.isSameItemSameTags(placed, stack))
+            {
+                placed.grow(1);
+                return;
+            }
+        }
+
+        final ItemStack copy = stack.copy();
+        copy.setCount(1);
+        placedResources.add(copy);
+    }
+
+    /**
+     * Apply the bookkeeping of all placements of the current step at once, called at the end of every placement step.
+     * Reduces the needed resources once per item and adds the placed blocks to the statistics, instead of marking the building dirty for each block.
+     */
+    public void flushPlacements()
+    {
+        for (final ItemStack stack : placedResources)
+        {
+            structureAI.reduceNeededResources(stack, stack.getCount());
+        }
+        placedResources.clear();
+
+        if (placedStacks > 0)
+        {
+            structureAI.getWorker().getCitizenColonyHandler().getColony().getStatisticsManager().incrementBy(BLOCKS_PLACED, placedStacks);
+            placedStacks = 0;
+        }
+    }
+
     @Override
     public void consume(final List<ItemStack> requiredItems)
     {
-        if (this.getInventory() != null)
+        final IItemHandler inventory = this.getInventory();
+        if (inventory != null)
         {
             for (final ItemStack tempStack : requiredItems)
             {
-                if (!ItemStackUtils.isEmpty(tempStack))
+                if (ItemStackUtils.isEmpty(tempStack))
+                {
+                    continue;
+                }
+
+                // the same slot reduceStackInItemHandler shrinks, so the snapshot loses exactly what the inventory lost.
+                final int slot = InventoryUtils.findFirstSlotInItemHandlerWith(inventory, stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, tempStack));
+                if (slot == -1)
+                {
+                    continue;
+                }
+
+                final ItemStack consumed = inventory.getStackInSlot(slot);
+                final ItemKey consumedKey = ItemKey.of(consumed);
+                final int before = consumed.getCount();
+                InventoryUtils.reduceStackInItemHandler(inventory, tempStack);
+                if (inventorySnapshot != null)
                 {
-                    InventoryUtils.reduceStackInItemHandler(this.getInventory(), tempStack);
+                    final int removed = before - inventory.getStackInSlot(slot).getCount();
+                    inventorySnapshot.computeIfPresent(consumedKey, (key, count) -> count - removed);
                 }
             }
         }
@@ -284,7 +429,7 @@ public class BuildingStructureHandler<J extends AbstractJobStructure<?, J>, B ex
     @Override
     public int getStepsPerCall()
     {
-        return 1;
+        return MineColonies.getConfig().getServer().builderPlacementsPerStep.get();
     }
 
     @Override
@@ -141,6 +141,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     private static final double MAX_SPEED_FACTOR    = 0.5;
     private static final int    CALL_TO_HELP_AMOUNT = 2;
 
+    /**
+     * Ticks between two AI updates of citizens far from any player.
+     */
+    private static final int LOW_DETAIL_SIMULATION_TICKS = 4;
+
     /**
      * It's citizen Id.
      */
@@ -251,6 +256,16 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
      */
     private ITickRateStateMachine<IState> citizenAI = new TickRateStateMachine<>(CitizenAIState.IDLE, e -> {});
 
+    /**
+     * Ticks between two updates of the citizen AI, increased for citizens far from any player.
+     */
+    private int simulationTicks = 1;
+
+    /**
+     * Ticks since the last update of the citizen AI.
+     */
+    private int simulationCounter = 0;
+
     /**
      * Constructor for a new citizen typed entity.
      *
@@ -292,7 +307,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::onTickDecrements, () -> null, 1));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::shouldBeInactive, () -> EntityState.INACTIVE, TICKS_20));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, () -> {
-            citizenAI.tick();
+            if (++simulationCounter >= simulationTicks)
+            {
+                simulationCounter = 0;
+                citizenAI.tick(simulationTicks);
+            }
             return false;
         }, () -> null, 1));
 
@@ -781,6 +800,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         citizenData.setLastPosition(blockPosition());
         citizenDiseaseHandler.tick();
         onLivingSoundUpdate();
+        updateSimulationDetail();
 
         final ChunkPos currentChunk = chunkPosition();
         if ((!Objects.equals(currentChunk, lastChunk)))
@@ -796,6 +816,38 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         return false;
     }
 
+    /**
+     * Reduces the AI update rate of citizens which are far from any player.
+     * Citizens in combat, guards and citizens of raided colonies always run at full detail.
+     */
+    private void updateSimulationDetail()
+    {
+        final int range = MineColonies.getConfig().getServer().citizenDetailRange.get();
+        if (range <= 0
+              || getLastHurtByMob() != null
+              || citizenJobHandler.getColonyJob() instanceof AbstractJobGuard
+              || citizenColonyHandler.getColony() == null
+              || citizenColonyHandler.getColony().getRaiderManager().isRaided()
+              || level.hasNearbyAlivePlayer(getX(), getY(), getZ(), range))
+        {
+            simulationTicks = 1;
+        }
+        else
+        {
+            simulationTicks = LOW_DETAIL_SIMULATION_TICKS;
+        }
+    }
+
+    /**
+     * Get the ticks between two updates of the citizen AI.
+     *
+     * @return the ticks, 1 at full detail.
+     */
+    public int getSimulationTicks()
+    {
+        return simulationTicks;
+    }
+
     @Override
     public int getMaxAirSupply()
     {
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
@@ -35,6 +36,11 @@ import java.util.List;
 
 public class ChunkCache implements LevelReader
 {
+    /**
+     * Chunks to use instead of the loaded chunks of the level, set on the thread replaying recorded path queries.
+     */
+    private static final ThreadLocal<Long2ObjectMap<LevelChunk>> terrainOverride = new ThreadLocal<>();
+
     /**
      * Dimensiontype.
      */
@@ -67,11 +73,16 @@ public class ChunkCache implements LevelReader
         this.chunkArray = new LevelChunk[i - this.chunkX + 1][j - this.chunkZ + 1];
         this.empty = true;
 
+        final Long2ObjectMap<LevelChunk> override = terrainOverride.get();
         for (int k = this.chunkX; k <= i; ++k)
         {
             for (int l = this.chunkZ; l <= j; ++l)
             {
-                if (WorldUtil.isEntityChunkLoaded(world, new ChunkPos(k, l)) && worldIn.getChunkSource() instanceof ServerChunkCache serverChunkCache)
+                if (override != null)
+                {
+                    this.chunkArray[k - this.chunkX][l - this.chunkZ] = override.get(ChunkPos.asLong(k, l));
+                }
+                else if (WorldUtil.isEntityChunkLoaded(world, new ChunkPos(k, l)) && worldIn.getChunkSource() instanceof ServerChunkCache serverChunkCache)
                 {
                     final ChunkHolder holder = serverChunkCache.chunkMap.visibleChunkMap.get(ChunkPos.asLong(k, l));
                     if (holder != null)
@@ -87,6 +98,23 @@ public class ChunkCache implements LevelReader
         maxBuildHeight = worldIn.getMaxBuildHeight();
     }
 
+    /**
+     * Set the chunks caches created on the current thread read from instead of the level, or null to read from the level again.
+     *
+     * @param chunks the chunks by chunk position.
+     */
+    public static void setTerrainOverride(@Nullable final Long2ObjectMap<LevelChunk> chunks)
+    {
+        if (chunks == null)
+        {
+            terrainOverride.remove();
+        }
+        else
+        {
+            terrainOverride.set(chunks);
+        }
+    }
+
     /**
      * set by !chunk.getAreLevelsEmpty
      *
@@ -7,6 +7,7 @@ import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.pathfinding.*;
 import com.minecolonies.api.util.*;
+import com.minecolonies.coremod.entity.pathfinding.benchmark.PathfindingBenchmark;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.*;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.core.BlockPos;
@@ -217,6 +218,10 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         }
 
         job.setPathingOptions(getPathingOptions());
+        if (PathfindingBenchmark.isRecording())
+        {
+            PathfindingBenchmark.onJobStarted(ourEntity.level, job);
+        }
         pathResult = job.getResult();
         pathResult.startJob(Pathfinding.getExecutor());
         return pathResult;
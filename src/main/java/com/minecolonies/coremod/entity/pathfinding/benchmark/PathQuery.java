@@ -0,0 +1,353 @@
+package com.minecolonies.coremod.entity.pathfinding.benchmark;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobFindTree;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobRandomPos;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A recorded path query, holds the arguments of a path job so the same job can be created again for a replay.
+ */
+public final class PathQuery
+{
+    /**
+     * The replayable job types.
+     */
+    public enum Type
+    {
+        MOVE_TO_LOCATION,
+        RANDOM_POS,
+        FIND_TREE
+    }
+
+    /**
+     * Nbt tags of the arguments.
+     */
+    private static final String TAG_TYPE                 = "type";
+    private static final String TAG_START                = "start";
+    private static final String TAG_END                  = "end";
+    private static final String TAG_RANGE                = "range";
+    private static final String TAG_MIN_DIST             = "minDist";
+    private static final String TAG_MAX_DIST             = "maxDist";
+    private static final String TAG_HUT                  = "hut";
+    private static final String TAG_RESTRICTION_START    = "restrictionStart";
+    private static final String TAG_RESTRICTION_END      = "restrictionEnd";
+    private static final String TAG_RESTRICTION_FURTHEST = "restrictionFurthest";
+    private static final String TAG_EXCLUDED             = "excluded";
+    private static final String TAG_DYN_SIZE             = "dynSize";
+    private static final String TAG_COLONY               = "colony";
+    private static final String TAG_OPTIONS              = "options";
+
+    /**
+     * Nbt tags of the pathing options.
+     */
+    private static final String TAG_JUMP_COST       = "jump";
+    private static final String TAG_DROP_COST       = "drop";
+    private static final String TAG_ON_PATH_COST    = "onPath";
+    private static final String TAG_ON_RAIL_COST    = "onRail";
+    private static final String TAG_RAIL_EXIT_COST  = "railExit";
+    private static final String TAG_SWIM_COST       = "swim";
+    private static final String TAG_SWIM_ENTER_COST = "swimEnter";
+    private static final String TAG_TOGGLE_COST     = "toggle";
+    private static final String TAG_VINE_COST       = "vine";
+    private static final String TAG_USE_RAILS       = "useRails";
+    private static final String TAG_SWIM            = "canSwim";
+    private static final String TAG_ENTER_DOORS     = "enterDoors";
+    private static final String TAG_OPEN_DOORS      = "openDoors";
+    private static final String TAG_CLIMB_VINES     = "climbVines";
+    private static final String TAG_PASS_DANGER     = "passDanger";
+
+    /**
+     * The job type.
+     */
+    private final Type type;
+
+    /**
+     * The job arguments.
+     */
+    private final CompoundTag data;
+
+    /**
+     * Create a new query.
+     *
+     * @param type the job type.
+     * @param data the job arguments.
+     */
+    private PathQuery(final Type type, final CompoundTag data)
+    {
+        this.type = type;
+        this.data = data;
+    }
+
+    /**
+     * Create the query of a {@link PathJobMoveToLocation}.
+     *
+     * @param start the start.
+     * @param end   the destination.
+     * @param range the range.
+     * @return the query.
+     */
+    public static PathQuery moveToLocation(@NotNull final BlockPos start, @NotNull final BlockPos end, final int range)
+    {
+        final CompoundTag data = new CompoundTag();
+        data.put(TAG_START, NbtUtils.writeBlockPos(start));
+        data.put(TAG_END, NbtUtils.writeBlockPos(end));
+        data.putInt(TAG_RANGE, range);
+        return new PathQuery(Type.MOVE_TO_LOCATION, data);
+    }
+
+    /**
+     * Create the query of a {@link PathJobRandomPos}, with the destination it picked.
+     *
+     * @param start            the start.
+     * @param minDistFromStart how far to move away.
+     * @param range            the range.
+     * @param maxDistToDest    the max distance to the destination, -1 for any.
+     * @param destination      the picked destination.
+     * @return the query.
+     */
+    public static PathQuery randomPos(@NotNull final BlockPos start, final int minDistFromStart, final int range, final int maxDistToDest, @NotNull final BlockPos destination)
+    {
+        final CompoundTag data = new CompoundTag();
+        data.put(TAG_START, NbtUtils.writeBlockPos(start));
+        data.put(TAG_END, NbtUtils.writeBlockPos(destination));
+        data.putInt(TAG_RANGE, range);
+        data.putInt(TAG_MIN_DIST, minDistFromStart);
+        data.putInt(TAG_MAX_DIST, maxDistToDest);
+        return new PathQuery(Type.RANDOM_POS, data);
+    }
+
+    /**
+     * Create the query of a {@link PathJobFindTree}.
+     *
+     * @param start               the start.
+     * @param hut                 the position of the lumberjack hut.
+     * @param range               the range, only used without restriction.
+     * @param startRestriction    the start of the restricted area or null.
+     * @param endRestriction      the end of the restricted area or null.
+     * @param furthestRestriction the corner of the restricted area furthest from the start or null.
+     * @param excludedTrees       the trees not to cut.
+     * @param dyntreesize         the radius a dynamic tree must have.
+     * @param colonyId            the colony id.
+     * @return the query.
+     */
+    public static PathQuery findTree(
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos hut,
+      final int range,
+      @Nullable final BlockPos startRestriction,
+      @Nullable final BlockPos endRestriction,
+      @Nullable final BlockPos furthestRestriction,
+      @NotNull final List<ItemStorage> excludedTrees,
+      final int dyntreesize,
+      final int colonyId)
+    {
+        final CompoundTag data = new CompoundTag();
+        data.put(TAG_START, NbtUtils.writeBlockPos(start));
+        data.put(TAG_HUT, NbtUtils.writeBlockPos(hut));
+        data.putInt(TAG_RANGE, range);
+        if (startRestriction != null && endRestriction != null && furthestRestriction != null)
+        {
+            data.put(TAG_RESTRICTION_START, NbtUtils.writeBlockPos(startRestriction));
+            data.put(TAG_RESTRICTION_END, NbtUtils.writeBlockPos(endRestriction));
+            data.put(TAG_RESTRICTION_FURTHEST, NbtUtils.writeBlockPos(furthestRestriction));
+        }
+
+        final ListTag excluded = new ListTag();
+        for (final ItemStorage storage : excludedTrees)
+        {
+            excluded.add(storage.getItemStack().save(new CompoundTag()));
+        }
+        data.put(TAG_EXCLUDED, excluded);
+        data.putInt(TAG_DYN_SIZE, dyntreesize);
+        data.putInt(TAG_COLONY, colonyId);
+        return new PathQuery(Type.FIND_TREE, data);
+    }
+
+    /**
+     * Get the job type.
+     *
+     * @return the type.
+     */
+    public Type getType()
+    {
+        return type;
+    }
+
+    /**
+     * Get the start of the query.
+     *
+     * @return the start position.
+     */
+    public BlockPos getStart()
+    {
+        return NbtUtils.readBlockPos(data.getCompound(TAG_START));
+    }
+
+    /**
+     * Store the pathing options the job was started with.
+     *
+     * @param options the options.
+     * @return this query.
+     */
+    public PathQuery withOptions(@NotNull final PathingOptions options)
+    {
+        final CompoundTag tag = new CompoundTag();
+        tag.putDouble(TAG_JUMP_COST, options.jumpCost);
+        tag.putDouble(TAG_DROP_COST, options.dropCost);
+        tag.putDouble(TAG_ON_PATH_COST, options.onPathCost);
+        tag.putDouble(TAG_ON_RAIL_COST, options.onRailCost);
+        tag.putDouble(TAG_RAIL_EXIT_COST, options.railsExitCost);
+        tag.putDouble(TAG_SWIM_COST, options.swimCost);
+        tag.putDouble(TAG_SWIM_ENTER_COST, options.swimCostEnter);
+        tag.putDouble(TAG_TOGGLE_COST, options.traverseToggleAbleCost);
+        tag.putDouble(TAG_VINE_COST, options.vineCost);
+        tag.putBoolean(TAG_USE_RAILS, options.canUseRails());
+        tag.putBoolean(TAG_SWIM, options.canSwim());
+        tag.putBoolean(TAG_ENTER_DOORS, options.canEnterDoors());
+        tag.putBoolean(TAG_OPEN_DOORS, options.canOpenDoors());
+        tag.putBoolean(TAG_CLIMB_VINES, options.canClimbVines());
+        tag.putBoolean(TAG_PASS_DANGER, options.canPassDanger());
+        data.put(TAG_OPTIONS, tag);
+        return this;
+    }
+
+    /**
+     * Create the path job of this query, without an entity.
+     *
+     * @param level the level to create the job in, the terrain is taken from the active terrain override if any.
+     * @return the job or null if the query can't be replayed in this world.
+     */
+    @Nullable
+    public AbstractPathJob createJob(@NotNull final Level level)
+    {
+        final BlockPos start = getStart();
+        final AbstractPathJob job;
+        switch (type)
+        {
+            case MOVE_TO_LOCATION:
+                job = new PathJobMoveToLocation(level, start, readPos(TAG_END), data.getInt(TAG_RANGE), null);
+                break;
+            case RANDOM_POS:
+                job = new PathJobRandomPos(level, start, data.getInt(TAG_MIN_DIST), data.getInt(TAG_RANGE), data.getInt(TAG_MAX_DIST), null, readPos(TAG_END));
+                break;
+            default:
+                final IColony colony = IColonyManager.getInstance().getColonyByDimension(data.getInt(TAG_COLONY), level.dimension());
+                if (colony == null)
+                {
+                    return null;
+                }
+
+                final List<ItemStorage> excludedTrees = new ArrayList<>();
+                final ListTag excluded = data.getList(TAG_EXCLUDED, Tag.TAG_COMPOUND);
+                for (int i = 0; i < excluded.size(); i++)
+                {
+                    excludedTrees.add(new ItemStorage(ItemStack.of(excluded.getCompound(i))));
+                }
+
+                if (data.contains(TAG_RESTRICTION_START))
+                {
+                    job = new PathJobFindTree(level,
+                      start,
+                      readPos(TAG_HUT),
+                      readPos(TAG_RESTRICTION_START),
+                      readPos(TAG_RESTRICTION_END),
+                      readPos(TAG_RESTRICTION_FURTHEST),
+                      excludedTrees,
+                      data.getInt(TAG_DYN_SIZE),
+                      colony,
+                      null);
+                }
+                else
+                {
+                    job = new PathJobFindTree(level, start, readPos(TAG_HUT), data.getInt(TAG_RANGE), excludedTrees, data.getInt(TAG_DYN_SIZE), colony, null);
+                }
+                break;
+        }
+
+        if (data.contains(TAG_OPTIONS))
+        {
+            job.setPathingOptions(readOptions(data.getCompound(TAG_OPTIONS)));
+        }
+        return job;
+    }
+
+    /**
+     * Write the query to nbt.
+     *
+     * @return the compound.
+     */
+    public CompoundTag write()
+    {
+        final CompoundTag tag = data.copy();
+        tag.putString(TAG_TYPE, type.name());
+        return tag;
+    }
+
+    /**
+     * Read a query from nbt.
+     *
+     * @param tag the compound.
+     * @return the query.
+     */
+    public static PathQuery read(@NotNull final CompoundTag tag)
+    {
+        final CompoundTag data = tag.copy();
+        data.remove(TAG_TYPE);
+        return new PathQuery(Type.valueOf(tag.getString(TAG_TYPE)), data);
+    }
+
+    /**
+     * Read a position argument.
+     *
+     * @param key the tag.
+     * @return the position.
+     */
+    private BlockPos readPos(final String key)
+    {
+        return NbtUtils.readBlockPos(data.getCompound(key));
+    }
+
+    /**
+     * Read stored pathing options.
+     *
+     * @param tag the options compound.
+     * @return the options.
+     */
+    private static PathingOptions readOptions(final CompoundTag tag)
+    {
+        final PathingOptions options = new PathingOptions();
+        options.jumpCost = tag.getDouble(TAG_JUMP_COST);
+        options.dropCost = tag.getDouble(TAG_DROP_COST);
+        options.onPathCost = tag.getDouble(TAG_ON_PATH_COST);
+        options.onRailCost = tag.getDouble(TAG_ON_RAIL_COST);
+        options.railsExitCost = tag.getDouble(TAG_RAIL_EXIT_COST);
+        options.swimCost = tag.getDouble(TAG_SWIM_COST);
+        options.swimCostEnter = tag.getDouble(TAG_SWIM_ENTER_COST);
+        options.traverseToggleAbleCost = tag.getDouble(TAG_TOGGLE_COST);
+        options.vineCost = tag.getDouble(TAG_VINE_COST);
+        options.setCanUseRails(tag.getBoolean(TAG_USE_RAILS));
+        options.setCanSwim(tag.getBoolean(TAG_SWIM));
+        options.setEnterDoors(tag.getBoolean(TAG_ENTER_DOORS));
+        options.setCanOpenDoors(tag.getBoolean(TAG_OPEN_DOORS));
+        options.setCanClimbVines(tag.getBoolean(TAG_CLIMB_VINES));
+        options.setPassDanger(tag.getBoolean(TAG_PASS_DANGER));
+        return options;
+    }
+}
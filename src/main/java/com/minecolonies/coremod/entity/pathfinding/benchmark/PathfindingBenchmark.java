@@ -0,0 +1,488 @@
+package com.minecolonies.coremod.entity.pathfinding.benchmark;
+
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.Util;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.level.storage.LevelResource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+
+/**
+ * Records the path queries of the citizens in an area together with a snapshot of its terrain, and replays them later on the snapshot to measure the pathfinding.
+ * A recording of a busy colony is a reproducible workload: replays run the same jobs on the same blocks on a single thread without any entity,
+ * so the numbers of two builds or two configurations can be compared directly.
+ */
+public final class PathfindingBenchmark
+{
+    /**
+     * Nbt tags of a recording.
+     */
+    private static final String TAG_TERRAIN = "terrain";
+    private static final String TAG_QUERIES = "queries";
+
+    /**
+     * The folder of the recordings in the world folder.
+     */
+    private static final String FOLDER = "pathbenchmark";
+
+    /**
+     * Maximum radius of a recorded area in blocks.
+     */
+    public static final int MAX_RADIUS = 128;
+
+    /**
+     * Maximum amount of recorded queries.
+     */
+    private static final int MAX_QUERIES = 10000;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * The active recording, null if not recording.
+     */
+    @Nullable
+    private static volatile Recording recording;
+
+    /**
+     * If a replay is running.
+     */
+    private static final AtomicBoolean replaying = new AtomicBoolean();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private PathfindingBenchmark()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start recording the path queries started in an area, replacing any active recording.
+     *
+     * @param level  the level.
+     * @param center the center of the area.
+     * @param radius the radius of the area.
+     * @return the amount of captured chunks.
+     */
+    public static int startRecording(@NotNull final ServerLevel level, @NotNull final BlockPos center, final int radius)
+    {
+        final int clamped = Math.max(1, Math.min(radius, MAX_RADIUS));
+        final ChunkPos from = new ChunkPos(center.offset(-clamped, 0, -clamped));
+        final ChunkPos to = new ChunkPos(center.offset(clamped, 0, clamped));
+        final TerrainSnapshot terrain = TerrainSnapshot.capture(level, from, to);
+        recording = new Recording(level.dimension(), center.getX() - clamped, center.getZ() - clamped, center.getX() + clamped, center.getZ() + clamped, terrain);
+        return terrain.getChunkCount();
+    }
+
+    /**
+     * Check if a recording is active.
+     *
+     * @return true if so.
+     */
+    public static boolean isRecording()
+    {
+        return recording != null;
+    }
+
+    /**
+     * Called for every started path job, records it if it starts in the recorded area.
+     *
+     * @param level the level of the job.
+     * @param job   the job.
+     */
+    public static void onJobStarted(@NotNull final Level level, @NotNull final AbstractPathJob job)
+    {
+        final Recording current = recording;
+        if (current == null || current.dimension != level.dimension())
+        {
+            return;
+        }
+
+        final PathQuery query = job.getBenchmarkQuery();
+        if (query != null && current.contains(query.getStart()))
+        {
+            current.add(query, job.getPathingOptions());
+        }
+    }
+
+    /**
+     * Stop the active recording and write it to the world folder.
+     *
+     * @param server the server.
+     * @param name   the name of the recording.
+     * @return the amount of recorded queries, or -1 if there was no active recording.
+     */
+    public static int stopRecording(@NotNull final MinecraftServer server, @NotNull final String name)
+    {
+        final Recording current = recording;
+        recording = null;
+        if (current == null)
+        {
+            return -1;
+        }
+
+        final List<PathQuery> queries = current.getQueries();
+        final Path file = getFile(server, name);
+        Util.ioPool().execute(() -> {
+            final CompoundTag tag = new CompoundTag();
+            tag.put(TAG_TERRAIN, current.terrain.write());
+            final ListTag queryList = new ListTag();
+            for (final PathQuery query : queries)
+            {
+                queryList.add(query.write());
+            }
+            tag.put(TAG_QUERIES, queryList);
+
+            try
+            {
+                Files.createDirectories(file.getParent());
+                NbtIo.writeCompressed(tag, file.toFile());
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Failed to write the pathfinding recording " + name, e);
+            }
+        });
+        return queries.size();
+    }
+
+    /**
+     * Replay a recording on a separate thread and report the results on the server thread.
+     *
+     * @param server     the server.
+     * @param name       the name of the recording.
+     * @param iterations how often to replay all queries, after one warmup pass.
+     * @param report     receives the report lines.
+     * @return false if a replay is already running.
+     */
+    public static boolean replay(@NotNull final MinecraftServer server, @NotNull final String name, final int iterations, @NotNull final Consumer<List<String>> report)
+    {
+        if (!replaying.compareAndSet(false, true))
+        {
+            return false;
+        }
+
+        final Path file = getFile(server, name);
+        final Thread thread = new Thread(() -> {
+            List<String> lines;
+            try
+            {
+                lines = runReplay(server, file, Math.max(1, iterations));
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Failed to replay the pathfinding recording " + name, e);
+                lines = Collections.singletonList("Replay failed: " + e.getMessage());
+            }
+            finally
+            {
+                ChunkCache.setTerrainOverride(null);
+                replaying.set(false);
+            }
+
+            final List<String> result = lines;
+            server.execute(() -> report.accept(result));
+        }, "Minecolonies Pathfinding Benchmark");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * Load and run a recording on the current thread.
+     *
+     * @param server     the server.
+     * @param file       the recording file.
+     * @param iterations the measured passes.
+     * @return the report lines.
+     * @throws Exception if the recording can't be read.
+     */
+    private static List<String> runReplay(final MinecraftServer server, final Path file, final int iterations) throws Exception
+    {
+        if (!Files.exists(file))
+        {
+            return Collections.singletonList("No recording at " + file);
+        }
+
+        final CompoundTag tag = NbtIo.readCompressed(file.toFile());
+        final CompoundTag terrain = tag.getCompound(TAG_TERRAIN);
+        final ResourceKey<Level> dimension = TerrainSnapshot.readDimension(terrain);
+        final ServerLevel level = server.getLevel(dimension);
+        if (level == null)
+        {
+            return Collections.singletonList("Unknown dimension " + dimension.location());
+        }
+
+        final Long2ObjectMap<LevelChunk> chunks = TerrainSnapshot.loadChunks(terrain, level);
+        final List<PathQuery> queries = new ArrayList<>();
+        final ListTag queryList = tag.getList(TAG_QUERIES, Tag.TAG_COMPOUND);
+        for (int i = 0; i < queryList.size(); i++)
+        {
+            queries.add(PathQuery.read(queryList.getCompound(i)));
+        }
+
+        ChunkCache.setTerrainOverride(chunks);
+        run(level, queries, null);
+
+        final Map<PathQuery.Type, Stats> stats = new EnumMap<>(PathQuery.Type.class);
+        for (int i = 0; i < iterations; i++)
+        {
+            run(level, queries, stats);
+        }
+
+        final List<String> lines = new ArrayList<>();
+        lines.add(String.format("%d queries on %d chunks, %d passes", queries.size(), chunks.size(), iterations));
+        for (final Map.Entry<PathQuery.Type, Stats> entry : stats.entrySet())
+        {
+            lines.add(entry.getKey() + ": " + entry.getValue().summarize());
+        }
+        return lines;
+    }
+
+    /**
+     * Run all queries once.
+     *
+     * @param level   the level.
+     * @param queries the queries.
+     * @param stats   the stats to add the measurements to, null for a warmup pass.
+     */
+    private static void run(final Level level, final List<PathQuery> queries, @Nullable final Map<PathQuery.Type, Stats> stats)
+    {
+        for (final PathQuery query : queries)
+        {
+            final long allocatedBefore = getAllocatedBytes();
+            final long start = System.nanoTime();
+            final AbstractPathJob job = query.createJob(level);
+            if (job == null)
+            {
+                continue;
+            }
+            final net.minecraft.world.level.pathfinder.Path path = job.call();
+            final long time = System.nanoTime() - start;
+            final long allocated = getAllocatedBytes() - allocatedBefore;
+
+            if (stats != null)
+            {
+                stats.computeIfAbsent(query.getType(), type -> new Stats()).add(time, allocated, job.getTotalNodesVisited(), path != null && path.canReach());
+            }
+        }
+    }
+
+    /**
+     * Get the bytes allocated by the current thread so far, if the jvm supports measuring it.
+     *
+     * @return the allocated bytes or 0.
+     */
+    private static long getAllocatedBytes()
+    {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported())
+        {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Get the file of a recording.
+     *
+     * @param server the server.
+     * @param name   the name of the recording.
+     * @return the path.
+     */
+    private static Path getFile(final MinecraftServer server, final String name)
+    {
+        return server.getWorldPath(LevelResource.ROOT).resolve(MOD_ID).resolve(FOLDER).resolve(name + ".dat");
+    }
+
+    /**
+     * An active recording.
+     */
+    private static final class Recording
+    {
+        /**
+         * The recorded dimension.
+         */
+        private final ResourceKey<Level> dimension;
+
+        /**
+         * The recorded area.
+         */
+        private final int minX;
+        private final int minZ;
+        private final int maxX;
+        private final int maxZ;
+
+        /**
+         * The terrain of the area at the start of the recording.
+         */
+        private final TerrainSnapshot terrain;
+
+        /**
+         * The recorded queries with their pathing options, which are serialized at the end since callers may still adjust them after starting the job.
+         */
+        private final List<PathQuery>      queries = new ArrayList<>();
+        private final List<PathingOptions> options = new ArrayList<>();
+
+        /**
+         * Create a new recording.
+         *
+         * @param dimension the dimension.
+         * @param minX      the min x of the area.
+         * @param minZ      the min z of the area.
+         * @param maxX      the max x of the area.
+         * @param maxZ      the max z of the area.
+         * @param terrain   the terrain snapshot.
+         */
+        private Recording(final ResourceKey<Level> dimension, final int minX, final int minZ, final int maxX, final int maxZ, final TerrainSnapshot terrain)
+        {
+            this.dimension = dimension;
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+            this.terrain = terrain;
+        }
+
+        /**
+         * Check if a position is in the recorded area.
+         *
+         * @param pos the position.
+         * @return true if so.
+         */
+        private boolean contains(final BlockPos pos)
+        {
+            return pos.getX() >= minX && pos.getX() <= maxX && pos.getZ() >= minZ && pos.getZ() <= maxZ;
+        }
+
+        /**
+         * Add a query.
+         *
+         * @param query          the query.
+         * @param pathingOptions the pathing options of its job.
+         */
+        private synchronized void add(final PathQuery query, final PathingOptions pathingOptions)
+        {
+            if (queries.size() < MAX_QUERIES)
+            {
+                queries.add(query);
+                options.add(pathingOptions);
+            }
+        }
+
+        /**
+         * Get the recorded queries with their final pathing options.
+         *
+         * @return the queries.
+         */
+        private synchronized List<PathQuery> getQueries()
+        {
+            final List<PathQuery> result = new ArrayList<>(queries.size());
+            for (int i = 0; i < queries.size(); i++)
+            {
+                result.add(queries.get(i).withOptions(options.get(i)));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Measurements of one query type.
+     */
+    private static final class Stats
+    {
+        /**
+         * Time per run in nanoseconds.
+         */
+        private final List<Long> times = new ArrayList<>();
+
+        /**
+         * Totals over all runs.
+         */
+        private long totalTime;
+        private long totalAllocated;
+        private long totalNodes;
+        private int  reached;
+
+        /**
+         * Add a run.
+         *
+         * @param time      the time in nanoseconds.
+         * @param allocated the allocated bytes.
+         * @param nodes     the visited nodes.
+         * @param reach     if the path reached the destination.
+         */
+        private void add(final long time, final long allocated, final int nodes, final boolean reach)
+        {
+            times.add(time);
+            totalTime += time;
+            totalAllocated += allocated;
+            totalNodes += nodes;
+            if (reach)
+            {
+                reached++;
+            }
+        }
+
+        /**
+         * Summarize the runs.
+         *
+         * @return the summary line.
+         */
+        private String summarize()
+        {
+            final int runs = times.size();
+            Collections.sort(times);
+            final double seconds = Math.max(totalTime, 1) / (NANOS_PER_MILLI * 1000);
+            return String.format("%d runs, %d nodes avg, p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms, %d KB/run, %.1f MB/s, %d%% reached",
+              runs,
+              totalNodes / runs,
+              percentile(0.5),
+              percentile(0.9),
+              percentile(0.99),
+              times.get(runs - 1) / NANOS_PER_MILLI,
+              totalAllocated / runs / 1024,
+              totalAllocated / (1024 * 1024D) / seconds,
+              reached * 100 / runs);
+        }
+
+        /**
+         * Get a percentile of the sorted run times.
+         *
+         * @param percentile the percentile between 0 and 1.
+         * @return the time in milliseconds.
+         */
+        private double percentile(final double percentile)
+        {
+            return times.get(Math.min(times.size() - 1, (int) (percentile * times.size()))) / NANOS_PER_MILLI;
+        }
+    }
+}
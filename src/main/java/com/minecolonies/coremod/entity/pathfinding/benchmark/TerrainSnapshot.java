@@ -0,0 +1,263 @@
+package com.minecolonies.coremod.entity.pathfinding.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.Registry;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of the block states of an area, for replaying recorded path queries on the terrain they were recorded on.
+ * Capturing only copies the paletted containers of the loaded chunks, serialization to a palette and index array per section can then run off thread.
+ * Loading creates detached chunks which are never added to a level and only carry block states.
+ */
+public final class TerrainSnapshot
+{
+    /**
+     * Nbt tags of the snapshot.
+     */
+    private static final String TAG_DIMENSION = "dimension";
+    private static final String TAG_CHUNKS    = "chunks";
+    private static final String TAG_X         = "x";
+    private static final String TAG_Z         = "z";
+    private static final String TAG_SECTIONS  = "sections";
+    private static final String TAG_INDEX     = "index";
+    private static final String TAG_PALETTE   = "palette";
+    private static final String TAG_STATES    = "states";
+
+    /**
+     * Blocks per section edge.
+     */
+    private static final int SECTION_SIZE = 16;
+
+    /**
+     * The dimension the snapshot was taken in.
+     */
+    private final ResourceKey<Level> dimension;
+
+    /**
+     * Copies of the block states of each captured chunk by section index, null for sections with only air.
+     */
+    private final Long2ObjectMap<List<PalettedContainer<BlockState>>> chunks = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Create a new empty snapshot.
+     *
+     * @param dimension the dimension.
+     */
+    private TerrainSnapshot(final ResourceKey<Level> dimension)
+    {
+        this.dimension = dimension;
+    }
+
+    /**
+     * Capture the loaded chunks of an area, has to be called on the main thread.
+     *
+     * @param level the level.
+     * @param from  the first chunk.
+     * @param to    the last chunk.
+     * @return the snapshot.
+     */
+    public static TerrainSnapshot capture(@NotNull final ServerLevel level, @NotNull final ChunkPos from, @NotNull final ChunkPos to)
+    {
+        final TerrainSnapshot snapshot = new TerrainSnapshot(level.dimension());
+        for (int x = from.x; x <= to.x; x++)
+        {
+            for (int z = from.z; z <= to.z; z++)
+            {
+                final LevelChunk chunk = level.getChunkSource().getChunkNow(x, z);
+                if (chunk == null)
+                {
+                    continue;
+                }
+
+                final List<PalettedContainer<BlockState>> sections = new ArrayList<>();
+                for (final LevelChunkSection section : chunk.getSections())
+                {
+                    sections.add(section.hasOnlyAir() ? null : section.getStates().copy());
+                }
+                snapshot.chunks.put(ChunkPos.asLong(x, z), sections);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get the amount of captured chunks.
+     *
+     * @return the chunk count.
+     */
+    public int getChunkCount()
+    {
+        return chunks.size();
+    }
+
+    /**
+     * Write the snapshot to nbt.
+     *
+     * @return the compound.
+     */
+    public CompoundTag write()
+    {
+        final CompoundTag tag = new CompoundTag();
+        tag.putString(TAG_DIMENSION, dimension.location().toString());
+
+        final ListTag chunkList = new ListTag();
+        for (final Long2ObjectMap.Entry<List<PalettedContainer<BlockState>>> entry : chunks.long2ObjectEntrySet())
+        {
+            final CompoundTag chunkTag = new CompoundTag();
+            chunkTag.putInt(TAG_X, ChunkPos.getX(entry.getLongKey()));
+            chunkTag.putInt(TAG_Z, ChunkPos.getZ(entry.getLongKey()));
+
+            final ListTag sectionList = new ListTag();
+            for (int i = 0; i < entry.getValue().size(); i++)
+            {
+                final PalettedContainer<BlockState> states = entry.getValue().get(i);
+                if (states != null)
+                {
+                    final CompoundTag sectionTag = writeSection(states);
+                    sectionTag.putInt(TAG_INDEX, i);
+                    sectionList.add(sectionTag);
+                }
+            }
+            chunkTag.put(TAG_SECTIONS, sectionList);
+            chunkList.add(chunkTag);
+        }
+        tag.put(TAG_CHUNKS, chunkList);
+        return tag;
+    }
+
+    /**
+     * Write the block states of a section as palette and index array.
+     *
+     * @param states the block states.
+     * @return the section compound.
+     */
+    private static CompoundTag writeSection(final PalettedContainer<BlockState> states)
+    {
+        final Object2IntMap<BlockState> palette = new Object2IntOpenHashMap<>();
+        final ListTag paletteList = new ListTag();
+        final int[] indices = new int[SECTION_SIZE * SECTION_SIZE * SECTION_SIZE];
+        for (int y = 0; y < SECTION_SIZE; y++)
+        {
+            for (int z = 0; z < SECTION_SIZE; z++)
+            {
+                for (int x = 0; x < SECTION_SIZE; x++)
+                {
+                    final BlockState state = states.get(x, y, z);
+                    int index = palette.getOrDefault(state, -1);
+                    if (index == -1)
+                    {
+                        index = paletteList.size();
+                        palette.put(state, index);
+                        paletteList.add(NbtUtils.writeBlockState(state));
+                    }
+                    indices[(y * SECTION_SIZE + z) * SECTION_SIZE + x] = index;
+                }
+            }
+        }
+
+        final CompoundTag tag = new CompoundTag();
+        tag.put(TAG_PALETTE, paletteList);
+        tag.putIntArray(TAG_STATES, indices);
+        return tag;
+    }
+
+    /**
+     * Read the dimension of a written snapshot.
+     *
+     * @param tag the snapshot compound.
+     * @return the dimension key.
+     */
+    public static ResourceKey<Level> readDimension(@NotNull final CompoundTag tag)
+    {
+        return ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(tag.getString(TAG_DIMENSION)));
+    }
+
+    /**
+     * Load the chunks of a written snapshot as detached chunks.
+     *
+     * @param tag   the snapshot compound.
+     * @param level the level of the snapshot dimension, only used for its height and registries.
+     * @return the chunks by chunk position.
+     */
+    public static Long2ObjectMap<LevelChunk> loadChunks(@NotNull final CompoundTag tag, @NotNull final Level level)
+    {
+        final Registry<Biome> biomes = level.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY);
+        final Long2ObjectMap<LevelChunk> result = new Long2ObjectOpenHashMap<>();
+        final ListTag chunkList = tag.getList(TAG_CHUNKS, Tag.TAG_COMPOUND);
+        for (int c = 0; c < chunkList.size(); c++)
+        {
+            final CompoundTag chunkTag = chunkList.getCompound(c);
+            final ChunkPos pos = new ChunkPos(chunkTag.getInt(TAG_X), chunkTag.getInt(TAG_Z));
+
+            final LevelChunkSection[] sections = new LevelChunkSection[level.getSectionsCount()];
+            for (int i = 0; i < sections.length; i++)
+            {
+                sections[i] = new LevelChunkSection(level.getSectionYFromSectionIndex(i), biomes);
+            }
+
+            final ListTag sectionList = chunkTag.getList(TAG_SECTIONS, Tag.TAG_COMPOUND);
+            for (int s = 0; s < sectionList.size(); s++)
+            {
+                final CompoundTag sectionTag = sectionList.getCompound(s);
+                final int index = sectionTag.getInt(TAG_INDEX);
+                if (index >= 0 && index < sections.length)
+                {
+                    readSection(sectionTag, sections[index]);
+                }
+            }
+
+            result.put(pos.toLong(), new LevelChunk(level, pos, UpgradeData.EMPTY, new LevelChunkTicks<>(), new LevelChunkTicks<>(), 0L, sections, null, null));
+        }
+        return result;
+    }
+
+    /**
+     * Read the block states of a written section into a section.
+     *
+     * @param tag     the section compound.
+     * @param section the section to fill.
+     */
+    private static void readSection(final CompoundTag tag, final LevelChunkSection section)
+    {
+        final ListTag paletteList = tag.getList(TAG_PALETTE, Tag.TAG_COMPOUND);
+        final BlockState[] palette = new BlockState[paletteList.size()];
+        for (int i = 0; i < palette.length; i++)
+        {
+            palette[i] = NbtUtils.readBlockState(paletteList.getCompound(i));
+        }
+
+        final int[] indices = tag.getIntArray(TAG_STATES);
+        for (int y = 0; y < SECTION_SIZE; y++)
+        {
+            for (int z = 0; z < SECTION_SIZE; z++)
+            {
+                for (int x = 0; x < SECTION_SIZE; x++)
+                {
+                    final int index = indices[(y * SECTION_SIZE + z) * SECTION_SIZE + x];
+                    if (index >= 0 && index < palette.length && !palette[index].isAir())
+                    {
+                        section.setBlockState(x, y, z, palette[index], false);
+                    }
+                }
+            }
+        }
+    }
+}
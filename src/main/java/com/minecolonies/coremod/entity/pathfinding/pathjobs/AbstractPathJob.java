@@ -14,6 +14,7 @@ import com.minecolonies.coremod.entity.pathfinding.CachingBlockLookup;
 import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
 import com.minecolonies.coremod.entity.pathfinding.MNode;
 import com.minecolonies.coremod.entity.pathfinding.PathPointExtended;
+import com.minecolonies.coremod.entity.pathfinding.benchmark.PathQuery;
 import com.minecolonies.coremod.network.messages.client.SyncPathMessage;
 import com.minecolonies.coremod.network.messages.client.SyncPathReachedMessage;
 import com.minecolonies.coremod.util.WorkerUtil;
@@ -341,6 +342,27 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return restrictionType != AbstractAdvancedPathNavigate.RestrictionType.NONE;
     }
 
+    /**
+     * Get the amount of nodes visited by the search so far.
+     *
+     * @return the visited node count.
+     */
+    public int getTotalNodesVisited()
+    {
+        return totalNodesVisited;
+    }
+
+    /**
+     * Get the query to record this job as for the pathfinding benchmark.
+     *
+     * @return the query or null if this job can't be replayed without its entity.
+     */
+    @Nullable
+    public PathQuery getBenchmarkQuery()
+    {
+        return null;
+    }
+
     /**
      * Generates a good path starting location for the entity to path from, correcting for the following conditions. - Being in water: pathfinding in water occurs along the
      * surface; adjusts position to surface. - Being in a fence space: finds correct adjacent position which is not a fence space, to prevent starting path. from within the fence
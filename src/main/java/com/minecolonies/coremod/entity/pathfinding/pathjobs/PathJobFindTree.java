@@ -8,6 +8,7 @@ import com.minecolonies.api.entity.pathfinding.TreePathResult;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.coremod.entity.ai.citizen.lumberjack.Tree;
 import com.minecolonies.coremod.entity.pathfinding.MNode;
+import com.minecolonies.coremod.entity.pathfinding.benchmark.PathQuery;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.tags.BlockTags;
@@ -15,6 +16,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -54,6 +56,13 @@ public class PathJobFindTree extends AbstractPathJob
     private final BlockPos boxCenter;
     private final int dyntreesize;
 
+    /**
+     * The restricted area, null if not restricted.
+     */
+    private final BlockPos startRestriction;
+    private final BlockPos endRestriction;
+    private final BlockPos furthestRestriction;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -82,6 +91,9 @@ public class PathJobFindTree extends AbstractPathJob
         this.colony = colony;
         this.boxCenter = null;
         this.dyntreesize = dyntreesize;
+        this.startRestriction = null;
+        this.endRestriction = null;
+        this.furthestRestriction = null;
     }
 
     /**
@@ -123,6 +135,9 @@ public class PathJobFindTree extends AbstractPathJob
         this.hutLocation = home;
         this.colony = colony;
         this.dyntreesize = dyntreesize;
+        this.startRestriction = startRestriction;
+        this.endRestriction = endRestriction;
+        this.furthestRestriction = furthestRestriction;
 
         final BlockPos size = startRestriction.subtract(endRestriction);
         this.boxCenter = endRestriction.offset(size.getX()/2, size.getY()/2, size.getZ()/2);
@@ -135,6 +150,13 @@ public class PathJobFindTree extends AbstractPathJob
         return (TreePathResult) super.getResult();
     }
 
+    @Nullable
+    @Override
+    public PathQuery getBenchmarkQuery()
+    {
+        return PathQuery.findTree(start, hutLocation, maxRange, startRestriction, endRestriction, furthestRestriction, excludedTrees, dyntreesize, colony.getID());
+    }
+
     @Override
     protected double computeHeuristic(@NotNull final BlockPos pos)
     {
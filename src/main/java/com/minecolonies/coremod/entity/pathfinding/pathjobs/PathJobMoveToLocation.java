@@ -3,6 +3,7 @@ package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.MNode;
+import com.minecolonies.coremod.entity.pathfinding.benchmark.PathQuery;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.core.BlockPos;
@@ -66,6 +67,13 @@ public class PathJobMoveToLocation extends AbstractPathJob
         return super.search();
     }
 
+    @Nullable
+    @Override
+    public PathQuery getBenchmarkQuery()
+    {
+        return PathQuery.moveToLocation(start, destination, maxRange);
+    }
+
     @Override
     protected BlockPos getPathTargetPos(final MNode finalNode)
     {
@@ -1,11 +1,13 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
 import com.minecolonies.coremod.entity.pathfinding.MNode;
+import com.minecolonies.coremod.entity.pathfinding.benchmark.PathQuery;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Function;
 
@@ -38,6 +40,13 @@ public class PathJobMoveToWithPassable extends PathJobMoveToLocation
         this.isPassable = isPassable;
     }
 
+    @Nullable
+    @Override
+    public PathQuery getBenchmarkQuery()
+    {
+        return null;
+    }
+
     @Override
     protected boolean isPassable(@NotNull final BlockState block, final BlockPos pos, final MNode parent, final boolean head)
     {
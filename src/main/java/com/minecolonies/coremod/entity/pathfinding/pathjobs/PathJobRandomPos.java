@@ -7,6 +7,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.MNode;
+import com.minecolonies.coremod.entity.pathfinding.benchmark.PathQuery;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.pathfinder.Path;
@@ -136,6 +137,13 @@ public class PathJobRandomPos extends AbstractPathJob
         return super.search();
     }
 
+    @Nullable
+    @Override
+    public PathQuery getBenchmarkQuery()
+    {
+        return isRestricted() ? null : PathQuery.randomPos(start, minDistFromStart, maxRange, maxDistToDest, destination);
+    }
+
     @Override
     protected double computeHeuristic(@NotNull final BlockPos pos)
     {
@@ -1,13 +1,11 @@
 package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.IMinecoloniesAPI;
-import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.crafting.CustomRecipeManager;
+import com.minecolonies.coremod.compatibility.CompatibilityDiscoveryCache;
 import com.minecolonies.coremod.compatibility.CraftingTagAuditor;
-import com.minecolonies.coremod.datalistener.QuestJsonListener;
-import com.minecolonies.coremod.network.messages.client.UpdateClientWithCompatibilityMessage;
+import com.minecolonies.coremod.network.SyncDataCache;
 import com.minecolonies.coremod.util.FurnaceRecipes;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.client.Minecraft;
@@ -51,24 +49,10 @@ public class DataPackSyncEventHandler
         private static void discoverCompatLists(@NotNull final MinecraftServer server)
         {
             FurnaceRecipes.getInstance().loadRecipes(server.getRecipeManager());
-            IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().discover(server.getRecipeManager());
+            CompatibilityDiscoveryCache.discover(IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager(), server);
             CustomRecipeManager.getInstance().resolveTemplates();
             CustomRecipeManager.getInstance().buildLootData(server.getLootTables(), server.overworld());
-        }
-
-        /**
-         * Send custom sync packets to the given player.
-         *
-         * @param player    the player to send the sync packets to.
-         * @param compatMsg a cached copy of this message, to avoid rebuilding it for each player.
-         */
-        private static void sendPackets(@NotNull final ServerPlayer player,
-                                        @NotNull final UpdateClientWithCompatibilityMessage compatMsg)
-        {
-            Network.getNetwork().sendToPlayer(compatMsg, player);
-            CustomRecipeManager.getInstance().sendCustomRecipeManagerPackets(player);
-            IGlobalResearchTree.getInstance().sendGlobalResearchTreePackets(player);
-            QuestJsonListener.sendGlobalQuestPackets(player);
+            SyncDataCache.encode();
         }
 
         /**
@@ -90,19 +74,18 @@ public class DataPackSyncEventHandler
                 // for a reload event, we also want to rebuild various lists (mirroring FMLServerStartedEvent)
                 discoverCompatLists(server);
 
-                // and then finally update every player with the results
-                final UpdateClientWithCompatibilityMessage compatMsg = new UpdateClientWithCompatibilityMessage(true);
+                // and then finally offer the results to every player, they only request what they don't have cached
                 for (final ServerPlayer player : event.getPlayerList().getPlayers())
                 {
                     if (player.getGameProfile() != owner)   // don't need to send them in SP, or LAN owner
                     {
-                        sendPackets(player, compatMsg);
+                        SyncDataCache.sendOffer(player);
                     }
                 }
             }
             else if (event.getPlayer().getGameProfile() != owner)
             {
-                sendPackets(event.getPlayer(), new UpdateClientWithCompatibilityMessage(true));
+                SyncDataCache.sendOffer(event.getPlayer());
             }
 
             if (MineColonies.getConfig().getServer().auditCraftingTags.get() &&
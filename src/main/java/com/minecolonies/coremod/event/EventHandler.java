@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.*;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IGuardBuilding;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
+import com.minecolonies.api.colony.managers.interfaces.IColonyEntityIndex;
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
@@ -28,6 +29,7 @@ import com.minecolonies.coremod.colony.interactionhandling.RecruitmentInteractio
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
 import com.minecolonies.coremod.colony.requestsystem.locations.EntityLocation;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeIndex;
 import com.minecolonies.coremod.commands.EntryPoint;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
@@ -36,6 +38,7 @@ import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapab
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
 import com.minecolonies.coremod.items.ItemBannerRallyGuards;
 import com.minecolonies.coremod.loot.SupplyLoot;
+import com.minecolonies.coremod.network.SyncDataCache;
 import com.minecolonies.coremod.network.messages.client.OpenSuggestionWindowMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
@@ -43,6 +46,7 @@ import com.minecolonies.coremod.util.ChunkClientDataHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -67,7 +71,9 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.event.*;
+import net.minecraftforge.event.entity.EntityEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
 import net.minecraftforge.event.entity.EntityTravelToDimensionEvent;
 import net.minecraftforge.event.entity.living.LivingConversionEvent;
 import net.minecraftforge.event.entity.living.LivingSpawnEvent;
@@ -76,6 +82,7 @@ import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.level.SaplingGrowTreeEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
@@ -137,9 +144,85 @@ public class EventHandler
                 ((Mob) event.getEntity()).targetSelector.addGoal(6, new NearestAttackableTargetGoal<>((Mob) event.getEntity(), EntityCitizen.class, true, citizen -> !citizen.isInvisible()));
                 ((Mob) event.getEntity()).targetSelector.addGoal(7, new NearestAttackableTargetGoal<>((Mob) event.getEntity(), EntityMercenary.class, true));
             }
+
+            final BlockPos pos = event.getEntity().blockPosition();
+            final IColonyEntityIndex entityIndex = getEntityIndex(event.getLevel(), SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            if (entityIndex != null)
+            {
+                entityIndex.onEntityAdded(event.getEntity());
+            }
         }
     }
 
+    /**
+     * On Entity leave do this.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onEntityRemoved(@NotNull final EntityLeaveLevelEvent event)
+    {
+        if (!event.getLevel().isClientSide())
+        {
+            final BlockPos pos = event.getEntity().blockPosition();
+            final IColonyEntityIndex entityIndex = getEntityIndex(event.getLevel(), SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            if (entityIndex != null)
+            {
+                entityIndex.onEntityRemoved(event.getEntity());
+            }
+        }
+    }
+
+    /**
+     * On Entity moving to another chunk section, update the entity index of the colonies it leaves and enters.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onEntityEnteringSection(@NotNull final EntityEvent.EnteringSection event)
+    {
+        final Level level = event.getEntity().getLevel();
+        if (level.isClientSide())
+        {
+            return;
+        }
+
+        final SectionPos newPos = event.getNewPos();
+        final IColonyEntityIndex newIndex = getEntityIndex(level, newPos.x(), newPos.z());
+        if (newIndex != null)
+        {
+            newIndex.onEntitySectionChange(event.getEntity(), newPos);
+        }
+
+        if (event.didChunkChange())
+        {
+            final IColonyEntityIndex oldIndex = getEntityIndex(level, event.getOldPos().x(), event.getOldPos().z());
+            if (oldIndex != null && oldIndex != newIndex)
+            {
+                oldIndex.onEntitySectionChange(event.getEntity(), newPos);
+            }
+        }
+    }
+
+    /**
+     * Get the entity index of the colony owning a loaded chunk.
+     *
+     * @param level  the level.
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return the entity index or null if the chunk isn't loaded or doesn't belong to a colony.
+     */
+    private static IColonyEntityIndex getEntityIndex(final Level level, final int chunkX, final int chunkZ)
+    {
+        if (!WorldUtil.isChunkLoaded(level, chunkX, chunkZ))
+        {
+            return null;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(level, new BlockPos(SectionPos.sectionToBlockCoord(chunkX), 0, SectionPos.sectionToBlockCoord(chunkZ)));
+        return colony == null ? null : colony.getEntityIndex();
+    }
+
     /**
      * Event called to attach capabilities on a chunk.
      *
@@ -424,6 +507,7 @@ public class EventHandler
                 colony.getPackageManager().removeImportantColonyPlayer(player);
                 playerPositions.remove(player.getUUID());
             }
+            SyncDataCache.onLogout(player.getUUID());
         }
     }
 
@@ -473,6 +557,11 @@ public class EventHandler
 
         final Level world = (Level) event.getLevel();
 
+        if (TreeIndex.isTreeBlock(event.getState()))
+        {
+            TreeIndex.onTreeChanged(world, event.getPos());
+        }
+
         if (event.getState().getBlock() instanceof SpawnerBlock)
         {
             final BlockEntity spawner = event.getLevel().getBlockEntity(event.getPos());
@@ -489,6 +578,31 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called when an entity places a block.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockPlaced(@NotNull final BlockEvent.EntityPlaceEvent event)
+    {
+        if (TreeIndex.isTreeBlock(event.getPlacedBlock()) || TreeIndex.isTreeBlock(event.getBlockSnapshot().getReplacedBlock()))
+        {
+            TreeIndex.onTreeChanged(event.getLevel(), event.getPos());
+        }
+    }
+
+    /**
+     * Event called when a sapling is about to grow into a tree.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onSaplingGrow(@NotNull final SaplingGrowTreeEvent event)
+    {
+        TreeIndex.onTreeChanged(event.getLevel(), event.getPos());
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item. Event gets cancelled when player has no permission. Event gets cancelled when the player has no
      * permission to place a hut, and tried it.
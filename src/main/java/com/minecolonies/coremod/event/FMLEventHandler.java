@@ -1,16 +1,19 @@
 package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.entity.ai.statemachine.basestatemachine.StateMachineProfiler;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.datalistener.*;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
+import com.minecolonies.coremod.util.RegionPruner;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.event.server.ServerAboutToStartEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.event.server.ServerStoppingEvent;
 import org.jetbrains.annotations.NotNull;
 
@@ -71,5 +74,13 @@ public class FMLEventHandler
     public static void onServerStopped(@NotNull final ServerStoppingEvent event)
     {
         Pathfinding.shutdown();
+        RegionPruner.onServerStopping(event.getServer());
+    }
+
+    @SubscribeEvent
+    public static void onServerFullyStopped(@NotNull final ServerStoppedEvent event)
+    {
+        RegionPruner.onServerStopped();
+        StateMachineProfiler.clear();
     }
 }
@@ -29,8 +29,9 @@ import com.minecolonies.coremod.network.messages.server.colony.citizen.*;
 import com.minecolonies.coremod.network.messages.splitting.SplitPacketMessage;
 import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.PooledByteBufAllocator;
 import net.minecraft.core.Registry;
+import net.minecraft.network.Connection;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -44,7 +45,9 @@ import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -298,6 +301,10 @@ public class NetworkChannel
 
         // Resource scroll NBT share message
         registerMessage(++idx, ResourceScrollSaveWarehouseSnapshotMessage.class, ResourceScrollSaveWarehouseSnapshotMessage::new);
+
+        // Cached login data sync
+        registerMessage(++idx, SyncDataOfferMessage.class, SyncDataOfferMessage::new);
+        registerMessage(++idx, SyncDataRequestMessage.class, SyncDataRequestMessage::new);
     }
 
     private void setupInternalMessages()
@@ -349,6 +356,33 @@ public class NetworkChannel
         handleSplitting(msg, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
     }
 
+    /**
+     * Sends to multiple players. The message is only serialized once for all of them.
+     *
+     * @param msg     message to send
+     * @param players target players
+     */
+    public void sendToPlayers(final IMessage msg, final Collection<ServerPlayer> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        if (players.size() == 1)
+        {
+            sendToPlayer(msg, players.iterator().next());
+            return;
+        }
+
+        final List<Connection> connections = new ArrayList<>(players.size());
+        for (final ServerPlayer player : players)
+        {
+            connections.add(player.connection.connection);
+        }
+        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.NMLIST.with(() -> connections), s));
+    }
+
     /**
      * Sends the message to the origin of a different message based on the networking context given.
      *
@@ -406,41 +440,45 @@ public class NetworkChannel
             throw new IllegalArgumentException("The message is unknown to this channel!");
         }
 
-        //Write the message into a buffer and copy that buffer into a byte array for processing.
-        final ByteBuf buffer = Unpooled.buffer();
-        final FriendlyByteBuf innerFriendlyByteBuf = new FriendlyByteBuf(buffer);
-        msg.toBytes(innerFriendlyByteBuf);
-        final byte[] data = buffer.array();
-        buffer.release();
-
-        //Some tracking variables.
-        //Max packet size: 90% of maximum.
-        final int max_packet_size = 943718; //This is 90% of max packet size.
-        //The current index in the data array.
-        int currentIndex = 0;
-        //The current index for the split packets.
-        int packetIndex = 0;
-        //The communication id.
-        final int comId = messageCounter.getAndIncrement();
-
-        //Loop while data is available.
-        while (currentIndex < data.length)
+        //Write the message into a pooled buffer, the split packets are slices of it and encoded before it is released.
+        final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer();
+        try
         {
-            //Tell the network message entry that we are splitting a packet.
-            this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
+            msg.toBytes(new FriendlyByteBuf(buffer));
+            final int length = buffer.readableBytes();
+
+            //Some tracking variables.
+            //Max packet size: 90% of maximum.
+            final int max_packet_size = 943718; //This is 90% of max packet size.
+            //The current index in the buffer.
+            int currentIndex = buffer.readerIndex();
+            final int endIndex = currentIndex + length;
+            //The current index for the split packets.
+            int packetIndex = 0;
+            //The communication id.
+            final int comId = messageCounter.getAndIncrement();
+
+            //Loop while data is available.
+            while (currentIndex < endIndex)
+            {
+                //Tell the network message entry that we are splitting a packet.
+                this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
 
-            final int extra = Math.min(max_packet_size, data.length - currentIndex);
-            //Extract the sub data array.
-            final byte[] subPacketData = Arrays.copyOfRange(data, currentIndex, currentIndex + extra);
+                final int extra = Math.min(max_packet_size, endIndex - currentIndex);
 
-            //Construct the wrapping packet.
-            final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= data.length, messageId, subPacketData);
+                //Construct the wrapping packet on a slice of the data.
+                final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= endIndex, messageId, buffer.slice(currentIndex, extra));
 
-            //Send the wrapping packet.
-            splitMessageConsumer.accept(splitPacketMessage);
+                //Send the wrapping packet.
+                splitMessageConsumer.accept(splitPacketMessage);
 
-            //Move our working index.
-            currentIndex += extra;
+                //Move our working index.
+                currentIndex += extra;
+            }
+        }
+        finally
+        {
+            buffer.release();
         }
     }
 
@@ -0,0 +1,375 @@
+package com.minecolonies.coremod.network;
+
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.api.research.IGlobalResearchTree;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.crafting.CustomRecipeManager;
+import com.minecolonies.coremod.colony.crafting.CustomRecipeManagerMessage;
+import com.minecolonies.coremod.datalistener.QuestJsonListener;
+import com.minecolonies.coremod.network.messages.client.GlobalQuestSyncMessage;
+import com.minecolonies.coremod.network.messages.client.SyncDataOfferMessage;
+import com.minecolonies.coremod.network.messages.client.UpdateClientWithCompatibilityMessage;
+import com.minecolonies.coremod.network.messages.server.SyncDataRequestMessage;
+import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
+import io.netty.buffer.Unpooled;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+
+/**
+ * Pre-encoded login sync data with content hashes.
+ * The server encodes the compatibility, custom recipe, research and quest data once per datapack reload and only offers the hashes on login.
+ * Clients keep the received payloads on disk per server and hash and only request the payloads they don't have yet.
+ */
+public final class SyncDataCache
+{
+    /**
+     * The synced payloads.
+     */
+    public enum Type
+    {
+        COMPATIBILITY(buf -> IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().serialize(buf)),
+        CUSTOM_RECIPES(buf -> CustomRecipeManager.getInstance().serializeNetworkData(buf)),
+        RESEARCH_TREE(buf -> IGlobalResearchTree.getInstance().serializeNetworkData(buf)),
+        QUESTS(QuestJsonListener::serializeGlobalQuests);
+
+        /**
+         * The serializer of the payload.
+         */
+        private final Consumer<FriendlyByteBuf> serializer;
+
+        Type(final Consumer<FriendlyByteBuf> serializer)
+        {
+            this.serializer = serializer;
+        }
+    }
+
+    /**
+     * The client side cache folder.
+     */
+    private static final String CACHE_FOLDER = "synccache";
+
+    /**
+     * File extension of the cached payloads.
+     */
+    private static final String CACHE_EXTENSION = ".bin";
+
+    /**
+     * Format of a valid payload hash, a lowercase hex sha256.
+     */
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * The encoded payloads and their hashes, server side.
+     */
+    private static final Map<Type, byte[]> payloads = new EnumMap<>(Type.class);
+    private static final Map<Type, String> hashes   = new EnumMap<>(Type.class);
+
+    /**
+     * The payloads offered to each player and not requested yet, server side. Each offered payload is sent at most once per offer.
+     */
+    private static final Map<UUID, Set<Type>> outstandingOffers = new HashMap<>();
+
+    /**
+     * The server the client is currently connected to, set by the last offer.
+     */
+    @Nullable
+    private static UUID currentServer = null;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private SyncDataCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Encode all payloads, called on server start and after every datapack reload.
+     */
+    public static synchronized void encode()
+    {
+        for (final Type type : Type.values())
+        {
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            type.serializer.accept(buf);
+            final byte[] data = new byte[buf.readableBytes()];
+            buf.readBytes(data);
+            buf.release();
+
+            payloads.put(type, data);
+            hashes.put(type, hash(data));
+        }
+    }
+
+    /**
+     * Offer the hashes of the current payloads to a player, the client requests what it is missing.
+     *
+     * @param player the player.
+     */
+    public static synchronized void sendOffer(@NotNull final ServerPlayer player)
+    {
+        if (payloads.isEmpty())
+        {
+            encode();
+        }
+        outstandingOffers.put(player.getUUID(), EnumSet.copyOf(hashes.keySet()));
+        Network.getNetwork().sendToPlayer(new SyncDataOfferMessage(IColonyManager.getInstance().getServerUUID(), new EnumMap<>(hashes)), player);
+    }
+
+    /**
+     * Drop the outstanding offer of a player, called on logout.
+     *
+     * @param player the player id.
+     */
+    public static synchronized void onLogout(@NotNull final UUID player)
+    {
+        outstandingOffers.remove(player);
+    }
+
+    /**
+     * Send the requested payloads to a player. Only payloads of the outstanding offer to the player are sent, each one once, other requests are ignored.
+     *
+     * @param player the player.
+     * @param types  the requested payloads.
+     */
+    public static synchronized void sendPayloads(@NotNull final ServerPlayer player, @NotNull final Collection<Type> types)
+    {
+        final Set<Type> offered = outstandingOffers.get(player.getUUID());
+        if (offered == null)
+        {
+            Log.getLogger().debug("Ignored a sync data request of " + player.getGameProfile().getName() + " without an outstanding offer");
+            return;
+        }
+
+        for (final Type type : types)
+        {
+            if (!offered.remove(type))
+            {
+                continue;
+            }
+
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(payloads.get(type)));
+            Network.getNetwork().sendToPlayer(createMessage(type, buf), player);
+        }
+
+        if (offered.isEmpty())
+        {
+            outstandingOffers.remove(player.getUUID());
+        }
+    }
+
+    /**
+     * Create the sync message of a payload.
+     *
+     * @param type the payload type.
+     * @param buf  the encoded payload.
+     * @return the message.
+     */
+    private static IMessage createMessage(final Type type, final FriendlyByteBuf buf)
+    {
+        switch (type)
+        {
+            case COMPATIBILITY:
+                return new UpdateClientWithCompatibilityMessage(buf);
+            case CUSTOM_RECIPES:
+                return new CustomRecipeManagerMessage(buf);
+            case RESEARCH_TREE:
+                return new GlobalResearchTreeMessage(buf);
+            default:
+                return new GlobalQuestSyncMessage(buf);
+        }
+    }
+
+    /**
+     * Handle an offer on the client, applies all payloads found in the disk cache and requests the others.
+     * Offers with a malformed hash are rejected, all payloads are requested and nothing is read from or written to the disk cache.
+     *
+     * @param server        the server id.
+     * @param offeredHashes the hashes of the server payloads.
+     */
+    public static void onOffer(@NotNull final UUID server, @NotNull final Map<Type, String> offeredHashes)
+    {
+        for (final String hash : offeredHashes.values())
+        {
+            if (hash == null || !HASH_PATTERN.matcher(hash).matches())
+            {
+                Log.getLogger().warn("Rejected sync data offer with invalid hash, requesting all payloads from the server");
+                currentServer = null;
+                Network.getNetwork().sendToServer(new SyncDataRequestMessage(new ArrayList<>(offeredHashes.keySet())));
+                return;
+            }
+        }
+
+        currentServer = server;
+        final List<Type> missing = new ArrayList<>();
+        for (final Map.Entry<Type, String> entry : offeredHashes.entrySet())
+        {
+            if (!applyCached(server, entry.getKey(), entry.getValue()))
+            {
+                missing.add(entry.getKey());
+            }
+        }
+
+        if (!missing.isEmpty())
+        {
+            Network.getNetwork().sendToServer(new SyncDataRequestMessage(missing));
+        }
+    }
+
+    /**
+     * Apply a payload from the disk cache.
+     *
+     * @param server the server id.
+     * @param type   the payload type.
+     * @param hash   the offered hash.
+     * @return true if the payload was cached and applied.
+     */
+    private static boolean applyCached(final UUID server, final Type type, final String hash)
+    {
+        if (type != Type.COMPATIBILITY && Minecraft.getInstance().level == null)
+        {
+            return false;
+        }
+
+        final Path file = getCacheFolder(server).resolve(type.name().toLowerCase(Locale.US) + "-" + hash + CACHE_EXTENSION);
+        if (!Files.exists(file))
+        {
+            return false;
+        }
+
+        final FriendlyByteBuf buf;
+        try
+        {
+            final byte[] data = Files.readAllBytes(file);
+            if (!hash.equals(hash(data)))
+            {
+                return false;
+            }
+            buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(data));
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Failed to read cached sync data " + file, e);
+            return false;
+        }
+
+        try
+        {
+            switch (type)
+            {
+                case COMPATIBILITY:
+                    IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().deserialize(buf);
+                    break;
+                case CUSTOM_RECIPES:
+                    CustomRecipeManager.getInstance().handleCustomRecipeManagerMessage(buf);
+                    break;
+                case RESEARCH_TREE:
+                    IGlobalResearchTree.getInstance().handleGlobalResearchTreeMessage(buf);
+                    break;
+                default:
+                    QuestJsonListener.readGlobalQuestPackets(buf);
+                    break;
+            }
+            return true;
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Failed to apply cached sync data " + file + ", requesting it from the server", e);
+            return false;
+        }
+    }
+
+    /**
+     * Store a payload received from the server in the disk cache of the current server, replaces older payloads of the same type.
+     * Doesn't move the reader index of the buffer.
+     *
+     * @param type the payload type.
+     * @param buf  the received payload.
+     */
+    public static void storeReceived(@NotNull final Type type, @NotNull final FriendlyByteBuf buf)
+    {
+        final UUID server = currentServer;
+        if (server == null)
+        {
+            return;
+        }
+
+        final byte[] data = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), data);
+        final String prefix = type.name().toLowerCase(Locale.US) + "-";
+
+        Util.ioPool().execute(() -> {
+            final Path folder = getCacheFolder(server);
+            try
+            {
+                Files.createDirectories(folder);
+                try (final DirectoryStream<Path> stale = Files.newDirectoryStream(folder, prefix + "*" + CACHE_EXTENSION))
+                {
+                    for (final Path file : stale)
+                    {
+                        Files.deleteIfExists(file);
+                    }
+                }
+
+                final Path target = folder.resolve(prefix + hash(data) + CACHE_EXTENSION);
+                final Path temp = Files.createTempFile(folder, prefix, ".tmp");
+                try
+                {
+                    Files.write(temp, data);
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+                finally
+                {
+                    Files.deleteIfExists(temp);
+                }
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Failed to cache sync data in " + folder, e);
+            }
+        });
+    }
+
+    /**
+     * Get the client cache folder of a server.
+     *
+     * @param server the server id.
+     * @return the folder.
+     */
+    private static Path getCacheFolder(final UUID server)
+    {
+        return FMLPaths.GAMEDIR.get().resolve(MOD_ID).resolve(CACHE_FOLDER).resolve(server.toString());
+    }
+
+    /**
+     * Calculate the content hash of a payload.
+     *
+     * @param data the payload.
+     * @return the hex hash.
+     */
+    private static String hash(final byte[] data)
+    {
+        return Hashing.sha256().hashBytes(data).toString();
+    }
+}
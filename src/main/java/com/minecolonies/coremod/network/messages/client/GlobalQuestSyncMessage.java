@@ -2,6 +2,7 @@ package com.minecolonies.coremod.network.messages.client;
 
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.coremod.datalistener.QuestJsonListener;
+import com.minecolonies.coremod.network.SyncDataCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.api.distmarker.Dist;
@@ -66,6 +67,7 @@ public class GlobalQuestSyncMessage implements IMessage
     {
         if (Minecraft.getInstance().level != null)
         {
+            SyncDataCache.storeReceived(SyncDataCache.Type.QUESTS, questBuffer);
             QuestJsonListener.readGlobalQuestPackets(questBuffer);
         }
         questBuffer.release();
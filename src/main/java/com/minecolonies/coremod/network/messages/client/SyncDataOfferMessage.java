@@ -0,0 +1,90 @@
+package com.minecolonies.coremod.network.messages.client;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.network.SyncDataCache;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Offers the content hashes of the login sync data to the client, the client answers with the payloads it doesn't have cached.
+ */
+public class SyncDataOfferMessage implements IMessage
+{
+    /**
+     * The id of the server.
+     */
+    private UUID server;
+
+    /**
+     * The hashes of the payloads.
+     */
+    private Map<SyncDataCache.Type, String> hashes;
+
+    /**
+     * Empty constructor used when registering the message
+     */
+    public SyncDataOfferMessage()
+    {
+        super();
+    }
+
+    /**
+     * Offer the sync data to a client.
+     *
+     * @param server the id of the server.
+     * @param hashes the hashes of the payloads.
+     */
+    public SyncDataOfferMessage(final UUID server, final Map<SyncDataCache.Type, String> hashes)
+    {
+        super();
+        this.server = server;
+        this.hashes = hashes;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        server = buf.readUUID();
+        hashes = new EnumMap<>(SyncDataCache.Type.class);
+        final int size = buf.readVarInt();
+        for (int i = 0; i < size; i++)
+        {
+            hashes.put(buf.readEnum(SyncDataCache.Type.class), buf.readUtf());
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeUUID(server);
+        buf.writeVarInt(hashes.size());
+        for (final Map.Entry<SyncDataCache.Type, String> entry : hashes.entrySet())
+        {
+            buf.writeEnum(entry.getKey());
+            buf.writeUtf(entry.getValue());
+        }
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        SyncDataCache.onOffer(server, hashes);
+    }
+}
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.network.messages.client;
 import com.ldtteam.structurize.api.util.Log;
 import com.minecolonies.api.IMinecoloniesAPI;
 import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.network.SyncDataCache;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.fml.LogicalSide;
@@ -38,6 +39,17 @@ public class UpdateClientWithCompatibilityMessage implements IMessage
         IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().serialize(this.buffer);
     }
 
+    /**
+     * Message creation from pre-encoded data.
+     *
+     * @param buffer the encoded compatibility manager.
+     */
+    public UpdateClientWithCompatibilityMessage(final FriendlyByteBuf buffer)
+    {
+        super();
+        this.buffer = buffer;
+    }
+
     @Override
     public void fromBytes(@NotNull final FriendlyByteBuf buf)
     {
@@ -63,6 +75,7 @@ public class UpdateClientWithCompatibilityMessage implements IMessage
     {
         try
         {
+            SyncDataCache.storeReceived(SyncDataCache.Type.COMPATIBILITY, this.buffer);
             IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().deserialize(this.buffer);
         }
         catch (Exception e)
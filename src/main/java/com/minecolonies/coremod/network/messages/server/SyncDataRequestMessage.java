@@ -0,0 +1,81 @@
+package com.minecolonies.coremod.network.messages.server;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.network.SyncDataCache;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Requests the login sync payloads the client doesn't have cached.
+ */
+public class SyncDataRequestMessage implements IMessage
+{
+    /**
+     * The requested payloads.
+     */
+    private List<SyncDataCache.Type> types;
+
+    /**
+     * Empty constructor used when registering the message
+     */
+    public SyncDataRequestMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request sync payloads from the server.
+     *
+     * @param types the requested payloads.
+     */
+    public SyncDataRequestMessage(final List<SyncDataCache.Type> types)
+    {
+        super();
+        this.types = types;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        types = new ArrayList<>();
+        final int size = buf.readVarInt();
+        for (int i = 0; i < size; i++)
+        {
+            types.add(buf.readEnum(SyncDataCache.Type.class));
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeVarInt(types.size());
+        for (final SyncDataCache.Type type : types)
+        {
+            buf.writeEnum(type);
+        }
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.SERVER;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final ServerPlayer player = ctxIn.getSender();
+        if (player != null)
+        {
+            SyncDataCache.sendPayloads(player, types);
+        }
+    }
+}
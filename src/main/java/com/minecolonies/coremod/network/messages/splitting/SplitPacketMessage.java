@@ -1,7 +1,6 @@
 package com.minecolonies.coremod.network.messages.splitting;
 
 import com.google.common.collect.Maps;
-import com.google.common.primitives.Bytes;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.Network;
@@ -41,9 +40,9 @@ public class SplitPacketMessage implements IMessage
     private int innerMessageId = -1;
 
     /**
-     * The payload.
+     * The payload, a slice of the serialized wrapped message when sending.
      */
-    private byte[] payload;
+    private ByteBuf payload;
 
     /**
      * The network receiving constructor.
@@ -52,7 +51,7 @@ public class SplitPacketMessage implements IMessage
     {
     }
 
-    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final byte[] payload)
+    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final ByteBuf payload)
     {
         this.communicationId = communicationId;
         this.packetIndex = packetIndex;
@@ -68,7 +67,8 @@ public class SplitPacketMessage implements IMessage
         buf.writeVarInt(this.packetIndex);
         buf.writeBoolean(this.terminator);
         buf.writeVarInt(this.innerMessageId);
-        buf.writeByteArray(this.payload);
+        buf.writeVarInt(this.payload.readableBytes());
+        buf.writeBytes(this.payload, this.payload.readerIndex(), this.payload.readableBytes());
     }
 
     @Override
@@ -78,7 +78,7 @@ public class SplitPacketMessage implements IMessage
         this.packetIndex = buf.readVarInt();
         this.terminator = buf.readBoolean();
         this.innerMessageId = buf.readVarInt();
-        this.payload = buf.readByteArray();
+        this.payload = Unpooled.wrappedBuffer(buf.readByteArray());
     }
 
     @Override
@@ -89,7 +89,7 @@ public class SplitPacketMessage implements IMessage
             //Sync on the message cache since this is still on the Netty thread.
             synchronized (Network.getNetwork().getMessageCache())
             {
-                Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).put(this.packetIndex, this.payload);
+                Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).put(this.packetIndex, this.payload.array());
             }
 
             if (!this.terminator)
@@ -99,12 +99,12 @@ public class SplitPacketMessage implements IMessage
             }
 
             //No need to sync again, since we are now the last packet to arrive.
-            //All data gets sorted and appended.
-            final byte[] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
+            //All data gets sorted and wrapped without copying.
+            final byte[][] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
                                         .stream()
                                         .sorted(Map.Entry.comparingByKey())
                                         .map(Map.Entry::getValue)
-              .reduce(new byte[0], Bytes::concat);
+                                        .toArray(byte[][]::new);
 
             //Grab the entry from the inner message id.
             final NetworkChannel.NetworkingMessageEntry<?> messageEntry = Network.getNetwork().getMessagesTypes().get(this.innerMessageId);
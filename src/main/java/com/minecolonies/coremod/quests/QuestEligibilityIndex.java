@@ -0,0 +1,194 @@
+package com.minecolonies.coremod.quests;
+
+import com.minecolonies.api.quests.IQuestTemplate;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.quests.IQuestManager.GLOBAL_SERVER_QUESTS;
+
+/**
+ * Index of the quests a colony could start, built from the parent quest graph.
+ * Triggers of a candidate are only evaluated again once an input they might depend on changed, chance based quests are evaluated on every tick.
+ */
+public class QuestEligibilityIndex
+{
+    /**
+     * Colony ticks after which all candidates are evaluated again, covers trigger inputs without a change notification.
+     */
+    private static final int FULL_EVALUATION_INTERVAL = 10;
+
+    /**
+     * Version of the global quest data, increased on every reload.
+     */
+    private static int questsVersion = 0;
+
+    /**
+     * Version of the global quest data the index was built for.
+     */
+    private int builtVersion = -1;
+
+    /**
+     * Whether the candidates have to be rebuilt from scratch.
+     */
+    private boolean needsRebuild = true;
+
+    /**
+     * Child quests by parent quest.
+     */
+    private final Map<ResourceLocation, List<ResourceLocation>> children = new HashMap<>();
+
+    /**
+     * Quests with chance based triggers.
+     */
+    private final Set<ResourceLocation> chanceBased = new HashSet<>();
+
+    /**
+     * Quests which are eligible to start, their parents are finished and they're neither active nor exhausted.
+     */
+    private final Set<ResourceLocation> candidates = new HashSet<>();
+
+    /**
+     * Candidates whose triggers have to be evaluated on the next tick.
+     */
+    private final Set<ResourceLocation> dirty = new HashSet<>();
+
+    /**
+     * Colony ticks since all candidates were evaluated.
+     */
+    private int ticksSinceFullEvaluation = 0;
+
+    /**
+     * Called when the global quest data was reloaded.
+     */
+    public static void onQuestsReloaded()
+    {
+        questsVersion++;
+    }
+
+    /**
+     * Rebuild the candidates on the next tick.
+     */
+    public void invalidate()
+    {
+        needsRebuild = true;
+    }
+
+    /**
+     * Evaluate the triggers of all candidates on the next tick.
+     */
+    public void markTriggersDirty()
+    {
+        dirty.addAll(candidates);
+    }
+
+    /**
+     * Check a quest and its children again after it was finished, started, deleted or timed out.
+     *
+     * @param questId  the quest.
+     * @param eligible predicate checking if a quest can be started.
+     */
+    public void onQuestChanged(final ResourceLocation questId, final Predicate<ResourceLocation> eligible)
+    {
+        if (needsRebuild)
+        {
+            return;
+        }
+
+        update(questId, eligible);
+        for (final ResourceLocation child : children.getOrDefault(questId, Collections.emptyList()))
+        {
+            update(child, eligible);
+        }
+    }
+
+    /**
+     * Get the quests whose triggers have to be evaluated this tick.
+     *
+     * @param eligible predicate checking if a quest can be started.
+     * @return the quests to evaluate.
+     */
+    public List<ResourceLocation> getQuestsToEvaluate(final Predicate<ResourceLocation> eligible)
+    {
+        if (needsRebuild || builtVersion != questsVersion)
+        {
+            rebuild(eligible);
+        }
+
+        if (++ticksSinceFullEvaluation >= FULL_EVALUATION_INTERVAL)
+        {
+            ticksSinceFullEvaluation = 0;
+            dirty.addAll(candidates);
+        }
+
+        final List<ResourceLocation> toEvaluate = new ArrayList<>(dirty);
+        for (final ResourceLocation questId : chanceBased)
+        {
+            if (candidates.contains(questId) && !dirty.contains(questId))
+            {
+                toEvaluate.add(questId);
+            }
+        }
+        dirty.clear();
+        return toEvaluate;
+    }
+
+    /**
+     * Rebuild the quest graph and all candidates.
+     *
+     * @param eligible predicate checking if a quest can be started.
+     */
+    private void rebuild(final Predicate<ResourceLocation> eligible)
+    {
+        children.clear();
+        chanceBased.clear();
+        candidates.clear();
+        dirty.clear();
+
+        for (final Map.Entry<ResourceLocation, IQuestTemplate> quest : GLOBAL_SERVER_QUESTS.entrySet())
+        {
+            for (final ResourceLocation parent : quest.getValue().getParents())
+            {
+                children.computeIfAbsent(parent, id -> new ArrayList<>()).add(quest.getKey());
+            }
+
+            if (quest.getValue().isChanceBased())
+            {
+                chanceBased.add(quest.getKey());
+            }
+
+            if (eligible.test(quest.getKey()))
+            {
+                candidates.add(quest.getKey());
+                dirty.add(quest.getKey());
+            }
+        }
+
+        builtVersion = questsVersion;
+        needsRebuild = false;
+        ticksSinceFullEvaluation = 0;
+    }
+
+    /**
+     * Update the candidate state of a single quest.
+     *
+     * @param questId  the quest.
+     * @param eligible predicate checking if a quest can be started.
+     */
+    private void update(final ResourceLocation questId, final Predicate<ResourceLocation> eligible)
+    {
+        if (eligible.test(questId))
+        {
+            if (candidates.add(questId))
+            {
+                dirty.add(questId);
+            }
+        }
+        else
+        {
+            candidates.remove(questId);
+            dirty.remove(questId);
+        }
+    }
+}
@@ -55,6 +55,11 @@ public class QuestManager implements IQuestManager
      */
     private final IColony colony;
 
+    /**
+     * Index of the quests this colony could start.
+     */
+    private final QuestEligibilityIndex eligibilityIndex = new QuestEligibilityIndex();
+
     public QuestManager(final IColony colony)
     {
         this.colony = colony;
@@ -77,6 +82,7 @@ public class QuestManager implements IQuestManager
     public void alterReputation(final double difference)
     {
         this.questReputation += difference;
+        eligibilityIndex.markTriggersDirty();
     }
 
     @Override
@@ -101,57 +107,86 @@ public class QuestManager implements IQuestManager
         }
 
         finishedQuestsCache = null;
+        eligibilityIndex.onQuestChanged(questId, this::isEligible);
+    }
+
+    @Override
+    public void onTriggerInputChanged()
+    {
+        eligibilityIndex.markTriggersDirty();
     }
 
     @Override
     public void onColonyTick()
     {
-        for (final Map.Entry<ResourceLocation, IQuestTemplate> quest : GLOBAL_SERVER_QUESTS.entrySet())
+        for (final ResourceLocation questId : eligibilityIndex.getQuestsToEvaluate(this::isEligible))
         {
-            if (availableQuests.containsKey(quest.getKey())
-                  || inProgressQuests.containsKey(quest.getKey())
-                  || finishedQuests.getOrDefault(quest.getKey(), 0) >= quest.getValue().getMaxOccurrence())
+            final IQuestInstance colonyQuest = GLOBAL_SERVER_QUESTS.get(questId).attemptStart(colony);
+            if (colonyQuest != null)
             {
-                continue;
+                this.availableQuests.put(questId, colonyQuest);
+                eligibilityIndex.onQuestChanged(questId, this::isEligible);
             }
+        }
 
-            boolean missingParent = false;
-            for (final ResourceLocation parent: quest.getValue().getParents())
-            {
-                if (!finishedQuests.containsKey(parent))
-                {
-                    missingParent = true;
-                    break;
-                }
-            }
+        removeInvalidQuests(availableQuests);
+        removeInvalidQuests(inProgressQuests);
+    }
 
-            if (missingParent)
-            {
-                continue;
-            }
+    /**
+     * Check if a quest can be started, it has to exist, be neither available nor in progress, and all its parents have to be finished.
+     *
+     * @param questId the quest to check.
+     * @return true if so.
+     */
+    private boolean isEligible(final ResourceLocation questId)
+    {
+        final IQuestTemplate quest = GLOBAL_SERVER_QUESTS.get(questId);
+        if (quest == null
+              || availableQuests.containsKey(questId)
+              || inProgressQuests.containsKey(questId)
+              || finishedQuests.getOrDefault(questId, 0) >= quest.getMaxOccurrence())
+        {
+            return false;
+        }
 
-            final IQuestInstance colonyQuest = quest.getValue().attemptStart(colony);
-            if (colonyQuest != null)
+        for (final ResourceLocation parent : quest.getParents())
+        {
+            if (!finishedQuests.containsKey(parent))
             {
-                this.availableQuests.put(quest.getKey(), colonyQuest);
+                return false;
             }
         }
+        return true;
+    }
 
-        for (final Map.Entry<ResourceLocation, IQuestInstance> availableQuest : new ArrayList<>(availableQuests.entrySet()))
+    /**
+     * Delete all quests of a map which are no longer valid.
+     *
+     * @param quests the quests to check.
+     */
+    private void removeInvalidQuests(final Map<ResourceLocation, IQuestInstance> quests)
+    {
+        List<Map.Entry<ResourceLocation, IQuestInstance>> invalidQuests = null;
+        for (final Map.Entry<ResourceLocation, IQuestInstance> quest : quests.entrySet())
         {
-            if (!GLOBAL_SERVER_QUESTS.containsKey(availableQuest.getKey()) || !availableQuest.getValue().isValid(colony))
+            if (!GLOBAL_SERVER_QUESTS.containsKey(quest.getKey()) || !quest.getValue().isValid(colony))
             {
-                availableQuest.getValue().onDeletion();
-                this.availableQuests.remove(availableQuest.getKey());
+                if (invalidQuests == null)
+                {
+                    invalidQuests = new ArrayList<>();
+                }
+                invalidQuests.add(Map.entry(quest.getKey(), quest.getValue()));
             }
         }
 
-        for (final Map.Entry<ResourceLocation, IQuestInstance> inProgressQuest : new ArrayList<>(inProgressQuests.entrySet()))
+        if (invalidQuests != null)
         {
-            if (!GLOBAL_SERVER_QUESTS.containsKey(inProgressQuest.getKey()) || !inProgressQuest.getValue().isValid(colony))
+            for (final Map.Entry<ResourceLocation, IQuestInstance> quest : invalidQuests)
             {
-                inProgressQuest.getValue().onDeletion();
-                this.inProgressQuests.remove(inProgressQuest.getKey());
+                quest.getValue().onDeletion();
+                quests.remove(quest.getKey());
+                eligibilityIndex.onQuestChanged(quest.getKey(), this::isEligible);
             }
         }
     }
@@ -161,6 +196,7 @@ public class QuestManager implements IQuestManager
     {
         this.availableQuests.remove(questID);
         this.inProgressQuests.remove(questID);
+        eligibilityIndex.onQuestChanged(questID, this::isEligible);
     }
 
     @Override
@@ -182,6 +218,7 @@ public class QuestManager implements IQuestManager
     public void unlockQuest(final ResourceLocation questId)
     {
         this.unlockedQuests.add(questId);
+        eligibilityIndex.markTriggersDirty();
     }
 
     @Override
@@ -277,6 +314,7 @@ public class QuestManager implements IQuestManager
             this.unlockedQuests.add(new ResourceLocation(((CompoundTag) element).getString(TAG_ID)));
         }
         this.questReputation = nbt.getDouble(TAG_REPUTATION);
+        eligibilityIndex.invalidate();
     }
 
     @Override
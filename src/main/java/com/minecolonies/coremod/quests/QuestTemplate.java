@@ -30,6 +30,11 @@ public class QuestTemplate implements IQuestTemplate
      */
     private final Function<IColony, List<ITriggerReturnData<?>>> questTriggerList;
 
+    /**
+     * If any of the triggers is chance based.
+     */
+    private final boolean chanceBased;
+
     private final List<IQuestObjectiveTemplate> objectives;
 
     private final List<IQuestRewardTemplate> questRewards;
@@ -51,18 +56,20 @@ public class QuestTemplate implements IQuestTemplate
      * @param parents the parent quests.
      * @param maxOccurrence the max num of occurrences.
      * @param questTriggerList the list of triggers.
+     * @param chanceBased if any of the triggers is chance based.
      * @param questObjectives the quest objectives.
      * @param questTimeout the time until it times out.
      * @param questRewards its rewards
      */
     public QuestTemplate(final ResourceLocation questID, final Component name,
       final List<ResourceLocation> parents,
-      final int maxOccurrence, final Function<IColony, List<ITriggerReturnData<?>>> questTriggerList, final List<IQuestObjectiveTemplate> questObjectives, final int questTimeout, final List<IQuestRewardTemplate> questRewards)
+      final int maxOccurrence, final Function<IColony, List<ITriggerReturnData<?>>> questTriggerList, final boolean chanceBased, final List<IQuestObjectiveTemplate> questObjectives, final int questTimeout, final List<IQuestRewardTemplate> questRewards)
     {
         this.questID = questID;
         this.name = name;
         this.parents = parents;
         this.questTriggerList = questTriggerList;
+        this.chanceBased = chanceBased;
         this.maxOccurrence = maxOccurrence;
         this.objectives = questObjectives;
         this.questTimeout = questTimeout;
@@ -76,6 +83,12 @@ public class QuestTemplate implements IQuestTemplate
         return (triggerReturnData == null || triggerReturnData.isEmpty()) ? null : new QuestInstance(questID, colony, triggerReturnData);
     }
 
+    @Override
+    public boolean isChanceBased()
+    {
+        return chanceBased;
+    }
+
     @Override
     public int getQuestTimeout()
     {
@@ -40,4 +40,10 @@ public class RandomQuestTriggerTemplate implements IQuestTriggerTemplate
     {
         return new BooleanTriggerReturnData(oneInChance > 0 && colony.getWorld().random.nextInt(oneInChance) < 1);
     }
+
+    @Override
+    public boolean isChanceBased()
+    {
+        return true;
+    }
 }
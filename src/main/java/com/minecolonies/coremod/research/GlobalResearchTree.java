@@ -231,6 +231,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
         Network.getNetwork().sendToPlayer(new GlobalResearchTreeMessage(researchTreeFriendlyByteBuf), player);
     }
 
+    @Override
     public void serializeNetworkData(final FriendlyByteBuf buf)
     {
         buf.writeVarInt(researchTree.size());
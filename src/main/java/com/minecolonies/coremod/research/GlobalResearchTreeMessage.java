@@ -2,6 +2,7 @@ package com.minecolonies.coremod.research;
 
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.research.IGlobalResearchTree;
+import com.minecolonies.coremod.network.SyncDataCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.api.distmarker.Dist;
@@ -65,6 +66,7 @@ public class GlobalResearchTreeMessage implements IMessage
     {
         if (Minecraft.getInstance().level != null)
         {
+            SyncDataCache.storeReceived(SyncDataCache.Type.RESEARCH_TREE, treeBuffer);
             IGlobalResearchTree.getInstance().handleGlobalResearchTreeMessage(treeBuffer);
         }
         treeBuffer.release();
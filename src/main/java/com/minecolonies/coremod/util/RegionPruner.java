@@ -0,0 +1,746 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IChunkmanagerCapability;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.constant.Constants;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.storage.RegionFileVersion;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.storage.LevelResource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+import static com.minecolonies.coremod.MineColonies.CHUNK_STORAGE_UPDATE_CAP;
+
+/**
+ * Prunes the region files of a world down to the chunks claimed by colonies.
+ * The chunks which have to be kept on the server side (loaded colony chunks, pending claims, players, forced chunks, an optional margin around buildings) are collected
+ * once into a bitmap per region. The regions are then processed in parallel on a background executor, each one adds the chunks whose saved claim data names a colony
+ * and prunes the files of all region folders with the result.
+ * Regions without any protected chunk are deleted, with chunk level pruning the unprotected chunks of the remaining regions are dropped and the file is compacted.
+ * <p>
+ * The running server keeps region files open and writes chunks from its io workers at any time, so region files are only changed once the server stopped and closed
+ * all of them. Prunes are scheduled per dimension, their protected chunks are collected when the server starts stopping and the files are pruned after it stopped.
+ * Dry runs only read and can run at any time.
+ */
+public class RegionPruner
+{
+    /**
+     * Folders of a dimension holding region files.
+     */
+    private static final String[] REGION_FOLDERS = {"region", "entities", "poi"};
+
+    /**
+     * Region file layout.
+     */
+    private static final int    SECTOR_BYTES      = 4096;
+    private static final int    HEADER_SECTORS    = 2;
+    private static final int    REGION_SIZE       = 32;
+    private static final int    CHUNKS_PER_REGION = REGION_SIZE * REGION_SIZE;
+    private static final int    REGION_SHIFT      = 5;
+    private static final String REGION_SUFFIX     = ".mca";
+    private static final String EXTERNAL_SUFFIX   = ".mcc";
+
+    /**
+     * The folder holding the chunk data, its chunks carry the claim data.
+     */
+    private static final String CHUNK_FOLDER = "region";
+
+    /**
+     * Chunk data tags of the colony claim capability.
+     */
+    private static final String TAG_FORGE_CAPS       = "ForgeCaps";
+    private static final String TAG_CLAIM_CAPABILITY = Constants.MOD_ID + ":closecolony";
+
+    /**
+     * Only one prune may run at a time.
+     */
+    private static final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * Prunes scheduled for the next server stop, by dimension.
+     */
+    private static final Map<ResourceKey<Level>, RegionPruner> scheduled = new ConcurrentHashMap<>();
+
+    /**
+     * Scheduled prunes with their collected protection, by the dimension folder they prune.
+     */
+    private static final Map<Path, RegionPruner> prepared = new HashMap<>();
+
+    /**
+     * The prune which is running right now, if any.
+     */
+    @Nullable
+    private static volatile CompletableFuture<Result> active;
+
+    /**
+     * The additional protection margin around buildings in blocks, on top of their claims.
+     */
+    private final int blockRadius;
+
+    /**
+     * Protected chunks, one bit per chunk by region.
+     */
+    private final Long2ObjectOpenHashMap<BitSet> protectedChunks = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Whether unprotected chunks within partly protected regions are pruned too.
+     */
+    private final boolean chunkLevel;
+
+    /**
+     * Whether to only report what would be pruned.
+     */
+    private final boolean dryRun;
+
+    /**
+     * Create a new pruner.
+     *
+     * @param blockRadius the additional protection margin around buildings in blocks.
+     * @param chunkLevel  whether to prune chunks within partly protected regions.
+     * @param dryRun      whether to only report.
+     */
+    public RegionPruner(final int blockRadius, final boolean chunkLevel, final boolean dryRun)
+    {
+        this.blockRadius = blockRadius;
+        this.chunkLevel = chunkLevel;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Schedule pruning the region files of a dimension once the server stops, replaces an earlier schedule of the dimension.
+     *
+     * @param dimension   the dimension.
+     * @param blockRadius the additional protection margin around buildings in blocks.
+     * @param chunkLevel  whether to prune chunks within partly protected regions.
+     */
+    public static void schedule(@NotNull final ResourceKey<Level> dimension, final int blockRadius, final boolean chunkLevel)
+    {
+        scheduled.put(dimension, new RegionPruner(blockRadius, chunkLevel, false));
+    }
+
+    /**
+     * Collect the protected chunks of the scheduled prunes, called when the server starts stopping while colonies and levels are still loaded.
+     *
+     * @param server the stopping server.
+     */
+    public static void onServerStopping(@NotNull final MinecraftServer server)
+    {
+        for (final Map.Entry<ResourceKey<Level>, RegionPruner> entry : scheduled.entrySet())
+        {
+            final ServerLevel world = server.getLevel(entry.getKey());
+            if (world != null)
+            {
+                entry.getValue().protectWorld(world, IColonyManager.getInstance().getColonies(world));
+                prepared.put(DimensionType.getStorageFolder(world.dimension(), server.getWorldPath(LevelResource.ROOT)), entry.getValue());
+            }
+        }
+        scheduled.clear();
+    }
+
+    /**
+     * Run the prepared prunes, called after the server stopped and closed all region files. Blocks until they are done.
+     */
+    public static void onServerStopped()
+    {
+        final CompletableFuture<Result> dryRun = active;
+        if (!prepared.isEmpty() && dryRun != null && !dryRun.isDone())
+        {
+            Log.getLogger().info("Waiting for the running region dry run to finish before pruning the region files");
+            dryRun.join();
+        }
+
+        for (final Map.Entry<Path, RegionPruner> entry : prepared.entrySet())
+        {
+            final CompletableFuture<Result> result = entry.getValue().pruneAsync(entry.getKey());
+            if (result == null)
+            {
+                Log.getLogger().warn("Skipped pruning the region files of " + entry.getKey() + ", another prune is still running");
+                continue;
+            }
+            Log.getLogger().info("Region files of " + entry.getKey() + ": " + result.join());
+        }
+        prepared.clear();
+    }
+
+    /**
+     * Check if a prune is running right now.
+     *
+     * @return true if so.
+     */
+    public static boolean isRunning()
+    {
+        return running.get();
+    }
+
+    /**
+     * Protect the chunks the saved claim data doesn't cover yet: the loaded colony chunks (their claims may not be saved yet), claims pending for unloaded chunks,
+     * the margin around buildings and the chunks players and forced chunks keep loaded. The saved claims are read from the region files while pruning.
+     * Has to be called on the server thread.
+     *
+     * @param world    the world.
+     * @param colonies the colonies of the world.
+     */
+    public void protectWorld(@NotNull final ServerLevel world, @NotNull final List<IColony> colonies)
+    {
+        for (final IColony colony : colonies)
+        {
+            if (blockRadius > 0)
+            {
+                for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+                {
+                    final BlockPos pos = building.getPosition();
+                    protectArea(SectionPos.blockToSectionCoord(pos.getX() - blockRadius),
+                      SectionPos.blockToSectionCoord(pos.getZ() - blockRadius),
+                      SectionPos.blockToSectionCoord(pos.getX() + blockRadius),
+                      SectionPos.blockToSectionCoord(pos.getZ() + blockRadius));
+                }
+            }
+
+            for (final long chunk : colony.getLoadedChunks())
+            {
+                protectArea(ChunkPos.getX(chunk), ChunkPos.getZ(chunk), ChunkPos.getX(chunk), ChunkPos.getZ(chunk));
+            }
+        }
+
+        final IChunkmanagerCapability chunkManager = world.getCapability(CHUNK_STORAGE_UPDATE_CAP, null).resolve().orElse(null);
+        if (chunkManager != null)
+        {
+            for (final ChunkPos pos : chunkManager.getAllChunkStorages().keySet())
+            {
+                protectArea(pos.x, pos.z, pos.x, pos.z);
+            }
+        }
+
+        // Chunks around players and chunks kept loaded on purpose.
+        final int viewDistance = world.getServer().getPlayerList().getViewDistance() + 1;
+        for (final ServerPlayer player : world.players())
+        {
+            final ChunkPos pos = player.chunkPosition();
+            protectArea(pos.x - viewDistance, pos.z - viewDistance, pos.x + viewDistance, pos.z + viewDistance);
+        }
+
+        for (final long chunk : world.getForcedChunks())
+        {
+            protectArea(ChunkPos.getX(chunk), ChunkPos.getZ(chunk), ChunkPos.getX(chunk), ChunkPos.getZ(chunk));
+        }
+    }
+
+    /**
+     * Protect an area of chunks.
+     *
+     * @param minChunkX min chunk x.
+     * @param minChunkZ min chunk z.
+     * @param maxChunkX max chunk x.
+     * @param maxChunkZ max chunk z.
+     */
+    public void protectArea(final int minChunkX, final int minChunkZ, final int maxChunkX, final int maxChunkZ)
+    {
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+        {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+            {
+                protectedChunks.computeIfAbsent(ChunkPos.asLong(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT), key -> new BitSet(CHUNKS_PER_REGION))
+                  .set(chunkIndex(chunkX, chunkZ));
+            }
+        }
+    }
+
+    /**
+     * Prune the region files of a dimension on a background executor.
+     *
+     * @param dimensionFolder the save folder of the dimension.
+     * @return the future result, null if another prune is already running.
+     */
+    public CompletableFuture<Result> pruneAsync(@NotNull final Path dimensionFolder)
+    {
+        if (!running.compareAndSet(false, true))
+        {
+            return null;
+        }
+
+        final AtomicInteger workerId = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+            final Thread thread = new Thread(runnable, "Minecolonies Region Pruning Worker #" + workerId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final Result result = new Result(dryRun);
+        final CompletableFuture<Result> future = CompletableFuture.supplyAsync(() -> listRegions(dimensionFolder, result), executor)
+                 .thenCompose(regions -> CompletableFuture.allOf(regions.stream()
+                                                                   .map(region -> CompletableFuture.runAsync(() -> pruneRegion(dimensionFolder, region, result), executor))
+                                                                   .toArray(CompletableFuture[]::new)))
+                 .handle((ignored, throwable) -> {
+                     if (throwable != null)
+                     {
+                         Log.getLogger().warn("Region pruning failed", throwable);
+                         result.failures.incrementAndGet();
+                     }
+                     executor.shutdown();
+                     active = null;
+                     running.set(false);
+                     return result;
+                 });
+        active = future;
+        return future;
+    }
+
+    /**
+     * List the regions which have a file in any region folder of a dimension.
+     *
+     * @param dimensionFolder the save folder of the dimension.
+     * @param result          the result to record failures to.
+     * @return the regions, as chunk position longs of the region coordinates.
+     */
+    private static Set<Long> listRegions(final Path dimensionFolder, final Result result)
+    {
+        final Set<Long> regions = new HashSet<>();
+        for (final String folder : REGION_FOLDERS)
+        {
+            final Path regionFolder = dimensionFolder.resolve(folder);
+            if (!Files.isDirectory(regionFolder))
+            {
+                continue;
+            }
+
+            try (final Stream<Path> files = Files.list(regionFolder))
+            {
+                files.forEach(file -> {
+                    final String[] split = file.getFileName().toString().split("\\.");
+                    if (split.length != 4 || !file.getFileName().toString().endsWith(REGION_SUFFIX))
+                    {
+                        return;
+                    }
+
+                    try
+                    {
+                        regions.add(ChunkPos.asLong(Integer.parseInt(split[1]), Integer.parseInt(split[2])));
+                    }
+                    catch (final NumberFormatException e)
+                    {
+                        // Not a region file.
+                    }
+                });
+            }
+            catch (final IOException e)
+            {
+                Log.getLogger().warn("Could not list region files of " + regionFolder, e);
+                result.failures.incrementAndGet();
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Prune the files of a region in all region folders.
+     *
+     * @param dimensionFolder the save folder of the dimension.
+     * @param region          the region, as chunk position long of the region coordinates.
+     * @param result          the result to record to.
+     */
+    private void pruneRegion(final Path dimensionFolder, final long region, final Result result)
+    {
+        final int regionX = ChunkPos.getX(region);
+        final int regionZ = ChunkPos.getZ(region);
+        final String fileName = "r." + regionX + "." + regionZ + REGION_SUFFIX;
+        final BitSet protectedInRegion = new BitSet(CHUNKS_PER_REGION);
+        final BitSet preset = protectedChunks.get(region);
+        if (preset != null)
+        {
+            protectedInRegion.or(preset);
+        }
+
+        final Path chunkFile = dimensionFolder.resolve(CHUNK_FOLDER).resolve(fileName);
+        try
+        {
+            protectClaimedChunks(chunkFile, regionX, regionZ, protectedInRegion);
+        }
+        catch (final IOException e)
+        {
+            // Without the claims we can't tell what to keep, leave the region alone.
+            Log.getLogger().warn("Could not read the claims of region file " + chunkFile + ", skipping the region", e);
+            result.failures.incrementAndGet();
+            return;
+        }
+
+        for (final String folder : REGION_FOLDERS)
+        {
+            final Path file = dimensionFolder.resolve(folder).resolve(fileName);
+            if (!Files.exists(file))
+            {
+                continue;
+            }
+
+            try
+            {
+                if (protectedInRegion.isEmpty())
+                {
+                    final long size = Files.size(file);
+                    if (!dryRun)
+                    {
+                        Files.delete(file);
+                    }
+                    result.regions.incrementAndGet();
+                    result.bytes.addAndGet(size);
+                }
+                else if (chunkLevel && protectedInRegion.cardinality() < CHUNKS_PER_REGION)
+                {
+                    pruneChunks(file, regionX, regionZ, protectedInRegion, result);
+                }
+            }
+            catch (final IOException e)
+            {
+                Log.getLogger().warn("Could not prune region file " + file, e);
+                result.failures.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Protect the chunks of a region whose saved claim data names a colony.
+     * Without chunk level pruning the region is kept as a whole, so reading stops at the first protected chunk.
+     *
+     * @param file              the chunk region file.
+     * @param regionX           the region x.
+     * @param regionZ           the region z.
+     * @param protectedInRegion the protected chunks of the region, extended by the claimed ones.
+     * @throws IOException if reading fails.
+     */
+    private void protectClaimedChunks(final Path file, final int regionX, final int regionZ, final BitSet protectedInRegion) throws IOException
+    {
+        if (!Files.exists(file))
+        {
+            return;
+        }
+
+        try (final FileChannel in = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            final ByteBuffer header = ByteBuffer.allocate(SECTOR_BYTES);
+            readFully(in, header, 0);
+            for (int index = 0; index < CHUNKS_PER_REGION; index++)
+            {
+                if (!chunkLevel && !protectedInRegion.isEmpty())
+                {
+                    return;
+                }
+
+                final int location = header.getInt(index * 4);
+                if (location == 0 || protectedInRegion.get(index))
+                {
+                    continue;
+                }
+
+                if (isClaimed(readChunk(in, file, location, regionX, regionZ, index)))
+                {
+                    protectedInRegion.set(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the data of a chunk from its region file, or from its external file for oversized chunks.
+     *
+     * @param in       the region file.
+     * @param file     the region file path.
+     * @param location the location entry of the chunk.
+     * @param regionX  the region x.
+     * @param regionZ  the region z.
+     * @param index    the index of the chunk within the region.
+     * @return the chunk data.
+     * @throws IOException if reading fails or the data is malformed.
+     */
+    private static CompoundTag readChunk(final FileChannel in, final Path file, final int location, final int regionX, final int regionZ, final int index) throws IOException
+    {
+        final long start = (long) (location >>> 8) * SECTOR_BYTES;
+        final ByteBuffer chunkHeader = ByteBuffer.allocate(5);
+        readFully(in, chunkHeader, start);
+        final int length = chunkHeader.getInt(0);
+        final byte type = chunkHeader.get(4);
+        final RegionFileVersion version = RegionFileVersion.fromId(type & 0x7F);
+        if (version == null)
+        {
+            throw new IOException("Unknown compression " + type + " of chunk " + index + " in " + file);
+        }
+
+        final InputStream raw;
+        if ((type & 0x80) != 0)
+        {
+            raw = Files.newInputStream(externalFile(file, regionX, regionZ, index));
+        }
+        else
+        {
+            if (length <= 1 || length - 1 > (location & 0xFF) * SECTOR_BYTES)
+            {
+                throw new IOException("Invalid length " + length + " of chunk " + index + " in " + file);
+            }
+            final ByteBuffer data = ByteBuffer.allocate(length - 1);
+            readFully(in, data, start + 5);
+            raw = new ByteArrayInputStream(data.array());
+        }
+
+        try (final DataInputStream stream = new DataInputStream(new BufferedInputStream(version.wrap(raw))))
+        {
+            return NbtIo.read(stream);
+        }
+    }
+
+    /**
+     * Check the saved claim capability of a chunk.
+     *
+     * @param chunk the chunk data.
+     * @return true if a colony owns or claims the chunk, statically or through a building.
+     */
+    private static boolean isClaimed(final CompoundTag chunk)
+    {
+        final CompoundTag claims = chunk.getCompound(TAG_FORGE_CAPS).getCompound(TAG_CLAIM_CAPABILITY);
+        return claims.getInt(TAG_ID) != 0
+                 || !claims.getList(TAG_COLONIES, Tag.TAG_COMPOUND).isEmpty()
+                 || !claims.getList(TAG_BUILDINGS_CLAIM, Tag.TAG_COMPOUND).isEmpty();
+    }
+
+    /**
+     * Fill a buffer from a file position.
+     *
+     * @param in       the file.
+     * @param buffer   the buffer.
+     * @param position the position.
+     * @throws IOException if the file ends early.
+     */
+    private static void readFully(final FileChannel in, final ByteBuffer buffer, final long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            if (in.read(buffer, position + buffer.position()) < 0)
+            {
+                throw new EOFException("Truncated region file");
+            }
+        }
+    }
+
+    /**
+     * Get the external file of an oversized chunk.
+     *
+     * @param file    the region file.
+     * @param regionX the region x.
+     * @param regionZ the region z.
+     * @param index   the index of the chunk within the region.
+     * @return the path of the external file.
+     */
+    private static Path externalFile(final Path file, final int regionX, final int regionZ, final int index)
+    {
+        return file.resolveSibling("c." + ((regionX << REGION_SHIFT) + (index & (REGION_SIZE - 1))) + "." + ((regionZ << REGION_SHIFT) + (index >> REGION_SHIFT)) + EXTERNAL_SUFFIX);
+    }
+
+    /**
+     * Drop the unprotected chunks of a region file and compact it, the protected chunks keep their data and timestamps.
+     *
+     * @param file              the region file.
+     * @param regionX           the region x.
+     * @param regionZ           the region z.
+     * @param protectedInRegion the protected chunks of the region.
+     * @param result            the result to record to.
+     * @throws IOException if reading or writing fails.
+     */
+    private void pruneChunks(final Path file, final int regionX, final int regionZ, final BitSet protectedInRegion, final Result result) throws IOException
+    {
+        final Path compacted = file.resolveSibling(file.getFileName() + ".prune");
+        try (final FileChannel in = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            final ByteBuffer header = ByteBuffer.allocate(SECTOR_BYTES * HEADER_SECTORS);
+            while (header.hasRemaining())
+            {
+                if (in.read(header) < 0)
+                {
+                    // Truncated file, leave it to the game.
+                    return;
+                }
+            }
+
+            int prunedChunks = 0;
+            long keptSectors = HEADER_SECTORS;
+            long externalBytes = 0;
+            final List<Path> externalFiles = new ArrayList<>();
+            for (int index = 0; index < CHUNKS_PER_REGION; index++)
+            {
+                final int location = header.getInt(index * 4);
+                if (location == 0)
+                {
+                    continue;
+                }
+
+                if (protectedInRegion.get(index))
+                {
+                    keptSectors += location & 0xFF;
+                    continue;
+                }
+
+                prunedChunks++;
+                final Path external = externalFile(file, regionX, regionZ, index);
+                if (Files.exists(external))
+                {
+                    externalBytes += Files.size(external);
+                    externalFiles.add(external);
+                }
+            }
+
+            if (prunedChunks == 0)
+            {
+                return;
+            }
+
+            result.chunks.addAndGet(prunedChunks);
+            result.bytes.addAndGet(Math.max(0, in.size() - keptSectors * SECTOR_BYTES) + externalBytes);
+            if (dryRun)
+            {
+                return;
+            }
+
+            try (final FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+            {
+                final ByteBuffer newHeader = ByteBuffer.allocate(SECTOR_BYTES * HEADER_SECTORS);
+                int sector = HEADER_SECTORS;
+                for (int index = 0; index < CHUNKS_PER_REGION; index++)
+                {
+                    final int location = header.getInt(index * 4);
+                    if (location == 0 || !protectedInRegion.get(index))
+                    {
+                        continue;
+                    }
+
+                    final int sectorCount = location & 0xFF;
+                    final long start = (long) (location >>> 8) * SECTOR_BYTES;
+                    final long length = (long) sectorCount * SECTOR_BYTES;
+                    long copied = 0;
+                    out.position((long) sector * SECTOR_BYTES);
+                    while (copied < length)
+                    {
+                        final long transferred = in.transferTo(start + copied, length - copied, out);
+                        if (transferred <= 0)
+                        {
+                            throw new EOFException("Chunk " + index + " ends after " + copied + " of " + length + " bytes");
+                        }
+                        copied += transferred;
+                    }
+
+                    newHeader.putInt(index * 4, (sector << 8) | sectorCount);
+                    newHeader.putInt(SECTOR_BYTES + index * 4, header.getInt(SECTOR_BYTES + index * 4));
+                    sector += sectorCount;
+                }
+
+                newHeader.rewind();
+                while (newHeader.hasRemaining())
+                {
+                    out.write(newHeader, newHeader.position());
+                }
+            }
+            catch (final IOException e)
+            {
+                // Abort this file, the original stays untouched.
+                Files.deleteIfExists(compacted);
+                throw e;
+            }
+
+            for (final Path external : externalFiles)
+            {
+                Files.deleteIfExists(external);
+            }
+        }
+
+        try
+        {
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Get the index of a chunk within its region.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the index.
+     */
+    private static int chunkIndex(final int chunkX, final int chunkZ)
+    {
+        return (chunkX & (REGION_SIZE - 1)) + (chunkZ & (REGION_SIZE - 1)) * REGION_SIZE;
+    }
+
+    /**
+     * Result of a prune.
+     */
+    public static class Result
+    {
+        private final boolean       dryRun;
+        private final AtomicInteger regions  = new AtomicInteger();
+        private final AtomicInteger chunks   = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicLong    bytes    = new AtomicLong();
+
+        private Result(final boolean dryRun)
+        {
+            this.dryRun = dryRun;
+        }
+
+        public int getRegions()
+        {
+            return regions.get();
+        }
+
+        public int getChunks()
+        {
+            return chunks.get();
+        }
+
+        public int getFailures()
+        {
+            return failures.get();
+        }
+
+        public long getMegabytes()
+        {
+            return bytes.get() / (1024 * 1024);
+        }
+
+        @Override
+        public String toString()
+        {
+            return (dryRun ? "Dry run, would prune " : "Pruned ") + regions.get() + " region files and " + chunks.get() + " chunks, reclaiming " + (bytes.get() / (1024 * 1024))
+                     + " MB. Failures: " + failures.get();
+        }
+    }
+}
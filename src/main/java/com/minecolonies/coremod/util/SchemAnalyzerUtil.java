@@ -5,9 +5,9 @@ import com.ldtteam.structurize.api.util.ItemStorage;
 import com.ldtteam.structurize.blocks.schematic.BlockSolidSubstitution;
 import com.ldtteam.structurize.blocks.schematic.BlockSubstitution;
 import com.ldtteam.structurize.blueprints.v1.Blueprint;
-import com.ldtteam.structurize.util.BlockInfo;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.items.ModTags;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.Block;
@@ -121,6 +121,7 @@ public class SchemAnalyzerUtil
 
     /**
      * Analyzes the given blueprint, calculating statistics like block cost, included buildings etc.
+     * Works on the palette and block array of the blueprint, blocks are counted per palette entry and each entry is scored once.
      *
      * @param blueprint
      * @return
@@ -131,58 +132,71 @@ public class SchemAnalyzerUtil
         int containedBuildings = 0;
         Map<ItemStorage, ItemStorage> blocks = new HashMap<>();
 
-        for (final BlockInfo blockInfo : blueprint.getBlockInfoAsList())
-        {
-            if (isExcludedBlock(blockInfo.getState()))
-            {
-                continue;
-            }
+        final BlockState[] palette = blueprint.getPalette();
+        final short[][][] structure = blueprint.getStructure();
+        final CompoundTag[][][] tileEntities = blueprint.getTileEntities();
+        final int[] paletteCounts = new int[palette.length];
 
-            final Block block = blockInfo.getState().getBlock();
-            final ItemStorage storage;
-            double blockComplexity = 0;
-
-            if (DomumOrnamentumUtils.isDoBlock(block) && blockInfo.hasTileEntityData())
+        for (int y = 0; y < blueprint.getSizeY(); y++)
+        {
+            for (int z = 0; z < blueprint.getSizeZ(); z++)
             {
-                final MaterialTextureData textureData = DomumOrnamentumUtils.getTextureDataFromNBT(blockInfo.getTileEntityData());
-                final ItemStack result = new ItemStack(block);
-                if (textureData != null)
+                for (int x = 0; x < blueprint.getSizeX(); x++)
                 {
-                    double doComplexity = 0;
-                    for (final Block doBlockPart : textureData.getTexturedComponents().values())
+                    final int paletteIndex = structure[y][z][x] & 0xFFFF;
+                    final BlockState state = palette[paletteIndex];
+                    if (isExcludedBlock(state))
                     {
-                        doComplexity += getScoreFor(doBlockPart);
+                        continue;
                     }
 
-                    // Estimate for do recipes giving higher output per block usually, increased minimum of 2 due to added complexity for crafting
-                    blockComplexity = Math.max(2, doComplexity / 3);
+                    final Block block = state.getBlock();
+                    final CompoundTag tileEntityData = tileEntities[y][z][x];
+                    if (!DomumOrnamentumUtils.isDoBlock(block) || tileEntityData == null)
+                    {
+                        paletteCounts[paletteIndex]++;
+                        continue;
+                    }
 
-                    result.getOrCreateTag().put(DO_NBT_TEXTURE_DATA, blockInfo.getTileEntityData().getCompound(DO_NBT_TEXTURE_DATA));
-                }
+                    final MaterialTextureData textureData = DomumOrnamentumUtils.getTextureDataFromNBT(tileEntityData);
+                    final ItemStack result = new ItemStack(block);
+                    double blockComplexity = 0;
+                    if (textureData != null)
+                    {
+                        double doComplexity = 0;
+                        for (final Block doBlockPart : textureData.getTexturedComponents().values())
+                        {
+                            doComplexity += getScoreFor(doBlockPart);
+                        }
 
-                storage = new ItemStorage(result);
-            }
-            else
-            {
-                blockComplexity = getScoreFor(block);
-                storage = new ItemStorage(block.asItem().getDefaultInstance());
-            }
+                        // Estimate for do recipes giving higher output per block usually, increased minimum of 2 due to added complexity for crafting
+                        blockComplexity = Math.max(2, doComplexity / 3);
 
-            complexityScore += blockComplexity;
+                        result.getOrCreateTag().put(DO_NBT_TEXTURE_DATA, tileEntityData.getCompound(DO_NBT_TEXTURE_DATA));
+                    }
 
-            storage.setAmount(0);
-            storage.getItemStack().setCount((int) Math.max(1, blockComplexity));
-            ItemStorage contained = blocks.get(storage);
-            if (contained == null)
+                    complexityScore += blockComplexity;
+                    addBlock(blocks, new ItemStorage(result), blockComplexity, 1);
+                }
+            }
+        }
+
+        for (int paletteIndex = 0; paletteIndex < palette.length; paletteIndex++)
+        {
+            final int count = paletteCounts[paletteIndex];
+            if (count == 0)
             {
-                contained = storage;
-                blocks.put(contained, contained);
+                continue;
             }
-            contained.setAmount(contained.getAmount() + 1);
+
+            final Block block = palette[paletteIndex].getBlock();
+            final double blockComplexity = getScoreFor(block);
+            complexityScore += blockComplexity * count;
+            addBlock(blocks, new ItemStorage(block.asItem().getDefaultInstance()), blockComplexity, count);
 
             if (block instanceof AbstractBlockHut)
             {
-                containedBuildings++;
+                containedBuildings += count;
             }
         }
 
@@ -198,6 +212,27 @@ public class SchemAnalyzerUtil
         return new SchematicAnalyzationResult((int) complexityScore, blocks.keySet(), containedBuildings, blueprint);
     }
 
+    /**
+     * Add blocks to the unique block map.
+     *
+     * @param blocks          the unique blocks.
+     * @param storage         the storage of the block.
+     * @param blockComplexity the complexity of the block, stored as stack size.
+     * @param count           the amount of blocks.
+     */
+    private static void addBlock(final Map<ItemStorage, ItemStorage> blocks, final ItemStorage storage, final double blockComplexity, final int count)
+    {
+        storage.setAmount(0);
+        storage.getItemStack().setCount((int) Math.max(1, blockComplexity));
+        ItemStorage contained = blocks.get(storage);
+        if (contained == null)
+        {
+            contained = storage;
+            blocks.put(contained, contained);
+        }
+        contained.setAmount(contained.getAmount() + count);
+    }
+
     /**
      * Excludes certain blocks
      *
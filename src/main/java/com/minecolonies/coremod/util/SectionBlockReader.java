@@ -0,0 +1,183 @@
+package com.minecolonies.coremod.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Bulk reader for the block states of an area.
+ * Copies the palette backed data of every chunk section touching the area once, instead of looking up each position through the world.
+ * The copies are snapshots, they don't reflect later changes and can be read from any thread.
+ */
+public class SectionBlockReader
+{
+    /**
+     * The area which was read.
+     */
+    private final BoundingBox box;
+
+    /**
+     * Section coordinates of the min corner and amount of sections per axis.
+     */
+    private final int minSectionX;
+    private final int minSectionY;
+    private final int minSectionZ;
+    private final int sectionsX;
+    private final int sectionsY;
+    private final int sectionsZ;
+
+    /**
+     * The section copies, null for sections which contain only air or are outside the world height.
+     */
+    private final PalettedContainer<BlockState>[] sections;
+
+    /**
+     * Create a new reader, see {@link #read(Level, BoundingBox)}.
+     *
+     * @param box the area.
+     */
+    @SuppressWarnings("unchecked")
+    private SectionBlockReader(final BoundingBox box)
+    {
+        this.box = box;
+        this.minSectionX = SectionPos.blockToSectionCoord(box.minX());
+        this.minSectionY = SectionPos.blockToSectionCoord(box.minY());
+        this.minSectionZ = SectionPos.blockToSectionCoord(box.minZ());
+        this.sectionsX = SectionPos.blockToSectionCoord(box.maxX()) - minSectionX + 1;
+        this.sectionsY = SectionPos.blockToSectionCoord(box.maxY()) - minSectionY + 1;
+        this.sectionsZ = SectionPos.blockToSectionCoord(box.maxZ()) - minSectionZ + 1;
+        this.sections = new PalettedContainer[sectionsX * sectionsY * sectionsZ];
+    }
+
+    /**
+     * Copy the section data of an area. Has to be called on the thread owning the world.
+     *
+     * @param world the world to read from.
+     * @param box   the area to read.
+     * @return the reader.
+     */
+    public static SectionBlockReader read(@NotNull final Level world, @NotNull final BoundingBox box)
+    {
+        final SectionBlockReader reader = new SectionBlockReader(box);
+        for (int sx = 0; sx < reader.sectionsX; sx++)
+        {
+            for (int sz = 0; sz < reader.sectionsZ; sz++)
+            {
+                final LevelChunk chunk = world.getChunk(reader.minSectionX + sx, reader.minSectionZ + sz);
+                for (int sy = 0; sy < reader.sectionsY; sy++)
+                {
+                    final int index = chunk.getSectionIndexFromSectionY(reader.minSectionY + sy);
+                    if (index < 0 || index >= chunk.getSectionsCount())
+                    {
+                        continue;
+                    }
+
+                    final LevelChunkSection section = chunk.getSection(index);
+                    if (!section.hasOnlyAir())
+                    {
+                        reader.sections[reader.sectionIndex(sx, sy, sz)] = section.getStates().copy();
+                    }
+                }
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Get the area which was read.
+     *
+     * @return the bounding box.
+     */
+    public BoundingBox getBox()
+    {
+        return box;
+    }
+
+    /**
+     * Get the block state at a position within the area.
+     *
+     * @param x the world x coordinate.
+     * @param y the world y coordinate.
+     * @param z the world z coordinate.
+     * @return the state, air for positions in empty sections.
+     */
+    public BlockState getBlockState(final int x, final int y, final int z)
+    {
+        final PalettedContainer<BlockState> section = sections[sectionIndex(
+          SectionPos.blockToSectionCoord(x) - minSectionX,
+          SectionPos.blockToSectionCoord(y) - minSectionY,
+          SectionPos.blockToSectionCoord(z) - minSectionZ)];
+        if (section == null)
+        {
+            return Blocks.AIR.defaultBlockState();
+        }
+        return section.get(SectionPos.sectionRelative(x), SectionPos.sectionRelative(y), SectionPos.sectionRelative(z));
+    }
+
+    /**
+     * Visit all positions within the area whose state matches a filter.
+     * Sections whose palette can't contain a matching state are skipped without looking at their positions.
+     *
+     * @param filter   the state filter.
+     * @param consumer the consumer, receives a mutable position which must be copied to be kept.
+     */
+    public void forEachMatching(@NotNull final Predicate<BlockState> filter, @NotNull final BiConsumer<BlockPos, BlockState> consumer)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int sx = 0; sx < sectionsX; sx++)
+        {
+            for (int sy = 0; sy < sectionsY; sy++)
+            {
+                for (int sz = 0; sz < sectionsZ; sz++)
+                {
+                    final PalettedContainer<BlockState> section = sections[sectionIndex(sx, sy, sz)];
+                    if (section == null || !section.maybeHas(filter))
+                    {
+                        continue;
+                    }
+
+                    final int baseX = SectionPos.sectionToBlockCoord(minSectionX + sx);
+                    final int baseY = SectionPos.sectionToBlockCoord(minSectionY + sy);
+                    final int baseZ = SectionPos.sectionToBlockCoord(minSectionZ + sz);
+                    for (int y = Math.max(baseY, box.minY()); y <= Math.min(baseY + SectionPos.SECTION_MAX_INDEX, box.maxY()); y++)
+                    {
+                        for (int z = Math.max(baseZ, box.minZ()); z <= Math.min(baseZ + SectionPos.SECTION_MAX_INDEX, box.maxZ()); z++)
+                        {
+                            for (int x = Math.max(baseX, box.minX()); x <= Math.min(baseX + SectionPos.SECTION_MAX_INDEX, box.maxX()); x++)
+                            {
+                                final BlockState state = section.get(x - baseX, y - baseY, z - baseZ);
+                                if (filter.test(state))
+                                {
+                                    consumer.accept(pos.set(x, y, z), state);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the array index of a section.
+     *
+     * @param sx the relative section x.
+     * @param sy the relative section y.
+     * @param sz the relative section z.
+     * @return the index.
+     */
+    private int sectionIndex(final int sx, final int sy, final int sz)
+    {
+        return (sy * sectionsZ + sz) * sectionsX + sx;
+    }
+}